@@ -27,9 +27,23 @@ public @interface RateLimit {
      */
     LimitScope scope() default LimitScope.IP;
 
+    /**
+     * 카운터 공유 범위
+     * NODE: 노드별 카운터 (chatapp.rate-limit.store 구현, I/O 없음)
+     * CLUSTER: 전체 노드가 Redis 카운터 공유 (로그인/가입 남용 방지 등)
+     * LEASED: Redis 에서 임대한 토큰을 로컬에서 차감 (클러스터 오차는 노드당 lease 크기 이내)
+     */
+    Distribution distribution() default Distribution.NODE;
+
     enum LimitScope {
         IP,
         USER,
         IP_AND_USER
     }
+
+    enum Distribution {
+        NODE,
+        CLUSTER,
+        LEASED
+    }
 }
@@ -0,0 +1,75 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.util.BoundedTtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증이 끝난 JWT 캐시
+ * 같은 토큰에 대해 Base64 디코딩, HMAC 서명 검증, validator 실행을 반복하지 않도록
+ * 토큰의 SHA-256 해시를 키로 디코딩 결과를 exp 시각까지 보관한다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final BoundedTtlCache<String, Jwt> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxEntries, MeterRegistry meterRegistry) {
+        this(delegate, maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxEntries, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.cache = new BoundedTtlCache<>(maxEntries, () -> clock.instant().toEpochMilli());
+        this.hitCounter = Counter.builder("jwt.decode.cache")
+                .description("Verified JWT cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.decode.cache")
+                .description("Verified JWT cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.decode.cache.size", cache, BoundedTtlCache::size)
+                .description("Verified JWTs held in the cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            // exp 시각이 지나면 캐시에서 꺼내지 않는다
+            cache.put(key, jwt, jwt.getExpiresAt().toEpochMilli());
+        }
+        return jwt;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.config;
 
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.nio.charset.StandardCharsets;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -36,9 +37,12 @@ public class JwtConfig {
     /**
      * NimbusJwtDecoder 빈 생성
      * Spring Security 6의 표준 JWT 디코더 사용
+     * 리소스 서버와 JwtService가 함께 사용하므로 검증 결과를 캐시해 토큰당 한 번만 검증한다.
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.jwt.decode-cache.max-entries:100000}") int maxEntries) {
         SecretKeySpec secretKey = new SecretKeySpec(
             jwtSecret.getBytes(StandardCharsets.UTF_8),
             "HmacSHA256"
@@ -55,7 +59,7 @@ public class JwtConfig {
         // 기본 검증기와 커스텀 검증기를 조합
         decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(defaultValidators, validator));
 
-        return decoder;
+        return new CachingJwtDecoder(decoder, maxEntries, meterRegistry);
     }
 
     /**
@@ -6,6 +6,7 @@ import com.ktb.chatapp.dto.ApiErrorCode;
 import com.ktb.chatapp.dto.StandardResponse;
 import com.ktb.chatapp.service.RateLimitCheckResult;
 import com.ktb.chatapp.service.RateLimitService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -31,6 +32,10 @@ public class RateLimitInterceptor implements HandlerInterceptor {
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
             throws Exception {
+        // StreamingResponseBody 등 비동기 핸들러는 ASYNC 로 재디스패치되며, 토큰은 최초 요청에서 이미 차감됐다
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
         if (!(handler instanceof HandlerMethod handlerMethod)) {
             return true;
         }
@@ -44,7 +49,8 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         Duration window = Duration.ofSeconds(rateLimit.windowSeconds());
         String clientId = generateClientId(request, rateLimit.scope());
 
-        RateLimitCheckResult result = rateLimitService.checkRateLimit(clientId, maxRequests, window);
+        RateLimitCheckResult result = rateLimitService.checkRateLimit(
+                clientId, maxRequests, window, rateLimit.distribution());
         applyRateLimitHeaders(response, result);
 
         if (result.allowed()) {
@@ -0,0 +1,14 @@
+package com.ktb.chatapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size 로 정한다. 읽음 tick 처럼 짧은 주기의 작업이
+ * compaction 등 오래 걸리는 작업 뒤에서 밀리지 않도록 여러 스레드를 둔다.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -1,13 +1,14 @@
 package com.ktb.chatapp.config;
 
+import com.corundumstudio.socketio.AckMode;
 import com.corundumstudio.socketio.AuthTokenListener;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
 import com.corundumstudio.socketio.namespace.Namespace;
 import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
-import com.corundumstudio.socketio.store.RedissonStoreFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ktb.chatapp.websocket.socketio.ChatDataStore;
+import com.ktb.chatapp.websocket.socketio.HybridStoreFactory;
 import com.ktb.chatapp.websocket.socketio.RedisChatDataStore;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.Redisson;
@@ -68,8 +69,12 @@ public class SocketIOConfig {
         config.setPingInterval(25000);
         config.setUpgradeTimeout(10000);
 
+        // 이벤트는 RoomEventExecutor lane에서 비동기로 처리되므로 ack는 처리 완료 후 직접 보낸다
+        config.setAckMode(AckMode.MANUAL);
+
         config.setJsonSupport(new JacksonJsonSupport(new JavaTimeModule()));
-        config.setStoreFactory(new RedissonStoreFactory(redissonClient)); // Redis 기반으로 세션/룸 공유
+        // 연결별 속성은 로컬 메모리, 룸 브로드캐스트는 Redis pub/sub으로 노드 간 공유
+        config.setStoreFactory(new HybridStoreFactory(redissonClient));
 
         log.info("Socket.IO server configured on {}:{} with {} boss threads and {} worker threads",
                  host, port, config.getBossThreads(), config.getWorkerThreads());
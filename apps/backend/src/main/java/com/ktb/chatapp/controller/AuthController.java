@@ -1,5 +1,6 @@
 package com.ktb.chatapp.controller;
 
+import com.ktb.chatapp.annotation.RateLimit;
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.event.SessionEndedEvent;
 import com.ktb.chatapp.model.User;
@@ -8,6 +9,7 @@ import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionCreationResult;
 import com.ktb.chatapp.service.SessionMetadata;
 import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.auth.PasswordHashingExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -22,18 +24,18 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
@@ -44,9 +46,8 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtService jwtService;
     private final SessionService sessionService;
     private final ApplicationEventPublisher eventPublisher;
@@ -82,54 +83,61 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @SecurityRequirement(name = "")
+    @RateLimit(distribution = RateLimit.Distribution.CLUSTER)
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(
+    public CompletableFuture<ResponseEntity<?>> registerUser(
             @Valid @RequestBody RegisterRequest registerRequest,
             BindingResult bindingResult,
             HttpServletRequest request) {
 
         // Handle validation errors
         ResponseEntity<?> errors = getBindingError(bindingResult);
-        if (errors != null) return errors;
+        if (errors != null) return CompletableFuture.completedFuture(errors);
         
         // Check existing user
         if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(StandardResponse.error("이미 등록된 이메일입니다."));
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(StandardResponse.error("이미 등록된 이메일입니다.")));
         }
 
-        try {
-            // Create user
-            User user = User.builder()
-                    .name(registerRequest.getName())
-                    .email(registerRequest.getEmail().toLowerCase())
-                    .password(passwordEncoder.encode(registerRequest.getPassword()))
-                    .build();
-
-            user = userRepository.save(user);
-
-            LoginResponse response = LoginResponse.builder()
-                    .success(true)
-                    .message("회원가입이 완료되었습니다.")
-                    .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
-                    .build();
-
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(response);
-
-        } catch (org.springframework.dao.DuplicateKeyException e) {
-            log.error("Register error: ", e);
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(StandardResponse.error("이미 등록된 이메일입니다."));
-        } catch (IllegalArgumentException e) {
-            log.error("Register error: ", e);
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(StandardResponse.error(e.getMessage()));
-        } catch (Exception e) {
-            log.error("Register error: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(StandardResponse.error("회원가입 처리 중 오류가 발생했습니다."));
-        }
+        // 비밀번호 해시는 전용 실행기에서 처리하고 요청 스레드는 반환한다
+        return passwordHashingExecutor.encode(registerRequest.getPassword())
+                .<ResponseEntity<?>>thenApply(encodedPassword -> {
+                    // Create user
+                    User user = User.builder()
+                            .name(registerRequest.getName())
+                            .email(registerRequest.getEmail().toLowerCase())
+                            .password(encodedPassword)
+                            .build();
+
+                    user = userRepository.save(user);
+
+                    LoginResponse response = LoginResponse.builder()
+                            .success(true)
+                            .message("회원가입이 완료되었습니다.")
+                            .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
+                            .build();
+
+                    return ResponseEntity.status(HttpStatus.CREATED)
+                            .body(response);
+                })
+                .exceptionally(throwable -> {
+                    Throwable e = unwrap(throwable);
+                    if (e instanceof RejectedExecutionException) {
+                        return serviceBusy();
+                    }
+                    log.error("Register error: ", e);
+                    if (e instanceof org.springframework.dao.DuplicateKeyException) {
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                                .body(StandardResponse.error("이미 등록된 이메일입니다."));
+                    }
+                    if (e instanceof IllegalArgumentException) {
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                .body(StandardResponse.error(e.getMessage()));
+                    }
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(StandardResponse.error("회원가입 처리 중 오류가 발생했습니다."));
+                });
     }
     
     @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인합니다. 성공 시 JWT 토큰과 세션 ID가 반환됩니다. 기존 세션은 자동으로 종료됩니다.")
@@ -145,69 +153,92 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @SecurityRequirement(name = "")
+    @RateLimit(distribution = RateLimit.Distribution.CLUSTER)
     @PostMapping("/login")
-    public ResponseEntity<?> login(
+    public CompletableFuture<ResponseEntity<?>> login(
             @Valid @RequestBody LoginRequest loginRequest,
             BindingResult bindingResult,
             HttpServletRequest request) {
 
         // Handle validation errors
         ResponseEntity<?> errors = getBindingError(bindingResult);
-        if (errors != null) return errors;
+        if (errors != null) return CompletableFuture.completedFuture(errors);
         
-        try {
-            // Authenticate user
-            User user = userRepository.findByEmail(loginRequest.getEmail().toLowerCase())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            user.getEmail(),
-                            loginRequest.getPassword()
-                    )
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            // 단일 세션 정책을 위해 기존 세션 제거
-            sessionService.removeAllUserSessions(user.getId());
-
-            // Create new session
-            SessionMetadata metadata = new SessionMetadata(
-                    request.getHeader("User-Agent"),
-                    getClientIpAddress(request),
-                    request.getHeader("User-Agent")
-            );
-
-            SessionCreationResult sessionInfo =
-                    sessionService.createSession(user.getId(), metadata);
-
-            // Generate JWT token
-            String token = jwtService.generateToken(
-                sessionInfo.getSessionId(),
-                user.getEmail(),
-                user.getId()
-            );
-
-            LoginResponse response = LoginResponse.builder()
-                    .success(true)
-                    .token(token)
-                    .sessionId(sessionInfo.getSessionId())
-                    .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
-                    .build();
-
-            return ResponseEntity.ok()
-                    .header("Authorization", "Bearer " + token)
-                    .header("x-session-id", sessionInfo.getSessionId())
-                    .body(response);
-
-        } catch (UsernameNotFoundException | BadCredentialsException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(StandardResponse.error("이메일 또는 비밀번호가 올바르지 않습니다."));
-        } catch (Exception e) {
-            log.error("Login error: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(StandardResponse.error("로그인 처리 중 오류가 발생했습니다."));
+        User user = userRepository.findByEmail(loginRequest.getEmail().toLowerCase()).orElse(null);
+        if (user == null) {
+            return CompletableFuture.completedFuture(invalidCredentials());
         }
+        // 비동기 단계에서 요청 객체에 접근하지 않도록 미리 읽어 둔다
+        SessionMetadata metadata = new SessionMetadata(
+                request.getHeader("User-Agent"),
+                getClientIpAddress(request),
+                request.getHeader("User-Agent")
+        );
+
+        // BCrypt 검증은 전용 실행기에서 처리하고 요청 스레드는 반환한다
+        return passwordHashingExecutor.matches(loginRequest.getPassword(), user.getPassword())
+                .<ResponseEntity<?>>thenApply(matches -> {
+                    if (!matches) {
+                        return invalidCredentials();
+                    }
+                    
+                    // 단일 세션 정책을 위해 기존 세션 제거
+                    sessionService.removeAllUserSessions(user.getId());
+
+                    // Create new session
+                    SessionCreationResult sessionInfo =
+                            sessionService.createSession(user.getId(), metadata);
+
+                    // Generate JWT token
+                    String token = jwtService.generateToken(
+                        sessionInfo.getSessionId(),
+                        user.getEmail(),
+                        user.getId()
+                    );
+
+                    LoginResponse response = LoginResponse.builder()
+                            .success(true)
+                            .token(token)
+                            .sessionId(sessionInfo.getSessionId())
+                            .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
+                            .build();
+
+                    return ResponseEntity.ok()
+                            .header("Authorization", "Bearer " + token)
+                            .header("x-session-id", sessionInfo.getSessionId())
+                            .body(response);
+                })
+                .exceptionally(throwable -> {
+                    Throwable e = unwrap(throwable);
+                    if (e instanceof RejectedExecutionException) {
+                        return serviceBusy();
+                    }
+                    log.error("Login error: ", e);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(StandardResponse.error("로그인 처리 중 오류가 발생했습니다."));
+                });
+    }
+    
+    private ResponseEntity<?> invalidCredentials() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(StandardResponse.error("이메일 또는 비밀번호가 올바르지 않습니다."));
+    }
+    
+    /**
+     * 비밀번호 해시 큐가 가득 찬 경우 즉시 503과 Retry-After로 응답
+     */
+    private ResponseEntity<?> serviceBusy() {
+        var errorCode = ApiErrorCode.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordHashingExecutor.retryAfterSeconds()))
+                .body(StandardResponse.error(errorCode,
+                        Map.of("retryAfter", passwordHashingExecutor.retryAfterSeconds())));
+    }
+    
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
     }
     
     @Operation(summary = "로그아웃", description = "현재 세션을 종료합니다. x-session-id 헤더가 필요합니다.")
@@ -289,14 +320,14 @@ public class AuthController {
                         .body(new TokenVerifyResponse(false, "토큰 또는 세션 ID가 필요합니다.", null));
             }
 
-            // 토큰 유효성 검증
-            if (!jwtService.validateToken(token)) {
+            // 토큰 유효성 검증 및 사용자 정보 추출
+            String userId;
+            try {
+                userId = jwtService.parse(token).getClaimAsString("userId");
+            } catch (JwtException e) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new TokenVerifyResponse(false, "유효하지 않은 토큰입니다.", null));
             }
-
-            // 토큰에서 사용자 정보 추출
-            String userId = jwtService.extractUserId(token);
             
             Optional<User> userOpt = userRepository.findById(userId);
 
@@ -1,6 +1,15 @@
 package com.ktb.chatapp.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.annotation.RateLimit;
+import com.ktb.chatapp.dto.FetchMessagesRequest;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.MessageCursor;
 import com.ktb.chatapp.dto.StandardResponse;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.message.MessageHistoryStreamer;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.handler.MessageLoader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,50 +18,192 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
-import java.security.Principal;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 메시지 시스템 REST API 컨트롤러
  *
- * - GET /api/message/rooms/:roomId/messages → 500 에러 (미구현)
- * - 모든 메시지 기능은 Socket.IO를 통해 제공됨
+ * - GET /api/message/rooms/:roomId/messages → 메시지 히스토리 (커서 페이지네이션)
+ * - GET /api/message/rooms/:roomId/messages?stream=true → 큰 페이지를 MongoDB 커서에서 바로 스트리밍
+ * - 실시간 메시지 송수신과 읽음 처리는 Socket.IO를 통해 제공됨
+ *
+ * 히스토리 조회는 읽음 위치를 전진시키지 않는다. 응답의 ETag 는 채팅방의 최신 메시지 ID, 마지막 읽음 갱신 시각과
+ * 요청 위치로 만들어 새 메시지나 읽음 변경이 없으면 If-None-Match 요청에 본문 조회 없이 304 를 돌려준다.
+ * 리액션 변경은 반영하지 않으므로 바이트 단위 동일성을 보장하지 않는 weak ETag 를 사용하며,
+ * 리액션은 Socket.IO 이벤트로 반영한다.
  */
-@Tag(name = "메시지 (Messages)", description = "메시지 관련 API (주의: 실제 메시지 기능은 Socket.IO를 통해 제공됩니다)")
+@Tag(name = "메시지 (Messages)", description = "메시지 히스토리 조회 API (실시간 메시지 기능은 Socket.IO를 통해 제공됩니다)")
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/message")
 public class MessageController {
 
+    private final MessageLoader messageLoader;
+    private final MessageHistoryStreamer messageHistoryStreamer;
+    private final MessageReadStatusService messageReadStatusService;
+    private final RoomMembershipCache roomMembershipCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chatapp.message.history.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${chatapp.message.history.stream-max-limit:1000}")
+    private int streamMaxLimit;
+
     /**
-     * 채팅방 메시지 조회 - 미구현 (500 반환)
-     * 실제 메시지 조회는 Socket.IO의 'fetchPreviousMessages' 이벤트를 사용하세요.
+     * 채팅방 메시지 조회
      */
     @Operation(
-        summary = "메시지 조회 (미구현)",
-        description = "이 엔드포인트는 미구현 상태입니다. 실제 메시지 조회는 Socket.IO의 'fetchPreviousMessages' 이벤트를 사용하세요.",
-        deprecated = true
+        summary = "메시지 조회",
+        description = "채팅방 메시지를 오래된 순으로 조회합니다. 응답의 nextCursor 를 cursor 로 보내면 이전 페이지를 조회합니다. "
+                + "ETag 를 If-None-Match 로 보내면 새 메시지나 읽음 변경이 없을 때 304 를 반환합니다."
     )
     @ApiResponses({
-        @ApiResponse(responseCode = "500", description = "미구현 엔드포인트",
+        @ApiResponse(responseCode = "200", description = "메시지 조회 성공",
+            content = @Content(schema = @Schema(implementation = FetchMessagesResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "채팅방 접근 권한 없음",
             content = @Content(schema = @Schema(implementation = StandardResponse.class),
-                examples = @ExampleObject(value = "{\"success\":false,\"message\":\"미구현.\"}")))
+                examples = @ExampleObject(value = "{\"success\":false,\"message\":\"채팅방 접근 권한이 없습니다.\"}")))
     })
     @GetMapping("/rooms/{roomId}/messages")
+    @RateLimit
     public ResponseEntity<?> loadMessages(
             @Parameter(description = "채팅방 ID") @PathVariable String roomId,
-            @Parameter(description = "이전 메시지 ID (페이지네이션)") @RequestParam(required = false) String before,
+            @Parameter(description = "이전 응답의 nextCursor (페이지네이션)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "이 시각(epoch ms) 이전 메시지 (cursor 가 없을 때)") @RequestParam(required = false) Long before,
             @Parameter(description = "조회할 메시지 개수", example = "30") @RequestParam(defaultValue = "30") Integer limit,
-            Principal principal) {
-        log.debug("Message REST API called - returning 500 (not implemented, use Socket.IO)");
-        
-        return ResponseEntity.status(500).body(
-                StandardResponse.error("미구현.")
-        );
+            Authentication authentication,
+            WebRequest webRequest) {
+        FetchMessagesRequest request = new FetchMessagesRequest(roomId, clamp(limit, maxLimit), before, cursor);
+        try {
+            StandardResponse<Object> denied = checkAccess(roomId, authentication);
+            if (denied != null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(denied);
+            }
+            // 페이지 위치가 잘못되었으면 ETag 계산 전에 거절한다
+            request.pageCursor();
+
+            String etag = etag(request, false);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            FetchMessagesResponse response = messageLoader.loadHistory(request);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(StandardResponse.success(response));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(StandardResponse.error("잘못된 페이지 커서입니다."));
+        } catch (Exception e) {
+            log.error("Message history error - roomId: {}", roomId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(StandardResponse.error("메시지를 불러오는데 실패했습니다."));
+        }
+    }
+
+    /**
+     * 채팅방 메시지 스트리밍 조회
+     * 응답을 목록으로 만들지 않고 MongoDB 커서에서 읽는 대로 쓰므로 메시지는 최신순이다.
+     */
+    @Operation(
+        summary = "메시지 스트리밍 조회",
+        description = "큰 페이지를 최신순(order: desc)으로 스트리밍합니다. 형식과 커서, ETag 는 일반 조회와 같습니다."
+    )
+    @GetMapping(value = "/rooms/{roomId}/messages", params = "stream=true")
+    @RateLimit
+    public ResponseEntity<StreamingResponseBody> streamMessages(
+            @Parameter(description = "채팅방 ID") @PathVariable String roomId,
+            @Parameter(description = "이전 응답의 nextCursor (페이지네이션)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "이 시각(epoch ms) 이전 메시지 (cursor 가 없을 때)") @RequestParam(required = false) Long before,
+            @Parameter(description = "조회할 메시지 개수", example = "500") @RequestParam(defaultValue = "500") Integer limit,
+            Authentication authentication,
+            WebRequest webRequest) {
+        FetchMessagesRequest request = new FetchMessagesRequest(roomId, clamp(limit, streamMaxLimit), before, cursor);
+        try {
+            StandardResponse<Object> denied = checkAccess(roomId, authentication);
+            if (denied != null) {
+                return json(HttpStatus.FORBIDDEN, denied);
+            }
+            MessageCursor pageCursor = request.pageCursor();
+
+            String etag = etag(request, true);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            int pageLimit = request.limit(streamMaxLimit);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> messageHistoryStreamer.write(roomId, pageLimit, pageCursor, out));
+
+        } catch (IllegalArgumentException e) {
+            return json(HttpStatus.BAD_REQUEST, StandardResponse.error("잘못된 페이지 커서입니다."));
+        } catch (Exception e) {
+            log.error("Message history stream error - roomId: {}", roomId, e);
+            return json(HttpStatus.INTERNAL_SERVER_ERROR, StandardResponse.error("메시지를 불러오는데 실패했습니다."));
+        }
+    }
+
+    private StandardResponse<Object> checkAccess(String roomId, Authentication authentication) {
+        String userId = getUserId(authentication);
+        if (userId == null || !roomMembershipCache.isMember(roomId, userId)) {
+            return StandardResponse.error("채팅방 접근 권한이 없습니다.");
+        }
+        return null;
+    }
+
+    /**
+     * 최신 메시지와 마지막 읽음 갱신이 같으면 같은 요청 위치의 메시지와 readCount 도 같다.
+     */
+    private String etag(FetchMessagesRequest request, boolean streaming) {
+        String newestId = messageLoader.newestMessageId(request.roomId());
+        LocalDateTime latestReadAt = messageReadStatusService.findLatestReadAt(request.roomId());
+        String readVersion = latestReadAt != null
+                ? String.valueOf(latestReadAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                : "0";
+        String position = request.cursor() != null ? request.cursor()
+                : request.before() != null ? String.valueOf(request.before()) : "";
+        return "W/\"" + (newestId != null ? newestId : "empty") + "-" + readVersion + "-" + request.limit()
+                + "-" + position + (streaming ? "-s" : "") + "\"";
+    }
+
+    private ResponseEntity<StreamingResponseBody> json(HttpStatus status, StandardResponse<?> body) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, body));
+    }
+
+    private static int clamp(Integer limit, int max) {
+        return Math.min(Math.max(1, limit != null ? limit : 1), max);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getUserId(Authentication authentication) {
+        if (authentication == null || !(authentication.getDetails() instanceof Map<?, ?>)) {
+            return null;
+        }
+        Map<String, Object> details = (Map<String, Object>) authentication.getDetails();
+        return (String) details.get("userId");
     }
 }
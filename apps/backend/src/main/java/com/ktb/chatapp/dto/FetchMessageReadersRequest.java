@@ -0,0 +1,5 @@
+package com.ktb.chatapp.dto;
+
+// 메시지를 읽은 사용자 목록 요청 (메시지 상세에서 필요할 때만 조회)
+public record FetchMessageReadersRequest(String messageId) {
+}
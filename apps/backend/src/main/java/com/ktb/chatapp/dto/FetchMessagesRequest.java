@@ -3,8 +3,14 @@ package com.ktb.chatapp.dto;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
-// 최초는 limit 개수만 조회, 이후에는 before 메시지 ID 기준으로 이전 메시지 조회
-public record FetchMessagesRequest(String roomId, Integer limit, Long before) {
+// 최초는 limit 개수만 조회, 이후에는 이전 응답의 nextCursor 기준으로 이전 메시지 조회
+// before(timestamp) 는 커서를 보내지 않는 기존 클라이언트용이다
+public record FetchMessagesRequest(String roomId, Integer limit, Long before, String cursor) {
+
+    public FetchMessagesRequest(String roomId, Integer limit, Long before) {
+        this(roomId, limit, before, null);
+    }
+
     public int limit(int defaultLimit) {
         return limit != null && limit > 0 ? limit : defaultLimit;
     }
@@ -18,4 +24,19 @@ public record FetchMessagesRequest(String roomId, Integer limit, Long before) {
         }
         return defaultBeforeTime;
     }
+
+    /**
+     * 이전 페이지 커서. 최신 페이지 요청이면 null.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public MessageCursor pageCursor() {
+        if (cursor != null && !cursor.isBlank()) {
+            return MessageCursor.decode(cursor);
+        }
+        if (before != null && before > 0) {
+            return new MessageCursor(before, null);
+        }
+        return null;
+    }
 }
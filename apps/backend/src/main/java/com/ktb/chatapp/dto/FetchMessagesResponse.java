@@ -1,5 +1,6 @@
 package com.ktb.chatapp.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +15,14 @@ import java.util.List;
 public class FetchMessagesResponse {
     private List<MessageResponse> messages;
     private boolean hasMore;
+
+    // 다음(더 오래된) 페이지 요청에 그대로 보내는 커서. 더 없으면 null
+    private String nextCursor;
+
+    // 이번 조회로 읽음 위치가 전진한 메시지 ID (MESSAGES_READ 브로드캐스트용, 응답에는 포함하지 않음)
+    @JsonIgnore
+    @Builder.Default
+    private List<String> newlyReadMessageIds = List.of();
     
     public long firstMessageTimestamp() {
         return messages.getFirst().getTimestamp();
@@ -6,5 +6,7 @@ import java.util.List;
 
 @Data
 public class MarkAsReadRequest {
+    // 생략하면 메시지에서 채팅방을 조회한다
+    private String roomId;
     private List<String> messageIds;
 }
@@ -0,0 +1,56 @@
+package com.ktb.chatapp.dto;
+
+import com.ktb.chatapp.model.Message;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * 메시지 페이지 커서
+ * 마지막으로 받은(가장 오래된) 메시지의 (timestamp, _id) 를 클라이언트에는 불투명한 문자열로 전달한다.
+ * timestamp 가 같은 메시지도 _id 로 순서가 정해지므로 페이지 사이에 누락이나 중복이 없다.
+ *
+ * @param timestamp 메시지 timestamp (epoch millis)
+ * @param id        메시지 ID. 기존 before(timestamp) 요청으로 만든 커서는 null
+ */
+public record MessageCursor(long timestamp, String id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static MessageCursor of(MessageResponse message) {
+        return new MessageCursor(message.getTimestamp(), message.getId());
+    }
+
+    public static MessageCursor of(Message message) {
+        return new MessageCursor(message.toTimestampMillis(), message.getId());
+    }
+
+    /**
+     * 메시지가 커서보다 이전(더 오래된) 위치인지. ID 가 없는 커서는 같은 timestamp 의 메시지를 포함하지 않는다.
+     */
+    public boolean isAfter(Message message) {
+        long messageTimestamp = message.toTimestampMillis();
+        if (messageTimestamp != timestamp) {
+            return messageTimestamp < timestamp;
+        }
+        // ObjectId 16진 문자열의 사전순은 ObjectId 순서와 같다
+        return id != null && message.getId().compareTo(id) < 0;
+    }
+
+    public String encode() {
+        String raw = timestamp + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static MessageCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || !ObjectId.isValid(raw.substring(separator + 1))) {
+            throw new IllegalArgumentException("Invalid message cursor");
+        }
+        return new MessageCursor(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ktb.chatapp.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 읽은 사용자 응답 DTO.
+ * 읽음 위치(ReadCursor)에서 조회 시점에 계산된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageReaderResponse {
+    private String userId;
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,14 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageReadersResponse {
+    private String messageId;
+    private List<MessageReaderResponse> readers;
+}
@@ -1,8 +1,8 @@
 package com.ktb.chatapp.dto;
 
 import com.ktb.chatapp.model.AiType;
-import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
  * 메시지 응답 DTO.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MessageResponse {
@@ -41,7 +41,12 @@ public class MessageResponse {
     
     private Map<String, Set<String>> reactions;
     
-    private List<Message.MessageReader> readers;
+    // 실시간 메시지에만 포함한다. 메시지 페이지는 readCount 만 보내고 목록은 FETCH_MESSAGE_READERS 로 조회한다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<MessageReaderResponse> readers;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer readCount;
     
     private Map<String, Object> metadata;
 }
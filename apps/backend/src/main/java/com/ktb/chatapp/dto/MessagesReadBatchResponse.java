@@ -0,0 +1,17 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 tick 동안 모인 채팅방의 읽음 처리를 병합한 MESSAGES_READ 페이로드
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagesReadBatchResponse {
+    private List<MessagesReadResponse> reads;
+}
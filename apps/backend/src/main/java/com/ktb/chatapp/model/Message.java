@@ -30,8 +30,9 @@ import java.util.Set;
 @AllArgsConstructor
 @Document(collection = "messages")
 @CompoundIndexes({
-        @CompoundIndex(name = "readers_userId_idx", def = "{'readers.userId': 1}"),
-        @CompoundIndex(name = "room_isDeleted_timestamp_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1}")
+        // 삭제되지 않은 메시지만 색인하고 (timestamp, _id) 커서 순서와 일치시킨다
+        @CompoundIndex(name = "room_timestamp_id_idx", def = "{'room': 1, 'timestamp': -1, '_id': -1}",
+                partialFilter = "{'isDeleted': false}")
 })
 public class Message {
 
@@ -64,24 +65,12 @@ public class Message {
     @Builder.Default
     private Map<String, Set<String>> reactions = new HashMap<>();
 
-    @Builder.Default
-    private List<MessageReader> readers = new ArrayList<>();
-
     @Builder.Default
     private Map<String, Object> metadata = new HashMap<>();
 
     @Builder.Default
     private Boolean isDeleted = false;
 
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class MessageReader {
-        private String userId;
-        private LocalDateTime readAt;
-    }
-
     public long toTimestampMillis() {
         return timestamp.atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
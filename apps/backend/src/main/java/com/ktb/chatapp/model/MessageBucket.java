@@ -0,0 +1,55 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 오래된 메시지의 cold storage 버킷.
+ * 한 채팅방의 한 시간 구간 메시지를 (timestamp, _id) 오름차순 JSON 배열로 직렬화해 gzip 으로 압축한 문서이다.
+ * 한 시간에 max-messages 보다 많으면 여러 버킷으로 나뉘며, ID 는 "채팅방 ID:첫 메시지 ID" 로 고정되어
+ * 같은 메시지 묶음을 다시 옮겨도 같은 문서를 덮어쓴다. 한 채팅방의 버킷들은 (timestamp, _id) 구간이 겹치지 않는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "message_buckets")
+@CompoundIndexes({
+        @CompoundIndex(name = "room_first_idx", def = "{'room': 1, 'firstTimestamp': -1, 'firstMessageId': -1}")
+})
+public class MessageBucket {
+
+    @Id
+    private String id;
+
+    @Field("room")
+    private String roomId;
+
+    // 버킷이 속한 시간 구간의 시작 (정시)
+    private LocalDateTime hour;
+
+    private LocalDateTime firstTimestamp;
+
+    private String firstMessageId;
+
+    private LocalDateTime lastTimestamp;
+
+    private String lastMessageId;
+
+    private int count;
+
+    // gzip 으로 압축한 메시지 JSON 배열
+    private byte[] data;
+
+    public static String idOf(String roomId, String firstMessageId) {
+        return roomId + ":" + firstMessageId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 채팅방별 cold storage 경계.
+ * (timestamp, messageId) 이하의 메시지는 모두 버킷에 저장되어 있고, 이보다 최신 메시지는 messages 에만 있다.
+ * 문서가 없는 채팅방은 버킷이 없으므로 조회 시 message_buckets 를 읽지 않는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "message_bucket_watermarks")
+public class MessageBucketWatermark {
+
+    // 채팅방 ID
+    @Id
+    private String id;
+
+    private LocalDateTime timestamp;
+
+    private String messageId;
+
+    private LocalDateTime updatedAt;
+}
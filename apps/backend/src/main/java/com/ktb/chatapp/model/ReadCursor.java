@@ -0,0 +1,47 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 채팅방별 사용자 읽음 위치(high-water mark).
+ * 메시지마다 readers 배열을 쌓는 대신 (room, user) 당 하나의 문서에 마지막으로 읽은 메시지를 기록한다.
+ * lastReadTimestamp 이하의 메시지는 모두 읽은 것으로 본다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "read_cursors")
+@CompoundIndexes({
+        @CompoundIndex(name = "room_user_idx", def = "{'room': 1, 'user': 1}", unique = true),
+        // 읽은 사용자 조회(room 일치, readAt 정렬, lastReadTimestamp 범위)와 최근 읽음 시각 조회용
+        @CompoundIndex(name = "room_readAt_lastRead_idx", def = "{'room': 1, 'readAt': 1, 'lastReadTimestamp': 1}")
+})
+public class ReadCursor {
+
+    @Id
+    private String id;
+
+    @Field("room")
+    private String roomId;
+
+    @Field("user")
+    private String userId;
+
+    // 마지막으로 읽은 메시지의 timestamp
+    private LocalDateTime lastReadTimestamp;
+
+    private String lastReadMessageId;
+
+    // 읽음 위치가 마지막으로 갱신된 시각
+    private LocalDateTime readAt;
+}
@@ -2,8 +2,9 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.Message;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -12,8 +13,33 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MessageRepository extends MongoRepository<Message, String> {
-    Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
-    Slice<Message> findSliceByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
+
+    /**
+     * 메시지 페이지 응답에 필요한 필드. mentions, metadata, isDeleted 는 읽지 않는다.
+     */
+    String HISTORY_FIELDS = "{ 'room': 1, 'content': 1, 'sender': 1, 'type': 1, 'file': 1, 'aiType': 1, 'timestamp': 1, 'reactions': 1 }";
+
+    /**
+     * (timestamp, _id) 커서보다 이전 메시지 조회 (keyset pagination)
+     * room_timestamp_id_idx 에서 커서 위치로 바로 이동하므로 페이지 깊이와 관계없이 비용이 일정하다.
+     * pageable 은 timestamp, _id 내림차순으로 정렬해야 한다.
+     */
+    @Query(value = "{ 'room': ?0, 'isDeleted': false, '$or': [ { 'timestamp': { $lt: ?1 } }, { 'timestamp': ?1, '_id': { $lt: ?2 } } ] }",
+            fields = HISTORY_FIELDS)
+    Slice<Message> findSliceBeforeCursor(String roomId, LocalDateTime timestamp, ObjectId id, Pageable pageable);
+
+    /**
+     * 최신 메시지 ID 조회 (room_timestamp_id_idx 순서)
+     */
+    @Query(value = "{ 'room': ?0, 'isDeleted': false }", fields = "{ '_id': 1 }", sort = "{ 'timestamp': -1, '_id': -1 }")
+    List<Message> findNewestIds(String roomId, Pageable pageable);
+
+    /**
+     * timestamp 이전 메시지 조회 (최신 페이지, 커서 없이 before 만 보낸 요청)
+     */
+    @Query(value = "{ 'room': ?0, 'isDeleted': false, 'timestamp': { $lt: ?1 } }", fields = HISTORY_FIELDS)
+    Slice<Message> findHistorySliceBefore(String roomId, LocalDateTime timestamp, Pageable pageable);
+
     /**
      * 특정 시간 이후의 메시지 수 카운트 (삭제되지 않은 메시지만)
      * 최근 N분간 메시지 수를 조회할 때 사용
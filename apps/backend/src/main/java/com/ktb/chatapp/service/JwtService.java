@@ -55,6 +55,16 @@ public class JwtService {
         return jwtEncoder.encode(JwtEncoderParameters.from(defaultJwsHeader, claims)).getTokenValue();
     }
 
+    /**
+     * 토큰을 한 번 검증하고 모든 클레임을 반환
+     * 검증 결과는 디코더 캐시에 남아 같은 토큰의 이후 검증(리소스 서버 포함)은 재검증하지 않는다.
+     *
+     * @throws JwtException 유효하지 않거나 만료된 토큰
+     */
+    public Jwt parse(String token) {
+        return jwtDecoder.decode(token);
+    }
+
     /**
      * 토큰 유효성 검증 (UserDetails 포함)
      */
@@ -1,15 +1,28 @@
 package com.ktb.chatapp.service;
 
+import com.ktb.chatapp.dto.MessageReaderResponse;
 import com.ktb.chatapp.model.Message;
-import com.mongodb.client.result.UpdateResult;
+import com.ktb.chatapp.model.ReadCursor;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -18,45 +31,205 @@ import org.springframework.stereotype.Service;
 
 /**
  * 메시지 읽음 상태 관리 서비스
+ * 메시지별 readers 배열 대신 (room, user) 당 하나의 읽음 위치(ReadCursor)를 upsert 하고,
+ * 메시지별 읽은 사용자는 조회 시점에 읽음 위치와 메시지 timestamp 를 비교해 계산한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageReadStatusService {
 
-    // private final MessageRepository messageRepository;
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final String NEWER_BUCKET = "newer";
 
     private final MongoTemplate mongoTemplate;
+
     /**
-     * 메시지 읽음 상태 업데이트
+     * 사용자가 읽은 메시지 중 가장 최근 메시지
      *
-     * @param messageIds 읽음 상태를 업데이트할 메시지 리스트
      * @param userId 읽은 사용자 ID
+     * @param message 읽은 메시지 (id, roomId, timestamp 필요)
+     */
+    public record ReadMark(String userId, Message message) {
+    }
+
+    /**
+     * 메시지 ID 목록의 채팅방과 timestamp 를 조회한다.
      */
-    public void updateReadStatus(List<String> messageIds, String userId) {
+    public List<Message> findMessages(Collection<String> messageIds) {
         if (messageIds.isEmpty()) {
-            return;
+            return List.of();
         }
-        
-        Query query = new Query(
-                Criteria.where("_id").in(messageIds)
-                .and("readers.userId").ne(userId)
-        );
-        
-        Message.MessageReader readerInfo = Message.MessageReader.builder()
-                .userId(userId)
-                .readAt(LocalDateTime.now())
-                .build();
-        
-        Update update = new Update().push("readers", readerInfo);
-        
-        try{
-            UpdateResult result = mongoTemplate.updateMulti(query,update,Message.class);
-            log.debug("Read status updated for {} messages by user {}",
-                    result.getModifiedCount(), userId);
+        Query query = new Query(Criteria.where("_id").in(messageIds));
+        query.fields().include("room", "timestamp");
+        return mongoTemplate.find(query, Message.class);
+    }
+
+    /**
+     * 메시지 ID 목록 중 가장 최근 메시지를 조회한다. (room, timestamp 만 로드)
+     */
+    public Optional<Message> findLatest(List<String> messageIds) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return Optional.empty();
+        }
+        Query query = new Query(Criteria.where("_id").in(messageIds))
+                .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+                .limit(1);
+        query.fields().include("room", "timestamp");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Message.class));
+    }
+
+    /**
+     * 사용자의 읽음 위치를 주어진 메시지까지 전진시킨다.
+     *
+     * @param latest 읽은 메시지 중 가장 최근 메시지 (roomId, timestamp 필요)
+     * @param userId 읽은 사용자 ID
+     */
+    public void markAsRead(Message latest, String userId) {
+        try {
+            try {
+                mongoTemplate.upsert(cursorQuery(latest, userId), cursorUpdate(latest), ReadCursor.class);
+            } catch (DuplicateKeyException e) {
+                // 이미 더 앞선 위치가 있거나, 다른 세션이 같은 문서를 동시에 처음 만든 경우이다.
+                // 범위 조건이 있는 upsert 는 MongoDB 가 재시도하지 않으므로 만들어진 문서에 한 번 더 조건부 갱신한다
+                mongoTemplate.updateFirst(cursorQuery(latest, userId), cursorUpdate(latest), ReadCursor.class);
+            }
+            log.debug("Read cursor moved to message {} in room {} by user {}",
+                    latest.getId(), latest.getRoomId(), userId);
         } catch (Exception e) {
             log.error("Read status update error for user {}", userId, e);
         }
-        
+    }
+
+    /**
+     * 여러 사용자의 읽음 위치를 하나의 bulk write 로 전진시킨다.
+     */
+    public void markAllAsRead(Collection<ReadMark> marks) {
+        if (marks.isEmpty()) {
+            return;
+        }
+        List<ReadMark> ordered = List.copyOf(marks);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadCursor.class);
+        for (ReadMark mark : ordered) {
+            bulk.upsert(cursorQuery(mark.message(), mark.userId()), cursorUpdate(mark.message()));
+        }
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().stream()
+                    .filter(error -> error.getCode() != DUPLICATE_KEY_ERROR)
+                    .findFirst()
+                    .ifPresent(error -> log.error("Read status bulk update error: {}", error.getMessage()));
+            // 중복 키 오류는 이미 더 앞선 위치가 있거나 동시에 처음 만든 경우이므로 갱신만 한 번 더 시도한다
+            List<ReadMark> duplicates = e.getErrors().stream()
+                    .filter(error -> error.getCode() == DUPLICATE_KEY_ERROR)
+                    .map(error -> ordered.get(error.getIndex()))
+                    .toList();
+            retryUpdates(duplicates);
+        }
+    }
+
+    private void retryUpdates(List<ReadMark> marks) {
+        if (marks.isEmpty()) {
+            return;
+        }
+        BulkOperations retry = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadCursor.class);
+        for (ReadMark mark : marks) {
+            retry.updateOne(cursorQuery(mark.message(), mark.userId()), cursorUpdate(mark.message()));
+        }
+        try {
+            retry.execute();
+        } catch (Exception e) {
+            log.error("Read status bulk retry error - marks: {}", marks.size(), e);
+        }
+    }
+
+    /**
+     * 메시지를 읽은 사용자 목록. 읽음 위치가 메시지 timestamp 이후인 사용자를 읽은 순서로 반환한다.
+     *
+     * @param message 대상 메시지 (roomId, timestamp 필요)
+     */
+    public List<MessageReaderResponse> findReaders(Message message) {
+        Query query = new Query(Criteria.where("room").is(message.getRoomId())
+                .and("lastReadTimestamp").gte(message.getTimestamp()))
+                .with(Sort.by(Sort.Direction.ASC, "readAt"));
+        query.fields().include("user", "readAt");
+        return mongoTemplate.find(query, ReadCursor.class).stream()
+                .map(cursor -> new MessageReaderResponse(cursor.getUserId(), cursor.getReadAt()))
+                .toList();
+    }
+
+    /**
+     * 사용자의 채팅방 읽음 위치. 없으면 null.
+     */
+    public ReadCursor findCursor(String roomId, String userId) {
+        Query query = new Query(Criteria.where("room").is(roomId).and("user").is(userId));
+        query.fields().include("lastReadTimestamp");
+        return mongoTemplate.findOne(query, ReadCursor.class);
+    }
+
+    /**
+     * 메시지 timestamp 별 읽은 사용자 수. 읽음 위치가 timestamp 이후인 사용자를 센다.
+     * 참여자들의 읽음 위치를 내려받지 않도록 timestamp 를 경계로 $bucket 집계해 경계 수만큼의 개수만 받는다.
+     *
+     * @param timestamps 메시지 timestamp (epoch ms)
+     * @return timestamp 별 읽은 사용자 수
+     */
+    public Map<Long, Integer> countReaders(String roomId, Collection<Long> timestamps) {
+        if (timestamps.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> sorted = timestamps.stream().distinct().sorted().toList();
+        // 마지막 timestamp 도 구간을 가지도록 1ms 뒤를 상한으로 두고, 그 이후는 default 버킷에 모은다
+        Object[] boundaries = Stream.concat(sorted.stream(), Stream.of(sorted.getLast() + 1))
+                .map(Date::new)
+                .toArray();
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("room").is(roomId)
+                        .and("lastReadTimestamp").gte(new Date(sorted.getFirst()))),
+                Aggregation.bucket("lastReadTimestamp")
+                        .withBoundaries(boundaries)
+                        .withDefaultBucket(NEWER_BUCKET)
+                        .andOutputCount().as("count"));
+
+        Map<Object, Integer> buckets = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(ReadCursor.class), Document.class)
+                .forEach(bucket -> buckets.put(bucket.get("_id"), bucket.getInteger("count")));
+
+        // 버킷 하한이 timestamp 이상인 버킷의 합이 읽은 사용자 수이다
+        Map<Long, Integer> counts = new HashMap<>();
+        int readers = buckets.getOrDefault(NEWER_BUCKET, 0);
+        for (int i = sorted.size() - 1; i >= 0; i--) {
+            readers += buckets.getOrDefault(boundaries[i], 0);
+            counts.put(sorted.get(i), readers);
+        }
+        return counts;
+    }
+
+    /**
+     * 채팅방에서 가장 최근에 읽음 위치가 갱신된 시각. 읽음 위치가 없으면 null.
+     */
+    public LocalDateTime findLatestReadAt(String roomId) {
+        Query query = new Query(Criteria.where("room").is(roomId))
+                .with(Sort.by(Sort.Direction.DESC, "readAt"))
+                .limit(1);
+        query.fields().include("readAt");
+        ReadCursor latest = mongoTemplate.findOne(query, ReadCursor.class);
+        return latest != null ? latest.getReadAt() : null;
+    }
+
+    // 현재 위치가 더 이전인 경우에만 매칭되고, 문서가 없으면 새로 만든다.
+    // 이미 더 앞선 위치가 있으면 upsert 가 unique 인덱스에 걸리며, 같은 조건의 갱신은 매칭되지 않는다.
+    private static Query cursorQuery(Message latest, String userId) {
+        return new Query(Criteria.where("room").is(latest.getRoomId())
+                .and("user").is(userId)
+                .and("lastReadTimestamp").lt(latest.getTimestamp()));
+    }
+
+    private static Update cursorUpdate(Message latest) {
+        return new Update()
+                .set("lastReadTimestamp", latest.getTimestamp())
+                .set("lastReadMessageId", latest.getId())
+                .set("readAt", LocalDateTime.now());
     }
 }
@@ -1,27 +1,36 @@
 package com.ktb.chatapp.service;
 
-import com.ktb.chatapp.model.RateLimit;
-import com.ktb.chatapp.service.ratelimit.RateLimitStore;
+import com.ktb.chatapp.annotation.RateLimit.Distribution;
+import com.ktb.chatapp.service.ratelimit.RateLimiter;
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
 import java.time.Instant;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import static java.net.InetAddress.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RateLimitService {
 
-    private final RateLimitStore rateLimitStore;
+    private final RateLimiter nodeRateLimiter;
+    private final RateLimiter clusterRateLimiter;
+    private final RateLimiter leasedRateLimiter;
     @Value("${HOSTNAME:''}")
     private String hostName;
     
+    public RateLimitService(
+            @Qualifier("nodeRateLimiter") RateLimiter nodeRateLimiter,
+            @Qualifier("clusterRateLimiter") RateLimiter clusterRateLimiter,
+            @Qualifier("leasedRateLimiter") RateLimiter leasedRateLimiter) {
+        this.nodeRateLimiter = nodeRateLimiter;
+        this.clusterRateLimiter = clusterRateLimiter;
+        this.leasedRateLimiter = leasedRateLimiter;
+    }
+    
     @PostConstruct
     public void init() {
         if (!hostName.isEmpty()) {
@@ -39,48 +48,28 @@ public class RateLimitService {
     }
     
     
-    @Transactional
     public RateLimitCheckResult checkRateLimit(String _clientId, int maxRequests, Duration window) {
-        String actualClientId = hostName + ":" + _clientId;
-        long windowSeconds = Math.max(1L, window.getSeconds());
-        Instant now = Instant.now();
-        long nowEpochSeconds = now.getEpochSecond();
-        Instant expiresAt = now.plus(window);
+        return checkRateLimit(_clientId, maxRequests, window, Distribution.NODE);
+    }
+    
+    /**
+     * CLUSTER, LEASED 는 hostname 구분 없이 모든 노드가 하나의 카운터를 공유한다.
+     */
+    public RateLimitCheckResult checkRateLimit(
+            String _clientId, int maxRequests, Duration window, Distribution distribution) {
+        String actualClientId = distribution == Distribution.NODE ? hostName + ":" + _clientId : _clientId;
 
         try {
-            RateLimit rateLimit = rateLimitStore.findByClientId(actualClientId).orElse(null);
-            int currentCount = rateLimit != null ? rateLimit.getCount() : 0;
-
-            if (rateLimit != null && currentCount >= maxRequests) {
-                long retryAfterSeconds = Math.max(1L,
-                    rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
-                long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
-                return RateLimitCheckResult.rejected(
-                        maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
-            }
-
-            // Create or update rate limit
-            if (rateLimit == null) {
-                rateLimit = RateLimit.builder()
-                        .clientId(actualClientId)
-                        .count(1)
-                        .expiresAt(expiresAt)
-                        .build();
-            } else {
-                rateLimit.setCount(currentCount + 1);
-            }
-            rateLimitStore.save(rateLimit);
-
-            int newCount = currentCount + 1;
-            int remaining = Math.max(0, maxRequests - newCount);
-            long ttlSeconds = Math.max(1L, rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
-            long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
-
-            return RateLimitCheckResult.allowed(
-                    maxRequests, remaining, windowSeconds, resetEpochSeconds, ttlSeconds);
+            RateLimiter rateLimiter = switch (distribution) {
+                case NODE -> nodeRateLimiter;
+                case CLUSTER -> clusterRateLimiter;
+                case LEASED -> leasedRateLimiter;
+            };
+            return rateLimiter.tryAcquire(actualClientId, maxRequests, window);
         } catch (Exception e) {
             log.error("Rate limit check failed for client: {}", actualClientId, e);
-            long resetEpochSeconds = nowEpochSeconds + windowSeconds;
+            long windowSeconds = Math.max(1L, window.getSeconds());
+            long resetEpochSeconds = Instant.now().getEpochSecond() + windowSeconds;
             return RateLimitCheckResult.allowed(
                     maxRequests, maxRequests, windowSeconds, resetEpochSeconds, windowSeconds);
         }
@@ -1,7 +1,9 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.session.SessionActivityCoalescer;
 import com.ktb.chatapp.service.session.SessionStore;
+import com.ktb.chatapp.service.session.SessionValidationCache;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,8 @@ import static com.ktb.chatapp.model.Session.SESSION_TTL;
 public class SessionService {
 
     private final SessionStore sessionStore;
+    private final SessionActivityCoalescer activityCoalescer;
+    private final SessionValidationCache validationCache;
     public static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(SESSION_TTL).getSeconds();
     private static final long SESSION_TIMEOUT = SESSION_TTL_SEC * 1000;
 
@@ -74,7 +78,17 @@ public class SessionService {
                 return SessionValidationResult.invalid("INVALID_PARAMETERS", "유효하지 않은 세션 파라미터");
             }
 
-            Session session = sessionStore.findByUserId(userId).orElse(null);
+            // 최근 검증된 세션은 저장소 조회 없이 통과 (폐기는 pub/sub으로 즉시 반영)
+            SessionData cached = validationCache.get(userId, sessionId);
+            if (cached != null) {
+                long now = Instant.now().toEpochMilli();
+                activityCoalescer.touch(userId, sessionId, now);
+                cached.setLastActivity(now);
+                return SessionValidationResult.valid(cached);
+            }
+
+            long cacheGeneration = validationCache.currentGeneration();
+            Session session = sessionStore.findByUserIdAndRefreshTtl(userId, sessionId).orElse(null);
             
             if (session == null) {
                 log.warn("No session found for userId: {}", userId);
@@ -86,20 +100,20 @@ public class SessionService {
                 return SessionValidationResult.invalid("INVALID_SESSION", "잘못된 세션 ID입니다.");
             }
 
-            // Check if session has timed out
+            // Check if session has timed out (아직 저장되지 않은 활동 기록 포함)
             long now = Instant.now().toEpochMilli();
-            if (now - session.getLastActivity() > SESSION_TIMEOUT) {
+            if (now - latestActivity(session) > SESSION_TIMEOUT) {
                 log.warn("Session timed out for userId: {}, sessionId: {}", userId, sessionId);
                 removeSession(userId, sessionId);
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
-            // Update last activity
+            // Update last activity - 저장은 activityCoalescer가 주기적으로 배치 처리
+            activityCoalescer.touch(userId, sessionId, now);
             session.setLastActivity(now);
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            session = sessionStore.save(session);
 
             SessionData sessionData = toSessionData(session);
+            validationCache.put(sessionData, cacheGeneration);
             return SessionValidationResult.valid(sessionData);
 
         } catch (Exception e) {
@@ -121,9 +135,7 @@ public class SessionService {
                 return;
             }
 
-            session.setLastActivity(Instant.now().toEpochMilli());
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            sessionStore.save(session);
+            activityCoalescer.touch(userId, session.getSessionId(), Instant.now().toEpochMilli());
             
         } catch (Exception e) {
             log.error("Failed to update session activity for user: {}", userId, e);
@@ -132,11 +144,14 @@ public class SessionService {
 
     public void removeSession(String userId, String sessionId) {
         try {
+            activityCoalescer.discard(userId);
             if (sessionId != null) {
                 sessionStore.delete(userId, sessionId);
             } else {
                 sessionStore.deleteAll(userId);
             }
+            // 저장소 삭제 후 폐기해야 다른 노드가 삭제 전 세션을 다시 캐시하지 않는다
+            validationCache.revoke(userId);
         } catch (Exception e) {
             log.error("Session removal error for userId: {}, sessionId: {}", userId, sessionId, e);
             throw new RuntimeException("세션 삭제 중 오류가 발생했습니다.", e);
@@ -145,13 +160,20 @@ public class SessionService {
 
     public void removeAllUserSessions(String userId) {
         try {
+            activityCoalescer.discard(userId);
             sessionStore.deleteAll(userId);
+            validationCache.revoke(userId);
         } catch (Exception e) {
             log.error("Remove all sessions error for userId: {}", userId, e);
             throw new RuntimeException("모든 세션 삭제 중 오류가 발생했습니다.", e);
         }
     }
     
+    private long latestActivity(Session session) {
+        Long pending = activityCoalescer.pendingActivity(session.getUserId(), session.getSessionId());
+        return pending != null ? Math.max(pending, session.getLastActivity()) : session.getLastActivity();
+    }
+    
     void removeSession(String userId) {
         removeSession(userId, null);
     }
@@ -164,6 +186,7 @@ public class SessionService {
                 return null;
             }
 
+            session.setLastActivity(latestActivity(session));
             return toSessionData(session);
         } catch (Exception e) {
             log.error("Get active session error for userId: {}", userId, e);
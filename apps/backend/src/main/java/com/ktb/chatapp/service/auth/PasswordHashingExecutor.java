@@ -0,0 +1,121 @@
+package com.ktb.chatapp.service.auth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 연산을 CPU 코어 수만큼의 스레드와 크기가 제한된 큐에서 처리해
+ * 로그인 폭주 시에도 Tomcat 요청 스레드가 해시 계산에 묶이지 않도록 한다.
+ * 큐가 가득 차면 즉시 RejectedExecutionException 으로 실패한 future 를 반환한다.
+ * 결과는 virtual thread 에서 완료되므로 이후 단계(세션 생성 등 I/O)가 해시 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashingPool;
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration retryAfter;
+    private final Timer queueWaitTimer;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.auth.hashing.threads:0}") int threads,
+            @Value("${chatapp.auth.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${chatapp.auth.hashing.retry-after:1s}") Duration retryAfter) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.retryAfter = retryAfter;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.hashingPool = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time a password hash waited in the hashing queue")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", hashingPool, pool -> pool.getQueue().size())
+                .description("Password hashes waiting in the hashing queue")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 일치 여부를 비동기로 확인한다.
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호를 비동기로 해시한다.
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 큐가 가득 차 거절된 경우 클라이언트에 안내할 재시도 대기 시간
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1L, retryAfter.toSeconds());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdownNow();
+        completionExecutor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        Timer hashTimer = Timer.builder("auth.password.hash.time")
+                .description("Password hash computation time")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        try {
+            hashingPool.execute(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    T value = hashTimer.record(task);
+                    completionExecutor.execute(() -> result.complete(value));
+                } catch (Throwable e) {
+                    completionExecutor.execute(() -> result.completeExceptionally(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("auth.password.rejected", "operation", operation).increment();
+            log.warn("Password hashing queue full, rejecting {} request", operation);
+            return CompletableFuture.failedFuture(e);
+        }
+        return result;
+    }
+}
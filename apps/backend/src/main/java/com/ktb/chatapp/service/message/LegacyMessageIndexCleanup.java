@@ -0,0 +1,56 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.model.Message;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+
+/**
+ * 더 이상 사용하지 않는 messages 인덱스 제거
+ * 자동 인덱스 생성은 새 인덱스를 만들기만 하므로, room_timestamp_id_idx 로 대체된 인덱스는 여기서 제거한다.
+ * 새 인덱스가 만들어진 뒤에만 제거해 조회가 컬렉션 스캔으로 떨어지지 않게 한다.
+ */
+@Slf4j
+@Component
+public class LegacyMessageIndexCleanup implements ApplicationRunner {
+
+    private static final String CURRENT_INDEX = "room_timestamp_id_idx";
+    private static final List<String> LEGACY_INDEXES = List.of("room_isDeleted_timestamp_idx");
+
+    private final MongoTemplate mongoTemplate;
+
+    public LegacyMessageIndexCleanup(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofVirtual().name("legacy-message-index-cleanup").start(() -> {
+            try {
+                dropLegacyIndexes();
+            } catch (Exception e) {
+                log.error("Legacy message index cleanup failed", e);
+            }
+        });
+    }
+
+    void dropLegacyIndexes() {
+        List<String> existing = mongoTemplate.indexOps(Message.class).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .toList();
+        if (!existing.contains(CURRENT_INDEX)) {
+            log.warn("Index {} not found - keeping legacy message indexes", CURRENT_INDEX);
+            return;
+        }
+        for (String legacy : LEGACY_INDEXES) {
+            if (existing.contains(legacy)) {
+                mongoTemplate.indexOps(Message.class).dropIndex(legacy);
+                log.info("Dropped legacy index {}", legacy);
+            }
+        }
+    }
+}
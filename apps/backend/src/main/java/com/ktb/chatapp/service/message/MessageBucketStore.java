@@ -0,0 +1,202 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageBucket;
+import com.ktb.chatapp.model.MessageBucketWatermark;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 메시지 cold storage 버킷 읽기/쓰기
+ * 버킷은 채팅방별로 겹치지 않는 (timestamp, _id) 구간을 가지므로 firstTimestamp 내림차순으로 읽으면
+ * 메시지도 최신순으로 이어진다.
+ *
+ * 채팅방별 경계(watermark) 이하의 메시지는 모두 버킷에 있으므로, 조회는 hot 컬렉션에서 경계보다 최신인 메시지만
+ * 사용하고 나머지는 버킷에서 읽는다. 옮기는 도중 중단되어 hot 컬렉션에 남은 사본은 경계 이하이므로 무시된다.
+ * 경계가 없는 채팅방과 cold storage 를 켜지 않은 경우에는 버킷을 읽지 않는다.
+ */
+@Component
+public class MessageBucketStore {
+
+    private static final TypeReference<List<Message>> MESSAGE_LIST = new TypeReference<>() {
+    };
+    // 버킷 하나가 수백 KB 일 수 있으므로 필요한 만큼만 가져온다
+    private static final int BUCKET_FETCH_SIZE = 2;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration maxAge;
+
+    public MessageBucketStore(
+            MongoTemplate mongoTemplate,
+            ObjectMapper objectMapper,
+            @Value("${chatapp.message.cold-storage.enabled:false}") boolean enabled,
+            @Value("${chatapp.message.cold-storage.max-age:30d}") Duration maxAge) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 메시지보다 이전 메시지가 버킷에 있을 수 있는지. 작업은 항상 max-age 보다 오래된 메시지만 옮기므로
+     * 그보다 최신인 메시지 이전을 조회할 때는 경계를 조회하지 않아도 된다.
+     */
+    public boolean mayHaveColdBefore(Message message) {
+        return enabled && message.getTimestamp().isBefore(LocalDateTime.now().minus(maxAge));
+    }
+
+    /**
+     * 채팅방의 cold storage 경계. 버킷이 없거나 cold storage 를 켜지 않았으면 null.
+     */
+    public MessageCursor watermark(String roomId) {
+        if (!enabled) {
+            return null;
+        }
+        MessageBucketWatermark watermark = mongoTemplate.findById(roomId, MessageBucketWatermark.class);
+        return watermark != null
+                ? new MessageCursor(toEpochMillis(watermark.getTimestamp()), watermark.getMessageId())
+                : null;
+    }
+
+    /**
+     * 메시지가 경계 이하(버킷에 저장됨)인지
+     */
+    public static boolean isCompacted(MessageCursor watermark, Message message) {
+        return watermark != null && (watermark.isAfter(message) || message.getId().equals(watermark.id()));
+    }
+
+    /**
+     * 버킷을 저장한 뒤 경계를 버킷의 마지막 메시지로 옮긴다.
+     */
+    public void advanceWatermark(String roomId, Message last) {
+        mongoTemplate.save(MessageBucketWatermark.builder()
+                .id(roomId)
+                .timestamp(last.getTimestamp())
+                .messageId(last.getId())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 한 시간 구간의 메시지 묶음으로 버킷을 만든다.
+     *
+     * @param messages 같은 채팅방, 같은 시간 구간의 메시지 ((timestamp, _id) 오름차순)
+     */
+    public MessageBucket encode(String roomId, List<Message> messages) {
+        Message first = messages.getFirst();
+        Message last = messages.getLast();
+        return MessageBucket.builder()
+                .id(MessageBucket.idOf(roomId, first.getId()))
+                .roomId(roomId)
+                .hour(first.getTimestamp().truncatedTo(ChronoUnit.HOURS))
+                .firstTimestamp(first.getTimestamp())
+                .firstMessageId(first.getId())
+                .lastTimestamp(last.getTimestamp())
+                .lastMessageId(last.getId())
+                .count(messages.size())
+                .data(compress(messages))
+                .build();
+    }
+
+    /**
+     * 버킷의 메시지를 (timestamp, _id) 오름차순으로 반환한다.
+     */
+    public List<Message> decode(MessageBucket bucket) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bucket.getData()))) {
+            return objectMapper.readValue(in, MESSAGE_LIST);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode message bucket " + bucket.getId(), e);
+        }
+    }
+
+    public void save(MessageBucket bucket) {
+        mongoTemplate.save(bucket);
+    }
+
+    /**
+     * 경계보다 최신인 버킷을 지운다. 경계를 옮기기 전에 중단된 작업이 남긴 버킷으로, 메시지는 아직 hot 컬렉션에 있다.
+     *
+     * @param watermark 채팅방 경계. null 이면 채팅방의 모든 버킷
+     */
+    public void removeAfter(String roomId, MessageCursor watermark) {
+        Criteria criteria = Criteria.where("room").is(roomId);
+        if (watermark != null) {
+            LocalDateTime timestamp = toDateTime(watermark.timestamp());
+            criteria.orOperator(
+                    Criteria.where("firstTimestamp").gt(timestamp),
+                    Criteria.where("firstTimestamp").is(timestamp).and("firstMessageId").gt(watermark.id()));
+        }
+        mongoTemplate.remove(new Query(criteria), MessageBucket.class);
+    }
+
+    /**
+     * before 이전 메시지를 (timestamp, _id) 내림차순으로 지연 조회한다. 호출자가 stream 을 닫아야 한다.
+     * 경계보다 최신인 버킷(경계를 옮기기 전에 중단된 작업의 결과)의 메시지는 hot 컬렉션에도 있으므로
+     * 호출자는 hot 컬렉션의 가장 오래된 메시지를 before 로 넘겨 중복을 피한다.
+     *
+     * @param before 커서. null 이면 가장 최근 버킷부터
+     */
+    public Stream<Message> streamBefore(String roomId, MessageCursor before) {
+        Criteria criteria = Criteria.where("room").is(roomId);
+        if (before != null) {
+            criteria.and("firstTimestamp").lte(toDateTime(before.timestamp()));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "firstTimestamp", "firstMessageId"))
+                .cursorBatchSize(BUCKET_FETCH_SIZE);
+
+        MessageCursor[] position = {before};
+        return mongoTemplate.stream(query, MessageBucket.class)
+                .flatMap(bucket -> decode(bucket).reversed().stream())
+                .filter(message -> {
+                    // 이미 내보낸 위치 이후(중복 포함)는 건너뛴다
+                    if (position[0] != null && !position[0].isAfter(message)) {
+                        return false;
+                    }
+                    position[0] = MessageCursor.of(message);
+                    return true;
+                });
+    }
+
+    private byte[] compress(List<Message> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode message bucket", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
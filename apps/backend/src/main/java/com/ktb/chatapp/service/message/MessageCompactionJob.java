@@ -0,0 +1,259 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageBucket;
+import com.ktb.chatapp.model.Room;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 메시지 cold storage 이동 작업
+ * max-age 보다 오래된 메시지를 채팅방별, 시간별 압축 버킷(message_buckets)으로 옮기고 messages 에서 삭제해
+ * hot 컬렉션의 인덱스와 캐시 크기를 최근 메시지 수준으로 유지한다.
+ * 채팅방마다 가장 오래된 시간 구간부터 옮긴다.
+ *
+ * 묶음마다 버킷 저장, 채팅방 경계(watermark) 이동, 원본 삭제 순으로 진행하므로 어느 단계에서 중단되어도
+ * 메시지를 잃지 않는다. 채팅방을 처리하기 전에 이전 중단이 남긴 경계 이하의 hot 사본과 경계보다 최신인 버킷을
+ * 지워 버킷 구간이 겹치지 않게 하고, 다음 실행은 체크포인트에 기록된 마지막 채팅방 이후부터 이어서 진행한다.
+ * 여러 노드가 같은 채팅방을 동시에 옮기지 않도록 Redis 락을 잡은 노드에서만 실행한다.
+ * 삭제된(isDeleted) 메시지는 조회되지 않으므로 옮기지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = {"chatapp.message.cold-storage.enabled", "chatapp.message.cold-storage.compaction"},
+        havingValue = "true")
+public class MessageCompactionJob {
+
+    private static final String STATE_COLLECTION = "message_compaction_state";
+    private static final String STATE_ID = "rooms";
+    private static final int ROOM_BATCH = 100;
+    private static final String LOCK_KEY = "message-compaction:lock";
+
+    private final MongoTemplate mongoTemplate;
+    private final MessageBucketStore messageBucketStore;
+    private final RedissonClient redissonClient;
+    private final Duration maxAge;
+    private final int maxMessages;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong roomsProcessed = new AtomicLong();
+
+    private final Counter messagesMoved;
+    private final Counter bucketsWritten;
+    private final Counter passesCompleted;
+    private final DistributionSummary bucketBytes;
+
+    public MessageCompactionJob(
+            MongoTemplate mongoTemplate,
+            MessageBucketStore messageBucketStore,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.message.cold-storage.max-age:30d}") Duration maxAge,
+            @Value("${chatapp.message.cold-storage.max-messages:2000}") int maxMessages) {
+        this.mongoTemplate = mongoTemplate;
+        this.messageBucketStore = messageBucketStore;
+        this.redissonClient = redissonClient;
+        this.maxAge = maxAge;
+        this.maxMessages = maxMessages;
+        this.messagesMoved = Counter.builder("messages.compaction.messages")
+                .description("Messages moved into cold storage buckets")
+                .register(meterRegistry);
+        this.bucketsWritten = Counter.builder("messages.compaction.buckets")
+                .description("Cold storage buckets written")
+                .register(meterRegistry);
+        this.passesCompleted = Counter.builder("messages.compaction.passes")
+                .description("Compaction passes completed over all rooms")
+                .register(meterRegistry);
+        this.bucketBytes = DistributionSummary.builder("messages.compaction.bucket.size")
+                .description("Compressed size of written buckets")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("messages.compaction.rooms", roomsProcessed, AtomicLong::get)
+                .description("Rooms processed in the current compaction pass")
+                .register(meterRegistry);
+        Gauge.builder("messages.compaction.running", running, value -> value.get() ? 1 : 0)
+                .description("Whether a compaction pass is in progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스케줄러 스레드를 오래 점유하지 않도록 별도 virtual thread 에서 실행한다.
+     */
+    @Scheduled(initialDelayString = "${chatapp.message.cold-storage.initial-delay:1m}",
+            fixedDelayString = "${chatapp.message.cold-storage.interval:1h}")
+    public void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("message-compaction").start(() -> {
+            try {
+                compactExclusively();
+            } catch (Exception e) {
+                log.error("Message compaction failed - will resume from checkpoint", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * 클러스터에서 한 노드만 실행한다. 락은 실행 중 자동 연장되고 노드가 죽으면 만료된다.
+     *
+     * @return 락을 잡아 실행했는지
+     */
+    boolean compactExclusively() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("Message compaction is running on another node");
+            return false;
+        }
+        try {
+            compact();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge).truncatedTo(ChronoUnit.HOURS);
+        String lastRoomId = loadCheckpoint();
+        if (lastRoomId != null) {
+            log.info("Resuming message compaction after room {}", lastRoomId);
+        }
+        roomsProcessed.set(0);
+
+        long moved = 0;
+        List<Room> rooms;
+        do {
+            rooms = nextRooms(lastRoomId);
+            for (Room room : rooms) {
+                moved += compactRoom(room.getId(), cutoff);
+                lastRoomId = room.getId();
+                saveCheckpoint(lastRoomId);
+                roomsProcessed.incrementAndGet();
+            }
+        } while (rooms.size() == ROOM_BATCH);
+
+        clearCheckpoint();
+        passesCompleted.increment();
+        log.info("Message compaction completed - cutoff: {}, rooms: {}, messages: {}",
+                cutoff, roomsProcessed.get(), moved);
+    }
+
+    /**
+     * 채팅방의 cutoff 이전 메시지를 가장 오래된 시간 구간부터 버킷으로 옮긴다.
+     *
+     * @return 옮긴 메시지 수
+     */
+    long compactRoom(String roomId, LocalDateTime cutoff) {
+        removeInterrupted(roomId);
+        long moved = 0;
+        while (true) {
+            Query oldestQuery = new Query(hot(roomId).and("timestamp").lt(cutoff))
+                    .with(Sort.by(Sort.Direction.ASC, "timestamp", "_id"));
+            oldestQuery.fields().include("timestamp");
+            Message oldest = mongoTemplate.findOne(oldestQuery, Message.class);
+            if (oldest == null) {
+                return moved;
+            }
+
+            // cutoff 가 정시이므로 구간 끝은 cutoff 를 넘지 않는다
+            LocalDateTime hour = oldest.getTimestamp().truncatedTo(ChronoUnit.HOURS);
+            Query chunkQuery = new Query(hot(roomId).and("timestamp").gte(hour).lt(hour.plusHours(1)))
+                    .with(Sort.by(Sort.Direction.ASC, "timestamp", "_id"))
+                    .limit(maxMessages);
+            List<Message> chunk = mongoTemplate.find(chunkQuery, Message.class);
+
+            MessageBucket bucket = messageBucketStore.encode(roomId, chunk);
+            messageBucketStore.save(bucket);
+            // 경계를 옮긴 뒤부터 조회는 이 묶음을 버킷에서 읽으므로, 삭제가 중간에 멈춰도 누락되지 않는다
+            messageBucketStore.advanceWatermark(roomId, chunk.getLast());
+            List<String> ids = chunk.stream().map(Message::getId).toList();
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), Message.class);
+
+            moved += chunk.size();
+            messagesMoved.increment(chunk.size());
+            bucketsWritten.increment();
+            bucketBytes.record(bucket.getData().length);
+            log.debug("Compacted {} messages of room {} at {} into bucket {}",
+                    chunk.size(), roomId, hour, bucket.getId());
+        }
+    }
+
+    /**
+     * 이전 실행이 중단되며 남긴 상태를 정리한다.
+     * 경계 이하의 hot 메시지는 이미 버킷에 있고, 경계보다 최신인 버킷의 메시지는 아직 hot 컬렉션에 있다.
+     */
+    private void removeInterrupted(String roomId) {
+        MessageCursor watermark = messageBucketStore.watermark(roomId);
+        if (watermark != null) {
+            LocalDateTime timestamp = toDateTime(watermark.timestamp());
+            Query leftovers = new Query(hot(roomId).orOperator(
+                    Criteria.where("timestamp").lt(timestamp),
+                    Criteria.where("timestamp").is(timestamp).and("_id").lte(watermark.id())));
+            long removed = mongoTemplate.remove(leftovers, Message.class).getDeletedCount();
+            if (removed > 0) {
+                log.info("Removed {} already compacted messages of room {}", removed, roomId);
+            }
+        }
+        messageBucketStore.removeAfter(roomId, watermark);
+    }
+
+    private List<Room> nextRooms(String lastRoomId) {
+        Query query = new Query(lastRoomId != null ? Criteria.where("_id").gt(lastRoomId) : new Criteria())
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(ROOM_BATCH);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Room.class);
+    }
+
+    private static Criteria hot(String roomId) {
+        return Criteria.where("room").is(roomId).and("isDeleted").is(false);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private String loadCheckpoint() {
+        Document state = mongoTemplate.findById(STATE_ID, Document.class, STATE_COLLECTION);
+        return state != null ? state.getString("lastRoomId") : null;
+    }
+
+    private void saveCheckpoint(String lastRoomId) {
+        mongoTemplate.upsert(
+                new Query(Criteria.where("_id").is(STATE_ID)),
+                new Update().set("lastRoomId", lastRoomId).set("updatedAt", LocalDateTime.now()),
+                STATE_COLLECTION);
+    }
+
+    private void clearCheckpoint() {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(STATE_ID)), STATE_COLLECTION);
+    }
+}
@@ -0,0 +1,225 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 히스토리 스트리밍 출력
+ * 큰 페이지를 목록으로 모으지 않고 MongoDB 커서에서 읽는 대로 JSON 으로 응답 스트림에 쓴다.
+ * 커서를 뒤집으려면 전체를 모아야 하므로 메시지는 최신순(order: desc)으로 쓰고,
+ * 발신자와 읽은 사용자 수는 SENDER_BATCH 개씩 모아 한 번에 조회한다.
+ * hot 컬렉션이 끝나거나 cold storage 경계에 닿으면 버킷에서 이어서 쓴다.
+ * 응답 형식: { success, data: { order, messages, hasMore, nextCursor } }
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageHistoryStreamer {
+
+    private static final int SENDER_BATCH = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final MessageResponseMapper messageResponseMapper;
+    private final MessageReadStatusService messageReadStatusService;
+    private final ObjectMapper objectMapper;
+    private final MessageBucketStore messageBucketStore;
+
+    /**
+     * before 이전 메시지를 최대 limit 개 쓴다.
+     *
+     * @param before 이전 페이지 커서. null 이면 최신 메시지부터
+     */
+    public void write(String roomId, int limit, MessageCursor before, OutputStream out) throws IOException {
+        Query query = historyQuery(roomId, before)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+                .limit(limit + 1);
+
+        try (JsonGenerator json = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeBooleanField("success", true);
+            json.writeObjectFieldStart("data");
+            json.writeStringField("order", "desc");
+            json.writeArrayFieldStart("messages");
+
+            PageWriter page = new PageWriter(json, roomId, limit);
+            // 경계는 hot 메시지가 경계에 닿을 수 있거나 hot 컬렉션이 끝났을 때만 조회한다
+            Watermark watermark = new Watermark(roomId);
+            try (Stream<Message> messages = mongoTemplate.stream(query, Message.class)) {
+                page.writeAll(messages.iterator(), message -> messageBucketStore.mayHaveColdBefore(message)
+                        && MessageBucketStore.isCompacted(watermark.get(), message));
+            }
+            if (!page.hasMore && watermark.get() != null) {
+                // 경계 이하의 hot 메시지는 중단된 작업이 남긴 사본이므로 버킷에서 읽는다
+                MessageCursor coldBefore = page.last != null ? MessageCursor.of(page.last) : before;
+                try (Stream<Message> messages = messageBucketStore.streamBefore(roomId, coldBefore)) {
+                    page.writeAll(messages.iterator(), message -> false);
+                }
+            }
+            page.flush();
+
+            json.writeEndArray();
+            json.writeBooleanField("hasMore", page.hasMore);
+            json.writeStringField("nextCursor", page.hasMore && page.oldest != null
+                    ? MessageCursor.of(page.oldest).encode()
+                    : null);
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * 메시지를 limit 개까지 SENDER_BATCH 단위로 쓴다. 여러 출처의 메시지를 이어서 쓸 수 있다.
+     */
+    private final class PageWriter {
+
+        private final JsonGenerator json;
+        private final String roomId;
+        private final int limit;
+        private final Map<String, User> senders = new HashMap<>();
+        private final List<Message> batch = new ArrayList<>(SENDER_BATCH);
+
+        private int written;
+        private boolean hasMore;
+        private Message last;
+        private MessageResponse oldest;
+
+        private PageWriter(JsonGenerator json, String roomId, int limit) {
+            this.json = json;
+            this.roomId = roomId;
+            this.limit = limit;
+        }
+
+        /**
+         * @param compacted 버킷에서 읽어야 하는 메시지. 만나면 이 출처에서 더 읽지 않는다
+         */
+        private void writeAll(Iterator<Message> messages, Predicate<Message> compacted) throws IOException {
+            while (messages.hasNext()) {
+                Message message = messages.next();
+                if (written + batch.size() == limit) {
+                    // limit + 1 번째 메시지는 다음 페이지 존재 여부 확인용이다
+                    hasMore = true;
+                    return;
+                }
+                if (compacted.test(message)) {
+                    return;
+                }
+                batch.add(message);
+                last = message;
+                if (batch.size() == SENDER_BATCH) {
+                    flush();
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            if (batch.isEmpty()) {
+                return;
+            }
+            oldest = writeBatch(json, roomId, batch, senders);
+            written += batch.size();
+            batch.clear();
+        }
+    }
+
+    /**
+     * 채팅방의 cold storage 경계를 처음 필요할 때 한 번만 조회한다.
+     */
+    private final class Watermark {
+
+        private final String roomId;
+        private boolean loaded;
+        private MessageCursor value;
+
+        private Watermark(String roomId) {
+            this.roomId = roomId;
+        }
+
+        private MessageCursor get() {
+            if (!loaded) {
+                value = messageBucketStore.watermark(roomId);
+                loaded = true;
+            }
+            return value;
+        }
+    }
+
+    private MessageResponse writeBatch(
+            JsonGenerator json,
+            String roomId,
+            List<Message> batch,
+            Map<String, User> senders) throws IOException {
+        Set<String> missing = batch.stream()
+                .map(Message::getSenderId)
+                .filter(Objects::nonNull)
+                .filter(senderId -> !senders.containsKey(senderId))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            userRepository.findAllById(missing).forEach(user -> senders.put(user.getId(), user));
+        }
+
+        List<MessageResponse> responses = batch.stream()
+                .map(message -> messageResponseMapper.mapToMessageResponse(message, senders.get(message.getSenderId())))
+                .toList();
+        Map<Long, Integer> readCounts = messageReadStatusService.countReaders(roomId,
+                responses.stream().map(MessageResponse::getTimestamp).toList());
+        for (MessageResponse response : responses) {
+            messageResponseMapper.applyReadCount(response, readCounts.getOrDefault(response.getTimestamp(), 0));
+            json.writeObject(response);
+        }
+        // 배치마다 내보내 첫 바이트가 전체 조회를 기다리지 않게 한다
+        json.flush();
+        return responses.getLast();
+    }
+
+    private static Query historyQuery(String roomId, MessageCursor before) {
+        Criteria criteria = Criteria.where("room").is(roomId).and("isDeleted").is(false);
+        if (before == null) {
+            criteria.and("timestamp").lt(LocalDateTime.now());
+        } else if (before.id() == null) {
+            criteria.and("timestamp").lt(toDateTime(before.timestamp()));
+        } else {
+            LocalDateTime timestamp = toDateTime(before.timestamp());
+            criteria.orOperator(
+                    Criteria.where("timestamp").lt(timestamp),
+                    Criteria.where("timestamp").is(timestamp).and("_id").lt(new ObjectId(before.id())));
+        }
+        return new BasicQuery(criteria.getCriteriaObject(), Document.parse(MessageRepository.HISTORY_FIELDS));
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
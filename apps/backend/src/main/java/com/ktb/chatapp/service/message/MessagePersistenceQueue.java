@@ -0,0 +1,221 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.model.Message;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 write-behind 영속화 큐
+ * 소켓 워커 스레드는 메시지를 큐에 넣고 Future만 받아간다.
+ * 전용 flusher 스레드가 배치 크기 또는 flush 대기 시간 중 먼저 도달한 조건으로
+ * Mongo bulkWrite 그룹 커밋을 수행하고 메시지별 Future를 완료시킨다.
+ */
+@Slf4j
+@Component
+public class MessagePersistenceQueue {
+
+    /**
+     * 브로드캐스트와 커밋의 순서
+     * WAIT_FOR_COMMIT: 커밋 완료 후 브로드캐스트 (기본값)
+     * BROADCAST_THEN_COMMIT: 브로드캐스트 후 비동기 커밋, 실패 시 발신자에게만 통보
+     */
+    public enum DurabilityMode {
+        WAIT_FOR_COMMIT,
+        BROADCAST_THEN_COMMIT
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final DurabilityMode durabilityMode;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushSuccessTimer;
+    private final Timer flushFailureTimer;
+    private final Counter overflowCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public MessagePersistenceQueue(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.message.persistence.queue-capacity:10000}") int queueCapacity,
+            @Value("${chatapp.message.persistence.batch-size:200}") int batchSize,
+            @Value("${chatapp.message.persistence.flush-interval:5ms}") Duration flushInterval,
+            @Value("${chatapp.message.persistence.durability:WAIT_FOR_COMMIT}") DurabilityMode durabilityMode) {
+        this.mongoTemplate = mongoTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.durabilityMode = durabilityMode;
+
+        Gauge.builder("messages.persistence.queue.depth", queue, BlockingQueue::size)
+                .description("Messages waiting for write-behind persistence")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("messages.persistence.batch.size")
+                .description("Messages per bulkWrite group commit")
+                .register(meterRegistry);
+        this.flushSuccessTimer = Timer.builder("messages.persistence.flush.time")
+                .description("bulkWrite group commit latency")
+                .tag("status", "success")
+                .register(meterRegistry);
+        this.flushFailureTimer = Timer.builder("messages.persistence.flush.time")
+                .description("bulkWrite group commit latency")
+                .tag("status", "error")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("messages.persistence.overflow")
+                .description("Messages saved synchronously because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("message-persistence-flusher")
+                .daemon(true)
+                .start(this::runFlushLoop);
+        log.info("Message persistence queue started - batchSize: {}, flushInterval: {}, durability: {}",
+                batchSize, flushInterval, durabilityMode);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            // 남은 메시지는 flusher가 모두 커밋한 뒤 종료한다
+            flusher.join(Duration.ofSeconds(10));
+        }
+    }
+
+    public boolean isWaitForCommit() {
+        return durabilityMode == DurabilityMode.WAIT_FOR_COMMIT;
+    }
+
+    /**
+     * 메시지를 영속화 큐에 넣는다.
+     * ID를 미리 발급하므로 커밋 전에도 브로드캐스트에 사용할 수 있다.
+     *
+     * @param message 저장할 메시지
+     * @return 커밋이 끝나면 완료되는 Future
+     */
+    public CompletableFuture<Message> submit(Message message) {
+        if (message.getId() == null) {
+            message.setId(new ObjectId().toHexString());
+        }
+
+        PendingWrite write = new PendingWrite(message, new CompletableFuture<>());
+        if (running && queue.offer(write)) {
+            return write.future();
+        }
+
+        // 큐가 가득 차면 호출 스레드에서 직접 저장해 자연스럽게 backpressure를 건다
+        overflowCounter.increment();
+        try {
+            return CompletableFuture.completedFuture(mongoTemplate.save(message));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void runFlushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(flushInterval.toMillis() + 1, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in message persistence flusher", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치가 가득 차거나 flush 대기 시간이 지날 때까지 큐에서 메시지를 모은다.
+     */
+    private void fillBatch(List<PendingWrite> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        batchSizeSummary.record(batch.size());
+        long start = System.nanoTime();
+        try {
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class);
+            bulkOps.insert(batch.stream().map(PendingWrite::message).toList());
+            bulkOps.execute();
+
+            flushSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batch.forEach(write -> write.future().complete(write.message()));
+        } catch (BulkOperationException e) {
+            flushFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            // UNORDERED 모드에서는 실패한 인덱스를 제외한 나머지는 이미 커밋되었다
+            Set<Integer> failedIndexes = e.getErrors().stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            log.error("Message bulk insert partially failed - failed: {}, batch: {}",
+                    failedIndexes.size(), batch.size(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                PendingWrite write = batch.get(i);
+                if (failedIndexes.contains(i)) {
+                    write.future().completeExceptionally(e);
+                } else {
+                    write.future().complete(write.message());
+                }
+            }
+        } catch (Exception e) {
+            flushFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.error("Message bulk insert failed - batch: {}", batch.size(), e);
+            batch.forEach(write -> write.future().completeExceptionally(e));
+        }
+    }
+
+    private record PendingWrite(Message message, CompletableFuture<Message> future) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.ReadCursor;
+import java.util.Date;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 messages.readers 배열을 read_cursors 로 옮기는 일회성 마이그레이션
+ * (room, user) 별로 읽은 메시지 중 가장 최근 메시지를 읽음 위치로 upsert 한 뒤
+ * readers 필드와 readers_userId_idx 인덱스를 제거한다.
+ * 이미 옮긴 데이터는 다시 매칭되지 않으므로 여러 노드가 동시에 실행해도 안전하다.
+ * 기동을 막지 않도록 별도 virtual thread 에서 수행한다.
+ * 완료되면 migrations 컬렉션에 기록을 남겨, 인덱스가 제거된 뒤 readers 존재 여부를 다시 확인하느라
+ * messages 전체를 스캔하지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chatapp.read-cursor.migrate-readers", havingValue = "true")
+public class ReadCursorMigration implements ApplicationRunner {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final String LEGACY_INDEX = "readers_userId_idx";
+    private static final int BULK_SIZE = 1000;
+    private static final String MIGRATIONS_COLLECTION = "migrations";
+    private static final String MIGRATION_ID = "read-cursor-readers";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ReadCursorMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofVirtual().name("read-cursor-migration").start(() -> {
+            try {
+                migrate();
+            } catch (Exception e) {
+                log.error("Read cursor migration failed", e);
+            }
+        });
+    }
+
+    void migrate() {
+        Query completed = new Query(Criteria.where("_id").is(MIGRATION_ID));
+        if (mongoTemplate.exists(completed, MIGRATIONS_COLLECTION)) {
+            log.debug("Read cursor migration already completed");
+            return;
+        }
+        migrateReaders();
+        mongoTemplate.upsert(completed, new Update().set("completedAt", new Date()), MIGRATIONS_COLLECTION);
+    }
+
+    private void migrateReaders() {
+        Criteria hasReaders = Criteria.where("readers.0").exists(true);
+        if (!mongoTemplate.exists(new Query(hasReaders), Message.class)) {
+            dropLegacyIndex();
+            return;
+        }
+
+        // 최신 메시지부터 펼쳐서 (room, user) 별 첫 항목이 가장 최근에 읽은 메시지가 되도록 한다
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(hasReaders),
+                Aggregation.project("room", "timestamp", "readers"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "timestamp")),
+                Aggregation.unwind("readers"),
+                Aggregation.group(Fields.from(
+                                Fields.field("room", "room"),
+                                Fields.field("userId", "readers.userId")))
+                        .first("_id").as("lastReadMessageId")
+                        .first("timestamp").as("lastReadTimestamp")
+                        .max("readers.readAt").as("readAt")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long migrated = 0;
+        BulkOperations bulk = newBulk();
+        int pending = 0;
+        try (Stream<Document> cursors = mongoTemplate.aggregateStream(aggregation, Message.class, Document.class)) {
+            for (Document cursor : (Iterable<Document>) cursors::iterator) {
+                addUpsert(bulk, cursor);
+                if (++pending == BULK_SIZE) {
+                    migrated += execute(bulk, pending);
+                    bulk = newBulk();
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            migrated += execute(bulk, pending);
+        }
+
+        long cleared = mongoTemplate.updateMulti(
+                new Query(Criteria.where("readers").exists(true)),
+                new Update().unset("readers"),
+                Message.class).getModifiedCount();
+        dropLegacyIndex();
+
+        log.info("Read cursor migration completed - cursors: {}, messages cleared: {}", migrated, cleared);
+    }
+
+    private void addUpsert(BulkOperations bulk, Document cursor) {
+        Document id = cursor.get("_id", Document.class);
+        Date lastReadTimestamp = cursor.getDate("lastReadTimestamp");
+        // 이미 더 앞선 읽음 위치가 있으면 매칭되지 않고, upsert 는 unique 인덱스에 걸려 무시된다
+        Query query = new Query(Criteria.where("room").is(id.getString("room"))
+                .and("user").is(id.getString("userId"))
+                .and("lastReadTimestamp").lt(lastReadTimestamp));
+        Update update = new Update()
+                .set("lastReadTimestamp", lastReadTimestamp)
+                .set("lastReadMessageId", cursor.get("lastReadMessageId").toString())
+                .set("readAt", cursor.get("readAt") != null ? cursor.getDate("readAt") : lastReadTimestamp);
+        bulk.upsert(query, update);
+    }
+
+    private long execute(BulkOperations bulk, int size) {
+        try {
+            bulk.execute();
+            return size;
+        } catch (BulkOperationException e) {
+            // 중복 키 오류는 이미 더 앞선 읽음 위치가 있는 경우이다.
+            // 그 밖의 오류는 readers 를 지우기 전에 중단해 다음 기동 때 다시 옮길 수 있게 한다
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY_ERROR)) {
+                throw e;
+            }
+            return size - e.getErrors().size();
+        }
+    }
+
+    private BulkOperations newBulk() {
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadCursor.class);
+    }
+
+    private void dropLegacyIndex() {
+        boolean exists = mongoTemplate.indexOps(Message.class).getIndexInfo().stream()
+                .anyMatch(index -> LEGACY_INDEX.equals(index.getName()));
+        if (exists) {
+            mongoTemplate.indexOps(Message.class).dropIndex(LEGACY_INDEX);
+            log.info("Dropped legacy index {}", LEGACY_INDEX);
+        }
+    }
+}
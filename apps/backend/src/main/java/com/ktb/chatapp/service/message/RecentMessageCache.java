@@ -0,0 +1,427 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 채팅방 최근 메시지 ring buffer
+ * 입장/재연결/첫 페이지 조회가 매번 MongoDB 범위 조회를 하지 않도록 방마다 최신 메시지 응답을 per-room 개수만큼 보관한다.
+ * 방은 첫 조회 시 MongoDB 결과로 채워지고(prime), 이후 저장되는 메시지는 Redis pub/sub으로 모든 노드의 버퍼에 추가된다.
+ * 오래 조회되지 않은 방은 제거하고, 전체 추정 메모리가 memory-budget 을 넘으면 가장 오래 조회되지 않은 방부터 제거한다.
+ * 보관하는 응답에는 읽은 사용자(readers)가 없으며 조회 시 읽음 위치로 채운다.
+ * 저장 경로의 변경은 노드 간 공유되는 RedisRoomTail 에도 함께 기록한다.
+ */
+@Slf4j
+@Component
+public class RecentMessageCache implements MessageListener {
+
+    static final String CHANNEL = "room:recent-messages";
+
+    // MongoDB 커서 순서와 같은 (timestamp, _id) 순서
+    private static final Comparator<MessageResponse> PAGE_ORDER = Comparator
+            .comparingLong(MessageResponse::getTimestamp)
+            .thenComparing(MessageResponse::getId);
+
+    enum Operation {
+        APPEND,
+        REACTIONS,
+        REMOVE
+    }
+
+    record RecentMessageEvent(
+            String origin,
+            Operation operation,
+            String roomId,
+            String messageId,
+            MessageResponse message,
+            Map<String, Set<String>> reactions) {
+    }
+
+    /**
+     * @param messages 오래된 순으로 정렬된 메시지 (호출자가 수정해도 되는 복사본)
+     * @param hasMore  더 오래된 메시지가 있는지 여부
+     */
+    public record RecentPage(List<MessageResponse> messages, boolean hasMore) {
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisRoomTail redisRoomTail;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+    private final int perRoom;
+    private final long memoryBudget;
+    private final long maxAgeMillis;
+    private final long idleTimeoutMillis;
+
+    private final ConcurrentHashMap<String, RoomTail> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public RecentMessageCache(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            RedisRoomTail redisRoomTail,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.message.recent-cache.per-room:50}") int perRoom,
+            @Value("${chatapp.message.recent-cache.memory-budget:64MB}") DataSize memoryBudget,
+            @Value("${chatapp.message.recent-cache.max-age:5m}") Duration maxAge,
+            @Value("${chatapp.message.recent-cache.idle-timeout:10m}") Duration idleTimeout) {
+        this(stringRedisTemplate, listenerContainer, redisRoomTail, objectMapper, meterRegistry,
+                perRoom, memoryBudget, maxAge, idleTimeout, System::currentTimeMillis);
+    }
+
+    RecentMessageCache(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            RedisRoomTail redisRoomTail,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            int perRoom,
+            DataSize memoryBudget,
+            Duration maxAge,
+            Duration idleTimeout,
+            LongSupplier clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisRoomTail = redisRoomTail;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.perRoom = Math.max(1, perRoom);
+        this.memoryBudget = memoryBudget.toBytes();
+        this.maxAgeMillis = maxAge.toMillis();
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+
+        this.hitCounter = Counter.builder("messages.recent.cache")
+                .description("First page lookups in the recent message cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("messages.recent.cache")
+                .description("First page lookups in the recent message cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("messages.recent.cache.evictions")
+                .description("Rooms evicted from the recent message cache")
+                .register(meterRegistry);
+        Gauge.builder("messages.recent.cache.rooms", rooms, Map::size)
+                .description("Rooms held in the recent message cache")
+                .register(meterRegistry);
+        Gauge.builder("messages.recent.cache.bytes", estimatedBytes, AtomicLong::get)
+                .description("Estimated memory held by the recent message cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 방마다 보관하는 최대 메시지 수. 첫 페이지를 MongoDB 에서 읽을 때 이만큼 읽어 버퍼를 채운다.
+     */
+    public int capacity() {
+        return perRoom;
+    }
+
+    /**
+     * 최신 메시지 limit 개를 반환한다. 버퍼가 채워지지 않았거나 부족하면 null.
+     */
+    public RecentPage firstPage(String roomId, int limit) {
+        long now = clock.getAsLong();
+        RoomTail tail = rooms.get(roomId);
+        RecentPage page = tail != null ? tail.page(limit, now) : null;
+        (page != null ? hitCounter : missCounter).increment();
+        return page;
+    }
+
+    /**
+     * MongoDB 조회 전에 호출한다. 조회 중에 저장된 메시지도 버퍼에 모이도록 방을 등록한다.
+     */
+    public void beginLoad(String roomId) {
+        long now = clock.getAsLong();
+        RoomTail tail = rooms.computeIfAbsent(roomId, key -> new RoomTail());
+        tail.resetIfExpired(now);
+    }
+
+    /**
+     * MongoDB 에서 읽은 최신 메시지로 버퍼를 채운다.
+     *
+     * @param messages 오래된 순으로 정렬된 최신 메시지
+     * @param hasOlder 더 오래된 메시지가 있는지 여부
+     */
+    public void prime(String roomId, List<MessageResponse> messages, boolean hasOlder) {
+        RoomTail tail = rooms.get(roomId);
+        if (tail == null) {
+            return;
+        }
+        tail.prime(messages, hasOlder, clock.getAsLong());
+        enforceBudget();
+    }
+
+    /**
+     * 저장된 메시지를 공유 tail 과 모든 노드의 버퍼에 추가한다.
+     */
+    public void append(MessageResponse message) {
+        redisRoomTail.append(message);
+        applyAppend(message.getRoomId(), copy(message));
+        publish(new RecentMessageEvent(nodeId, Operation.APPEND, message.getRoomId(), message.getId(), message, null));
+    }
+
+    public void updateReactions(String roomId, String messageId, Map<String, Set<String>> reactions) {
+        redisRoomTail.updateReactions(roomId, messageId, reactions);
+        applyReactions(roomId, messageId, reactions);
+        publish(new RecentMessageEvent(nodeId, Operation.REACTIONS, roomId, messageId, null, reactions));
+    }
+
+    /**
+     * 저장에 실패한 메시지를 버퍼에서 제거한다.
+     */
+    public void remove(String roomId, String messageId) {
+        redisRoomTail.remove(roomId, messageId);
+        applyRemove(roomId, messageId);
+        publish(new RecentMessageEvent(nodeId, Operation.REMOVE, roomId, messageId, null, null));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RecentMessageEvent event = objectMapper.readValue(message.getBody(), RecentMessageEvent.class);
+            if (nodeId.equals(event.origin())) {
+                return;
+            }
+            switch (event.operation()) {
+                case APPEND -> applyAppend(event.roomId(), event.message());
+                case REACTIONS -> applyReactions(event.roomId(), event.messageId(), event.reactions());
+                case REMOVE -> applyRemove(event.roomId(), event.messageId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply recent message event", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chatapp.message.recent-cache.idle-timeout:10m}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        rooms.forEach((roomId, tail) -> {
+            if (now - tail.lastAccess > idleTimeoutMillis) {
+                evict(roomId, tail);
+            }
+        });
+    }
+
+    private void applyAppend(String roomId, MessageResponse message) {
+        RoomTail tail = rooms.get(roomId);
+        if (tail == null) {
+            return;
+        }
+        tail.add(message);
+        enforceBudget();
+    }
+
+    private void applyReactions(String roomId, String messageId, Map<String, Set<String>> reactions) {
+        RoomTail tail = rooms.get(roomId);
+        if (tail != null) {
+            tail.setReactions(messageId, reactions);
+        }
+    }
+
+    private void applyRemove(String roomId, String messageId) {
+        RoomTail tail = rooms.get(roomId);
+        if (tail != null) {
+            tail.remove(messageId);
+        }
+    }
+
+    private void publish(RecentMessageEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 max-age 경과 후 MongoDB 에서 다시 채운다
+            log.warn("Failed to publish recent message event - roomId: {}", event.roomId(), e);
+        }
+    }
+
+    private void enforceBudget() {
+        if (estimatedBytes.get() <= memoryBudget) {
+            return;
+        }
+        // 가장 오래 조회되지 않은 방부터 제거한다
+        List<Map.Entry<String, RoomTail>> entries = new ArrayList<>(rooms.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (Map.Entry<String, RoomTail> entry : entries) {
+            if (estimatedBytes.get() <= memoryBudget) {
+                break;
+            }
+            evict(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void evict(String roomId, RoomTail tail) {
+        if (rooms.remove(roomId, tail)) {
+            tail.evict();
+            evictionCounter.increment();
+        }
+    }
+
+    private static MessageResponse copy(MessageResponse message) {
+        return message.toBuilder().readers(null).readCount(null).build();
+    }
+
+    static long estimateBytes(MessageResponse message) {
+        long bytes = 256;
+        if (message.getContent() != null) {
+            bytes += 2L * message.getContent().length();
+        }
+        if (message.getFile() != null) {
+            bytes += 256;
+        }
+        if (message.getMetadata() != null) {
+            bytes += 64L * message.getMetadata().size();
+        }
+        return bytes;
+    }
+
+    /**
+     * 한 방의 최신 메시지. 모든 변경은 인스턴스 모니터 안에서 수행한다(블로킹 호출 없음).
+     */
+    private final class RoomTail {
+
+        // 오래된 순으로 정렬
+        private final List<MessageResponse> messages = new ArrayList<>();
+        private boolean primed;
+        private boolean hasOlder;
+        // 맵에서 제거된 뒤 늦게 도착한 추가가 estimatedBytes 에 반영되지 않도록 한다
+        private boolean evicted;
+        private long primedAt;
+        private volatile long lastAccess = clock.getAsLong();
+
+        private synchronized RecentPage page(int limit, long now) {
+            lastAccess = now;
+            if (!primed || now - primedAt > maxAgeMillis) {
+                return null;
+            }
+            int size = messages.size();
+            if (size < limit && hasOlder) {
+                return null;
+            }
+            List<MessageResponse> page = new ArrayList<>(Math.min(limit, size));
+            for (MessageResponse message : messages.subList(Math.max(0, size - limit), size)) {
+                page.add(copy(message));
+            }
+            return new RecentPage(page, size > limit || hasOlder);
+        }
+
+        private synchronized void resetIfExpired(long now) {
+            lastAccess = now;
+            if (primed && now - primedAt > maxAgeMillis) {
+                clear();
+            }
+        }
+
+        private synchronized void prime(List<MessageResponse> loaded, boolean older, long now) {
+            for (MessageResponse message : loaded) {
+                insert(copy(message));
+            }
+            hasOlder |= older;
+            primed = true;
+            primedAt = now;
+        }
+
+        private synchronized void add(MessageResponse message) {
+            insert(message);
+        }
+
+        private synchronized void setReactions(String messageId, Map<String, Set<String>> reactions) {
+            for (int i = messages.size() - 1; i >= 0; i--) {
+                MessageResponse message = messages.get(i);
+                if (message.getId().equals(messageId)) {
+                    // 반환된 복사본과 공유되지 않도록 새 응답으로 교체한다
+                    messages.set(i, message.toBuilder().reactions(reactions).build());
+                    return;
+                }
+            }
+        }
+
+        private synchronized void remove(String messageId) {
+            for (int i = messages.size() - 1; i >= 0; i--) {
+                if (messages.get(i).getId().equals(messageId)) {
+                    release(messages.remove(i));
+                    return;
+                }
+            }
+        }
+
+        private synchronized void evict() {
+            evicted = true;
+            clear();
+        }
+
+        private synchronized void clear() {
+            messages.forEach(this::release);
+            messages.clear();
+            primed = false;
+            hasOlder = false;
+        }
+
+        private void insert(MessageResponse message) {
+            if (evicted) {
+                return;
+            }
+            for (MessageResponse existing : messages) {
+                if (existing.getId().equals(message.getId())) {
+                    return;
+                }
+            }
+            // 대부분 최신 메시지이므로 뒤에서부터 위치를 찾는다
+            int index = messages.size();
+            while (index > 0 && PAGE_ORDER.compare(messages.get(index - 1), message) > 0) {
+                index--;
+            }
+            if (index == 0 && hasOlder && messages.size() >= perRoom) {
+                // 버퍼보다 오래된 메시지는 보관하지 않는다
+                return;
+            }
+            messages.add(index, message);
+            estimatedBytes.addAndGet(estimateBytes(message));
+            while (messages.size() > perRoom) {
+                release(messages.removeFirst());
+                hasOlder = true;
+            }
+        }
+
+        private void release(MessageResponse message) {
+            estimatedBytes.addAndGet(-estimateBytes(message));
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.service.message.RecentMessageCache.RecentPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 공유되는 채팅방 최근 메시지 tail
+ * 노드별 RecentMessageCache 에 없는 방도 MongoDB 를 거치지 않고 최신 페이지를 응답할 수 있도록
+ * 방마다 직렬화된 MessageResponse 를 Redis 에 size 개까지 보관한다.
+ * <ul>
+ *   <li>room-tail:{roomId}:ids - timestamp 를 score 로 하는 메시지 ID sorted set</li>
+ *   <li>room-tail:{roomId}:data - m:{id} 메시지 JSON, r:{id} 변경된 리액션 JSON, older 잘려 나간 메시지 존재 여부</li>
+ *   <li>room-tail:{roomId}:primed - MongoDB 에서 채운 tail 임을 나타내며 max-age 후 만료되어 다시 채우게 한다</li>
+ * </ul>
+ * 저장 경로는 방이 채워졌는지와 관계없이 항상 추가하므로, MongoDB 조회와 동시에 저장된 메시지도 prime 시 합쳐진다.
+ */
+@Slf4j
+@Component
+public class RedisRoomTail {
+
+    private static final String KEY_PREFIX = "room-tail:{";
+
+    /**
+     * KEYS[1] = ids, KEYS[2] = data, ARGV[1] = 최대 보관 수, ARGV[2] = TTL(ms), ARGV[3..] = (id, score, JSON) 반복
+     * 이미 있는 메시지는 덮어쓰지 않으므로 prime 과 append 순서와 관계없이 결과가 같다.
+     */
+    private static final String TRIM = """
+            local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[1])
+            if excess > 0 then
+                local removed = redis.call('ZRANGE', KEYS[1], 0, excess - 1)
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, excess - 1)
+                for _, id in ipairs(removed) do
+                    redis.call('HDEL', KEYS[2], 'm:' .. id, 'r:' .. id)
+                end
+                redis.call('HSET', KEYS[2], 'older', '1')
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            """;
+
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            for i = 3, #ARGV, 3 do
+                if redis.call('HSETNX', KEYS[2], 'm:' .. ARGV[i], ARGV[i + 2]) == 1 then
+                    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+                end
+            end
+            """ + TRIM + """
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = ids, KEYS[2] = data, KEYS[3] = primed, ARGV[1] = 최대 보관 수, ARGV[2] = TTL(ms),
+     * ARGV[3] = max-age(ms), ARGV[4] = 더 오래된 메시지 존재 여부, ARGV[5..] = (id, score, JSON) 반복
+     */
+    private static final RedisScript<Long> PRIME_SCRIPT = new DefaultRedisScript<>("""
+            for i = 5, #ARGV, 3 do
+                if redis.call('HSETNX', KEYS[2], 'm:' .. ARGV[i], ARGV[i + 2]) == 1 then
+                    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+                end
+            end
+            if ARGV[4] == '1' then
+                redis.call('HSET', KEYS[2], 'older', '1')
+            end
+            redis.call('SET', KEYS[3], '1', 'PX', ARGV[3])
+            """ + TRIM + """
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = ids, KEYS[2] = data, KEYS[3] = primed, ARGV[1] = limit
+     * 반환: {} (채워지지 않음) 또는 {older, 전체 개수, 최신순 (메시지 JSON, 리액션 JSON 또는 '') 반복}
+     */
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<String>> PAGE_SCRIPT = (RedisScript<List<String>>) (RedisScript<?>)
+            new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 0 then
+                return {}
+            end
+            local result = {redis.call('HGET', KEYS[2], 'older') or '0', tostring(redis.call('ZCARD', KEYS[1]))}
+            local ids = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            for _, id in ipairs(ids) do
+                local values = redis.call('HMGET', KEYS[2], 'm:' .. id, 'r:' .. id)
+                table.insert(result, values[1] or '')
+                table.insert(result, values[2] or '')
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS[1] = data, ARGV[1] = 메시지 ID, ARGV[2] = 리액션 JSON
+     */
+    private static final RedisScript<Long> REACTIONS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], 'm:' .. ARGV[1]) == 1 then
+                redis.call('HSET', KEYS[1], 'r:' .. ARGV[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] = ids, KEYS[2] = data, ARGV[1] = 메시지 ID
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            return redis.call('HDEL', KEYS[2], 'm:' .. ARGV[1], 'r:' .. ARGV[1])
+            """, Long.class);
+
+    private static final TypeReference<Map<String, Set<String>>> REACTIONS_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int size;
+    private final String maxAgeMillis;
+    private final String ttlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RedisRoomTail(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.message.room-tail.size:100}") int size,
+            @Value("${chatapp.message.room-tail.max-age:10m}") Duration maxAge,
+            @Value("${chatapp.message.room-tail.ttl:1h}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.size = Math.max(1, size);
+        this.maxAgeMillis = String.valueOf(maxAge.toMillis());
+        this.ttlMillis = String.valueOf(ttl.toMillis());
+
+        this.hitCounter = Counter.builder("messages.room.tail")
+                .description("First page lookups in the shared Redis room tail")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("messages.room.tail")
+                .description("First page lookups in the shared Redis room tail")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방마다 보관하는 최대 메시지 수. 첫 페이지를 MongoDB 에서 읽을 때 이만큼 읽어 tail 을 채운다.
+     */
+    public int capacity() {
+        return size;
+    }
+
+    /**
+     * 최신 메시지 limit 개를 오래된 순으로 반환한다. tail 이 채워지지 않았거나 부족하거나 Redis 오류 시 null.
+     */
+    public RecentPage firstPage(String roomId, int limit) {
+        try {
+            List<String> result = stringRedisTemplate.execute(
+                    PAGE_SCRIPT, keys(roomId, true), String.valueOf(limit));
+            RecentPage page = result == null || result.isEmpty() ? null : toPage(result, limit);
+            (page != null ? hitCounter : missCounter).increment();
+            return page;
+        } catch (Exception e) {
+            log.warn("Failed to read room tail - roomId: {}", roomId, e);
+            missCounter.increment();
+            return null;
+        }
+    }
+
+    /**
+     * MongoDB 에서 읽은 최신 메시지로 tail 을 채운다.
+     *
+     * @param messages 오래된 순으로 정렬된 최신 메시지
+     * @param hasOlder 더 오래된 메시지가 있는지 여부
+     */
+    public void prime(String roomId, List<MessageResponse> messages, boolean hasOlder) {
+        try {
+            List<String> args = new ArrayList<>(5 + messages.size() * 3);
+            args.add(String.valueOf(size));
+            args.add(ttlMillis);
+            args.add(maxAgeMillis);
+            args.add(hasOlder ? "1" : "0");
+            for (MessageResponse message : messages) {
+                addMessageArgs(args, message);
+            }
+            stringRedisTemplate.execute(PRIME_SCRIPT, keys(roomId, true), args.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to prime room tail - roomId: {}", roomId, e);
+        }
+    }
+
+    /**
+     * 저장된 메시지를 tail 에 추가한다.
+     */
+    public void append(MessageResponse message) {
+        try {
+            List<String> args = new ArrayList<>(5);
+            args.add(String.valueOf(size));
+            args.add(ttlMillis);
+            addMessageArgs(args, message);
+            stringRedisTemplate.execute(APPEND_SCRIPT, keys(message.getRoomId(), false), args.toArray());
+        } catch (Exception e) {
+            // 누락된 메시지는 max-age 경과 후 MongoDB 에서 다시 채워진다
+            log.warn("Failed to append to room tail - roomId: {}, messageId: {}",
+                    message.getRoomId(), message.getId(), e);
+        }
+    }
+
+    /**
+     * tail 에 있는 메시지의 리액션을 교체한다. 메시지 JSON 은 그대로 두고 리액션만 별도 필드에 저장한다.
+     */
+    public void updateReactions(String roomId, String messageId, Map<String, Set<String>> reactions) {
+        try {
+            stringRedisTemplate.execute(REACTIONS_SCRIPT, List.of(dataKey(roomId)),
+                    messageId, objectMapper.writeValueAsString(reactions));
+        } catch (Exception e) {
+            log.warn("Failed to update room tail reactions - roomId: {}, messageId: {}", roomId, messageId, e);
+        }
+    }
+
+    /**
+     * 저장에 실패한 메시지를 tail 에서 제거한다.
+     */
+    public void remove(String roomId, String messageId) {
+        try {
+            stringRedisTemplate.execute(REMOVE_SCRIPT, keys(roomId, false), messageId);
+        } catch (Exception e) {
+            log.warn("Failed to remove from room tail - roomId: {}, messageId: {}", roomId, messageId, e);
+        }
+    }
+
+    private RecentPage toPage(List<String> result, int limit) throws Exception {
+        boolean older = "1".equals(result.get(0));
+        int count = Integer.parseInt(result.get(1));
+        if (count < limit && older) {
+            return null;
+        }
+        List<MessageResponse> messages = new ArrayList<>((result.size() - 2) / 2);
+        for (int i = result.size() - 2; i >= 2; i -= 2) {
+            String json = result.get(i);
+            if (json.isEmpty()) {
+                // 조회 도중 잘려 나간 메시지가 있으면 MongoDB 에서 읽는다
+                return null;
+            }
+            MessageResponse message = objectMapper.readValue(json, MessageResponse.class);
+            String reactions = result.get(i + 1);
+            if (!reactions.isEmpty()) {
+                message.setReactions(objectMapper.readValue(reactions, REACTIONS_TYPE));
+            }
+            messages.add(message);
+        }
+        return new RecentPage(messages, count > limit || older);
+    }
+
+    private void addMessageArgs(List<String> args, MessageResponse message) throws Exception {
+        args.add(message.getId());
+        args.add(String.valueOf(message.getTimestamp()));
+        // 읽은 사용자는 조회 시 읽음 위치로 계산하므로 저장하지 않는다
+        args.add(objectMapper.writeValueAsString(message.toBuilder().readers(null).readCount(null).build()));
+    }
+
+    private static List<String> keys(String roomId, boolean withPrimed) {
+        String prefix = KEY_PREFIX + roomId + "}:";
+        return withPrimed
+                ? List.of(prefix + "ids", prefix + "data", prefix + "primed")
+                : List.of(prefix + "ids", prefix + "data");
+    }
+
+    private static String dataKey(String roomId) {
+        return KEY_PREFIX + roomId + "}:data";
+    }
+}
@@ -0,0 +1,253 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/클러스터 혼합 rate limiter (quota leasing)
+ * 노드는 Redis 의 클라이언트별 고정 윈도우 카운터에서 토큰 묶음(lease)을 임대해 로컬에서 원자적으로 차감하고,
+ * 남은 토큰이 low-water mark 이하로 내려가면 다음 묶음을 비동기로 미리 임대한다.
+ * 클러스터 전체 오차는 노드당 lease 크기 이내이며, 대부분의 요청은 Redis 호출 없이 처리된다.
+ */
+@Slf4j
+@Component("leasedRateLimiter")
+public class LeasedRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:lease:";
+
+    /**
+     * KEYS[1] = 카운터 키, ARGV[1] = 최대 요청 수, ARGV[2] = 요청 lease 크기, ARGV[3] = 윈도우(ms)
+     * 반환: {부여된 토큰 수, 윈도우 내 남은 토큰 수, 윈도우 잔여 시간(ms)}
+     */
+    private static final RedisScript<List> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[1])
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local grant = math.max(0, math.min(tonumber(ARGV[2]), limit - used))
+            if grant > 0 then
+                used = redis.call('INCRBY', KEYS[1], grant)
+            end
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl < 0 then
+                ttl = tonumber(ARGV[3])
+                redis.call('PEXPIRE', KEYS[1], ttl)
+            end
+            return {grant, limit - used, ttl}
+            """, List.class);
+
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ExecutorService renewExecutor;
+    private final LongSupplier clock;
+    private final int blockSize;
+    private final double lowWaterRatio;
+    private final Counter syncRenewals;
+    private final Counter asyncRenewals;
+    private final Timer leaseWait;
+
+    @Autowired
+    public LeasedRateLimiter(
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.rate-limit.lease.block-size:100}") int blockSize,
+            @Value("${chatapp.rate-limit.lease.low-water-ratio:0.2}") double lowWaterRatio) {
+        this(stringRedisTemplate, meterRegistry, blockSize, lowWaterRatio,
+                Executors.newVirtualThreadPerTaskExecutor(), System::currentTimeMillis);
+    }
+
+    LeasedRateLimiter(
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            int blockSize,
+            double lowWaterRatio,
+            ExecutorService renewExecutor,
+            LongSupplier clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.blockSize = Math.max(1, blockSize);
+        this.lowWaterRatio = lowWaterRatio;
+        this.renewExecutor = renewExecutor;
+        this.clock = clock;
+        this.syncRenewals = Counter.builder("ratelimit.lease.renewals")
+                .description("Rate limit lease renewals from Redis")
+                .tag("mode", "sync")
+                .register(meterRegistry);
+        this.asyncRenewals = Counter.builder("ratelimit.lease.renewals")
+                .description("Rate limit lease renewals from Redis")
+                .tag("mode", "async")
+                .register(meterRegistry);
+        this.leaseWait = Timer.builder("ratelimit.lease.wait")
+                .description("Time a request waited for a synchronous lease")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public RateLimitCheckResult tryAcquire(String clientId, int maxRequests, Duration window) {
+        long windowSeconds = Math.max(1L, window.getSeconds());
+        int leaseSize = Math.min(blockSize, maxRequests);
+        long lowWater = (long) Math.floor(leaseSize * lowWaterRatio);
+        Lease lease = leases.computeIfAbsent(clientId, key -> new Lease());
+
+        while (true) {
+            long now = clock.getAsLong();
+            if (lease.isExpired(now)) {
+                lease.expire(now);
+            }
+
+            long remaining = lease.tryConsume();
+            if (remaining >= 0) {
+                if (remaining <= lowWater && !lease.clusterExhausted) {
+                    renewAsync(clientId, lease, maxRequests, leaseSize, windowSeconds);
+                }
+                return RateLimitCheckResult.allowed(
+                        maxRequests,
+                        (int) Math.min(maxRequests, remaining + lease.clusterRemaining),
+                        windowSeconds,
+                        TimeUnit.MILLISECONDS.toSeconds(lease.windowEndMillis),
+                        lease.secondsUntilReset(now));
+            }
+
+            if (lease.clusterExhausted && !lease.isExpired(now)) {
+                long retryAfterSeconds = lease.secondsUntilReset(now);
+                return RateLimitCheckResult.rejected(
+                        maxRequests, windowSeconds, now / 1000 + retryAfterSeconds, retryAfterSeconds);
+            }
+
+            renewSync(clientId, lease, maxRequests, leaseSize, windowSeconds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chatapp.rate-limit.eviction-interval:60s}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        leases.values().removeIf(lease -> lease.isExpired(now));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewExecutor.shutdownNow();
+    }
+
+    private void renewSync(String clientId, Lease lease, int maxRequests, int leaseSize, long windowSeconds) {
+        long started = System.nanoTime();
+        // 같은 클라이언트의 동시 요청이 각자 Redis 를 호출하지 않도록 한 번만 임대한다
+        // (lane 의 virtual thread 가 I/O 중 carrier 를 점유하지 않도록 synchronized 대신 Lock 사용)
+        lease.lock.lock();
+        try {
+            long now = clock.getAsLong();
+            if (lease.tokens.get() > 0 || (lease.clusterExhausted && !lease.isExpired(now))) {
+                return;
+            }
+            lease(clientId, lease, maxRequests, leaseSize, windowSeconds);
+            syncRenewals.increment();
+        } finally {
+            lease.lock.unlock();
+        }
+        leaseWait.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private void renewAsync(String clientId, Lease lease, int maxRequests, int leaseSize, long windowSeconds) {
+        if (!lease.renewing.compareAndSet(false, true)) {
+            return;
+        }
+        renewExecutor.execute(() -> {
+            lease.lock.lock();
+            try {
+                if (!lease.clusterExhausted) {
+                    lease(clientId, lease, maxRequests, leaseSize, windowSeconds);
+                    asyncRenewals.increment();
+                }
+            } catch (Exception e) {
+                log.warn("Rate limit lease renewal failed for client: {}", clientId, e);
+            } finally {
+                lease.lock.unlock();
+                lease.renewing.set(false);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void lease(String clientId, Lease lease, int maxRequests, int leaseSize, long windowSeconds) {
+        List<Long> result = stringRedisTemplate.execute(
+                LEASE_SCRIPT,
+                List.of(KEY_PREFIX + clientId),
+                String.valueOf(maxRequests),
+                String.valueOf(leaseSize),
+                String.valueOf(TimeUnit.SECONDS.toMillis(windowSeconds)));
+        lease.grant(result.get(0), result.get(1), clock.getAsLong() + result.get(2));
+    }
+
+    private static final class Lease {
+
+        private final AtomicLong tokens = new AtomicLong();
+        private final AtomicBoolean renewing = new AtomicBoolean();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long windowEndMillis;
+        private volatile long clusterRemaining;
+        private volatile boolean clusterExhausted;
+
+        /**
+         * @return 차감 후 남은 로컬 토큰 수, 토큰이 없으면 -1
+         */
+        private long tryConsume() {
+            while (true) {
+                long current = tokens.get();
+                if (current <= 0) {
+                    return -1;
+                }
+                if (tokens.compareAndSet(current, current - 1)) {
+                    return current - 1;
+                }
+            }
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= windowEndMillis;
+        }
+
+        /**
+         * 윈도우가 끝나면 남은 토큰은 이전 윈도우 몫이므로 버린다.
+         */
+        private void expire(long nowMillis) {
+            lock.lock();
+            try {
+                if (isExpired(nowMillis)) {
+                    tokens.set(0);
+                    clusterExhausted = false;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void grant(long granted, long remaining, long windowEndMillis) {
+            this.windowEndMillis = windowEndMillis;
+            this.clusterRemaining = remaining;
+            this.clusterExhausted = remaining <= 0;
+            tokens.addAndGet(granted);
+        }
+
+        private long secondsUntilReset(long nowMillis) {
+            return Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(windowEndMillis - nowMillis + 999));
+        }
+    }
+}
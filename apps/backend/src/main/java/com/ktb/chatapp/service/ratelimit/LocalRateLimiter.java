@@ -0,0 +1,109 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 메모리 기반 토큰 버킷
+ * clientId 는 이미 hostname 으로 구분되어 노드별 카운터이므로 외부 저장소 없이 처리한다.
+ * 버킷 상태는 불변 객체를 CAS 로 교체하여 락 없이 갱신하고,
+ * 가득 찬 채로 윈도우 이상 사용되지 않은 버킷은 주기적으로 제거한다.
+ */
+@Slf4j
+@Component("nodeRateLimiter")
+@ConditionalOnProperty(name = "chatapp.rate-limit.store", havingValue = "local")
+public class LocalRateLimiter implements RateLimiter {
+    
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final LongSupplier epochMillisClock;
+    
+    @Autowired
+    public LocalRateLimiter() {
+        this(System::nanoTime, System::currentTimeMillis);
+    }
+    
+    LocalRateLimiter(LongSupplier nanoClock, LongSupplier epochMillisClock) {
+        this.nanoClock = nanoClock;
+        this.epochMillisClock = epochMillisClock;
+    }
+    
+    @Override
+    public RateLimitCheckResult tryAcquire(String clientId, int maxRequests, Duration window) {
+        long windowSeconds = Math.max(1L, window.getSeconds());
+        long windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        double refillPerNano = (double) maxRequests / windowNanos;
+        long createdAt = nanoClock.getAsLong();
+        
+        Bucket bucket = buckets.computeIfAbsent(clientId, key -> new Bucket(maxRequests, createdAt));
+        
+        while (true) {
+            State current = bucket.state.get();
+            // 재시도마다 시각을 다시 읽고, 다른 스레드가 더 늦은 시각으로 갱신했다면 그 시각을 유지한다.
+            // 갱신 시각이 뒤로 가면 같은 구간이 두 번 충전된다.
+            long now = Math.max(nanoClock.getAsLong(), current.updatedNanos());
+            double tokens = Math.min(maxRequests,
+                    current.tokens() + (now - current.updatedNanos()) * refillPerNano);
+            boolean allowed = tokens >= 1.0;
+            State next = new State(allowed ? tokens - 1.0 : tokens, now, windowNanos);
+            if (!bucket.state.compareAndSet(current, next)) {
+                continue;
+            }
+            
+            long nowEpochSeconds = TimeUnit.MILLISECONDS.toSeconds(epochMillisClock.getAsLong());
+            // 버킷이 다시 가득 차는 시점이 고정 윈도우의 reset 에 해당한다
+            long resetEpochSeconds = nowEpochSeconds
+                    + Math.max(1L, secondsUntil(maxRequests - next.tokens(), refillPerNano));
+            if (allowed) {
+                return RateLimitCheckResult.allowed(
+                        maxRequests, (int) next.tokens(), windowSeconds, resetEpochSeconds,
+                        resetEpochSeconds - nowEpochSeconds);
+            }
+            long retryAfterSeconds = Math.max(1L, secondsUntil(1.0 - next.tokens(), refillPerNano));
+            return RateLimitCheckResult.rejected(
+                    maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${chatapp.rate-limit.eviction-interval:60s}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        log.debug("Evicted {} idle rate limit buckets", before - buckets.size());
+    }
+    
+    int size() {
+        return buckets.size();
+    }
+    
+    private static long secondsUntil(double tokens, double refillPerNano) {
+        return (long) Math.ceil(tokens / refillPerNano / TimeUnit.SECONDS.toNanos(1));
+    }
+    
+    private record State(double tokens, long updatedNanos, long windowNanos) {
+    }
+    
+    private static final class Bucket {
+        
+        private final AtomicReference<State> state;
+        
+        private Bucket(int capacity, long nowNanos) {
+            this.state = new AtomicReference<>(new State(capacity, nowNanos, 0L));
+        }
+        
+        private boolean isIdle(long nowNanos) {
+            State current = state.get();
+            return nowNanos - current.updatedNanos() >= current.windowNanos();
+        }
+    }
+}
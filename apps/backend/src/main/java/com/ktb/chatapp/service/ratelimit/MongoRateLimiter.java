@@ -0,0 +1,62 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.model.RateLimit;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * RateLimitStore(MongoDB) 기반 고정 윈도우 카운터
+ * 요청마다 조회와 저장이 발생한다.
+ */
+@Component("nodeRateLimiter")
+@ConditionalOnProperty(name = "chatapp.rate-limit.store", havingValue = "mongo", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MongoRateLimiter implements RateLimiter {
+    
+    private final RateLimitStore rateLimitStore;
+    
+    @Override
+    @Transactional
+    public RateLimitCheckResult tryAcquire(String clientId, int maxRequests, Duration window) {
+        long windowSeconds = Math.max(1L, window.getSeconds());
+        Instant now = Instant.now();
+        long nowEpochSeconds = now.getEpochSecond();
+        Instant expiresAt = now.plus(window);
+        
+        RateLimit rateLimit = rateLimitStore.findByClientId(clientId).orElse(null);
+        int currentCount = rateLimit != null ? rateLimit.getCount() : 0;
+        
+        if (rateLimit != null && currentCount >= maxRequests) {
+            long retryAfterSeconds = Math.max(1L,
+                rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
+            long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
+            return RateLimitCheckResult.rejected(
+                    maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+        }
+        
+        // Create or update rate limit
+        if (rateLimit == null) {
+            rateLimit = RateLimit.builder()
+                    .clientId(clientId)
+                    .count(1)
+                    .expiresAt(expiresAt)
+                    .build();
+        } else {
+            rateLimit.setCount(currentCount + 1);
+        }
+        rateLimitStore.save(rateLimit);
+        
+        int newCount = currentCount + 1;
+        int remaining = Math.max(0, maxRequests - newCount);
+        long ttlSeconds = Math.max(1L, rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
+        long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
+        
+        return RateLimitCheckResult.allowed(
+                maxRequests, remaining, windowSeconds, resetEpochSeconds, ttlSeconds);
+    }
+}
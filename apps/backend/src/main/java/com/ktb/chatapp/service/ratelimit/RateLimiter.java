@@ -0,0 +1,21 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+
+/**
+ * Rate limit algorithm abstraction.
+ * Implementations are selected with the {@code chatapp.rate-limit.store} property.
+ */
+public interface RateLimiter {
+    
+    /**
+     * Consume one request for the client
+     *
+     * @param clientId the client identifier (already scoped by the caller)
+     * @param maxRequests maximum number of requests allowed in the window
+     * @param window the time window
+     * @return the check result including header values
+     */
+    RateLimitCheckResult tryAcquire(String clientId, int maxRequests, Duration window);
+}
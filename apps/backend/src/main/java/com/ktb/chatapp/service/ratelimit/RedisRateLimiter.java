@@ -0,0 +1,76 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 클러스터 전체 rate limiter (GCRA)
+ * 클라이언트별 TAT(theoretical arrival time) 하나만 저장하며,
+ * 조회/판정/갱신을 Lua 스크립트 한 번으로 원자적으로 처리해 동시 요청에도 초과 허용이 없다.
+ * 시각은 Redis TIME 을 사용하므로 노드 간 시계 차이의 영향을 받지 않는다.
+ */
+@Component("clusterRateLimiter")
+@RequiredArgsConstructor
+public class RedisRateLimiter implements RateLimiter {
+    
+    private static final String KEY_PREFIX = "ratelimit:gcra:";
+    
+    /**
+     * KEYS[1] = TAT 키, ARGV[1] = 최대 요청 수, ARGV[2] = 윈도우(us)
+     * 반환: {허용 여부, 남은 요청 수, retry-after(us), reset-after(us), 현재 시각(ms)}
+     */
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local interval = window / limit
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local new_tat = tat + interval
+            local allow_at = new_tat - window
+            if now < allow_at then
+                return {0, 0, math.ceil(allow_at - now), math.ceil(tat - now), math.floor(now / 1000)}
+            end
+            local ttl = math.ceil((new_tat - now) / 1000)
+            redis.call('SET', KEYS[1], string.format('%.0f', new_tat), 'PX', ttl)
+            local remaining = math.floor((now - allow_at) / interval)
+            return {1, remaining, 0, math.ceil(new_tat - now), math.floor(now / 1000)}
+            """, List.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public RateLimitCheckResult tryAcquire(String clientId, int maxRequests, Duration window) {
+        long windowSeconds = Math.max(1L, window.getSeconds());
+        List<Long> result = stringRedisTemplate.execute(
+                GCRA_SCRIPT,
+                List.of(KEY_PREFIX + clientId),
+                String.valueOf(maxRequests),
+                String.valueOf(TimeUnit.SECONDS.toMicros(windowSeconds)));
+        
+        long nowEpochSeconds = TimeUnit.MILLISECONDS.toSeconds(result.get(4));
+        long resetAfterSeconds = Math.max(1L, toSecondsCeil(result.get(3)));
+        long resetEpochSeconds = nowEpochSeconds + resetAfterSeconds;
+        if (result.get(0) == 1L) {
+            return RateLimitCheckResult.allowed(
+                    maxRequests, result.get(1).intValue(), windowSeconds, resetEpochSeconds, resetAfterSeconds);
+        }
+        long retryAfterSeconds = Math.max(1L, toSecondsCeil(result.get(2)));
+        return RateLimitCheckResult.rejected(maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+    }
+    
+    private static long toSecondsCeil(long micros) {
+        return (micros + TimeUnit.SECONDS.toMicros(1) - 1) / TimeUnit.SECONDS.toMicros(1);
+    }
+}
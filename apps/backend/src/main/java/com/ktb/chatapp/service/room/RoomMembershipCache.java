@@ -0,0 +1,141 @@
+package com.ktb.chatapp.service.room;
+
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.util.BoundedTtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 참가자 캐시
+ * 소켓 이벤트마다 Room 문서 전체를 조회하지 않도록 roomId별 참가자 집합을 메모리에 보관한다.
+ * 참가자 변경 시 Redis pub/sub으로 모든 노드의 캐시를 무효화한다.
+ */
+@Slf4j
+@Component
+public class RoomMembershipCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "room:membership:invalidate";
+
+    private final MongoTemplate mongoTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long ttlMillis;
+
+    private final BoundedTtlCache<String, Set<String>> cache;
+    // 조회 도중 무효화가 일어나면 오래된 참가자 목록을 캐시하지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RoomMembershipCache(
+            MongoTemplate mongoTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.room-membership.cache.ttl:30s}") Duration ttl,
+            @Value("${chatapp.room-membership.cache.max-rooms:10000}") int maxRooms) {
+        this.mongoTemplate = mongoTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttlMillis = ttl.toMillis();
+        this.cache = new BoundedTtlCache<>(maxRooms);
+
+        this.hitCounter = Counter.builder("room.membership.cache")
+                .description("Room membership cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("room.membership.cache")
+                .description("Room membership cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("room.membership.cache.size", cache, BoundedTtlCache::size)
+                .description("Rooms held in the membership cache")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자가 채팅방 참가자인지 확인한다.
+     * 존재하지 않는 방은 캐시하지 않고 false를 반환한다.
+     */
+    public boolean isMember(String roomId, String userId) {
+        if (roomId == null || userId == null) {
+            return false;
+        }
+
+        Set<String> cached = cache.get(roomId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.contains(userId);
+        }
+
+        missCounter.increment();
+        long loadGeneration = generation.get();
+        Set<String> members = loadMembers(roomId);
+        if (members == null) {
+            return false;
+        }
+        if (generation.get() == loadGeneration) {
+            cache.put(roomId, members, System.currentTimeMillis() + ttlMillis);
+        }
+        return members.contains(userId);
+    }
+
+    /**
+     * 참가자 변경 후 호출한다. 로컬 캐시를 비우고 다른 노드에도 무효화를 전파한다.
+     */
+    public void invalidate(String roomId) {
+        evict(roomId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, roomId);
+        } catch (Exception e) {
+            // 전파 실패 시에도 다른 노드는 TTL 경과 후 재조회한다
+            log.warn("Failed to publish room membership invalidation - roomId: {}", roomId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String roomId = new String(message.getBody(), StandardCharsets.UTF_8);
+        evict(roomId);
+        log.debug("Room membership cache invalidated - roomId: {}", roomId);
+    }
+
+    private void evict(String roomId) {
+        generation.incrementAndGet();
+        cache.remove(roomId);
+    }
+
+    private Set<String> loadMembers(String roomId) {
+        Query query = Query.query(Criteria.where("_id").is(roomId));
+        query.fields().include("participantIds");
+        Room room = mongoTemplate.findOne(query, Room.class);
+        if (room == null) {
+            return null;
+        }
+        return room.getParticipantIds() != null
+                ? Set.copyOf(room.getParticipantIds())
+                : Set.of();
+    }
+}
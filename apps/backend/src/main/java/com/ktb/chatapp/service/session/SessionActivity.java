@@ -0,0 +1,11 @@
+package com.ktb.chatapp.service.session;
+
+/**
+ * 세션 마지막 활동 시각 갱신 요청
+ *
+ * @param userId       사용자 ID
+ * @param sessionId    갱신 대상 세션 ID (다른 세션으로 교체된 경우 갱신하지 않는다)
+ * @param lastActivity 마지막 활동 시각 (epoch millis)
+ */
+public record SessionActivity(String userId, String sessionId, long lastActivity) {
+}
@@ -0,0 +1,106 @@
+package com.ktb.chatapp.service.session;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 활동 갱신 병합기
+ * 요청마다 세션을 저장하는 대신 사용자별 최신 활동 시각만 메모리에 기록하고,
+ * flush 주기마다 사용자당 최대 한 번의 갱신을 배치로 저장한다.
+ */
+@Slf4j
+@Component
+public class SessionActivityCoalescer {
+
+    private final SessionStore sessionStore;
+    private final ConcurrentHashMap<String, SessionActivity> pending = new ConcurrentHashMap<>();
+
+    private final Counter touchCounter;
+    private final DistributionSummary flushBatchSize;
+
+    public SessionActivityCoalescer(SessionStore sessionStore, MeterRegistry meterRegistry) {
+        this.sessionStore = sessionStore;
+        this.touchCounter = Counter.builder("session.activity.touches")
+                .description("Session activity touches recorded in memory")
+                .register(meterRegistry);
+        this.flushBatchSize = DistributionSummary.builder("session.activity.flush.size")
+                .description("Session activity updates written per flush")
+                .register(meterRegistry);
+        Gauge.builder("session.activity.pending", pending, Map::size)
+                .description("Users with unflushed session activity")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 활동을 기록한다. 같은 사용자의 기존 기록보다 최신인 경우에만 반영한다.
+     */
+    public void touch(String userId, String sessionId, long lastActivity) {
+        touchCounter.increment();
+        pending.merge(userId, new SessionActivity(userId, sessionId, lastActivity), (current, next) ->
+                next.sessionId().equals(current.sessionId()) && next.lastActivity() <= current.lastActivity()
+                        ? current
+                        : next);
+    }
+
+    /**
+     * 아직 저장되지 않은 마지막 활동 시각을 반환한다.
+     *
+     * @return 해당 세션의 대기 중인 활동 시각, 없으면 null
+     */
+    public Long pendingActivity(String userId, String sessionId) {
+        SessionActivity activity = pending.get(userId);
+        if (activity == null || !activity.sessionId().equals(sessionId)) {
+            return null;
+        }
+        return activity.lastActivity();
+    }
+
+    /**
+     * 세션이 삭제되면 대기 중인 갱신을 버린다.
+     */
+    public void discard(String userId) {
+        pending.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${chatapp.session.activity-flush-interval:5s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<SessionActivity> batch = new ArrayList<>(pending.size());
+        for (SessionActivity activity : pending.values()) {
+            // flush 중 새로 기록된 활동은 남겨두고 다음 주기에 저장한다
+            if (pending.remove(activity.userId(), activity)) {
+                batch.add(activity);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            sessionStore.updateActivity(batch);
+            flushBatchSize.record(batch.size());
+        } catch (Exception e) {
+            log.error("Failed to flush session activity - batch: {}", batch.size(), e);
+            // 실패한 기록은 더 최신 기록이 없을 때만 되돌려 다음 주기에 재시도한다
+            batch.forEach(activity -> pending.merge(activity.userId(), activity, (current, failed) -> current));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -2,19 +2,31 @@ package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
 import com.ktb.chatapp.repository.SessionRepository;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import static com.ktb.chatapp.service.SessionService.SESSION_TTL_SEC;
+
 /**
  * MongoDB implementation of SessionStore.
  * Uses SessionRepository for persistence.
  */
 @Component
+@ConditionalOnProperty(name = "chatapp.session.store", havingValue = "mongo", matchIfMissing = true)
 @RequiredArgsConstructor
 public class SessionMongoStore implements SessionStore {
     
     private final SessionRepository sessionRepository;
+    private final MongoTemplate mongoTemplate;
     
     @Override
     public Optional<Session> findByUserId(String userId) {
@@ -35,4 +47,21 @@ public class SessionMongoStore implements SessionStore {
     public void deleteAll(String userId) {
         sessionRepository.deleteByUserId(userId);
     }
+    
+    @Override
+    public void updateActivity(Collection<SessionActivity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Session.class);
+        for (SessionActivity activity : activities) {
+            Query query = Query.query(Criteria.where("userId").is(activity.userId())
+                    .and("sessionId").is(activity.sessionId()));
+            Update update = new Update()
+                    .max("lastActivity", activity.lastActivity())
+                    .max("expiresAt", Instant.ofEpochMilli(activity.lastActivity()).plusSeconds(SESSION_TTL_SEC));
+            bulkOps.updateOne(query, update);
+        }
+        bulkOps.execute();
+    }
 }
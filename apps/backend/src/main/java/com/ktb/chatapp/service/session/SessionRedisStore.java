@@ -0,0 +1,249 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.repository.SessionRepository;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.service.SessionService.SESSION_TTL_SEC;
+
+/**
+ * Redis implementation of SessionStore.
+ * 사용자당 하나의 hash(session:{userId})에 세션을 저장하고 키 만료로 TTL을 처리한다.
+ * 활동 갱신은 문서 저장 대신 lastActivity 필드와 만료 시각만 갱신한다.
+ * migrate-from-mongo 가 켜져 있으면 Redis에 없는 세션을 MongoDB에서 읽어 옮긴다(lazy migration).
+ * 켜져 있는 동안은 조회 miss 와 로그인/로그아웃마다 MongoDB 를 거치므로, 전환 배포 후 세션 TTL 이 지나면 끈다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chatapp.session.store", havingValue = "redis")
+public class SessionRedisStore implements SessionStore {
+
+    private static final String KEY_PREFIX = "session:";
+    private static final long SESSION_TTL_MILLIS = TimeUnit.SECONDS.toMillis(SESSION_TTL_SEC);
+
+    private static final String SESSION_ID = "sessionId";
+    private static final String CREATED_AT = "createdAt";
+    private static final String LAST_ACTIVITY = "lastActivity";
+    private static final String USER_AGENT = "userAgent";
+    private static final String IP_ADDRESS = "ipAddress";
+    private static final String DEVICE_INFO = "deviceInfo";
+
+    private static final RedisScript<Long> DELETE_IF_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'sessionId') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 세션 hash 를 통째로 바꾸고 만료 시각을 정한다. 다른 클라이언트가 중간 상태(빈 키, 만료 없는 키)를 보지 않는다.
+     * KEYS[1] = 세션 키, ARGV[1] = 만료 시각(ms), ARGV[2..] = field, value 쌍
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('PEXPIREAT', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 세션 hash 를 읽고 sessionId 가 일치할 때만 만료를 연장한다.
+     * KEYS[1] = 세션 키, ARGV[1] = sessionId, ARGV[2] = TTL(ms)
+     */
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<String>> FIND_AND_REFRESH_SCRIPT =
+            (RedisScript<List<String>>) (RedisScript<?>) new DefaultRedisScript<>("""
+                    local hash = redis.call('HGETALL', KEYS[1])
+                    if redis.call('HGET', KEYS[1], 'sessionId') == ARGV[1] then
+                        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                    end
+                    return hash
+                    """, List.class);
+
+    /**
+     * KEYS[1] = 세션 키, ARGV[1] = sessionId, ARGV[2] = lastActivity(ms), ARGV[3] = TTL(ms)
+     */
+    private static final byte[] UPDATE_ACTIVITY_SCRIPT = """
+            if redis.call('HGET', KEYS[1], 'sessionId') ~= ARGV[1] then
+                return 0
+            end
+            local activity = tonumber(ARGV[2])
+            if activity > tonumber(redis.call('HGET', KEYS[1], 'lastActivity') or '0') then
+                redis.call('HSET', KEYS[1], 'lastActivity', ARGV[2])
+                redis.call('PEXPIREAT', KEYS[1], activity + tonumber(ARGV[3]))
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SessionRepository sessionRepository;
+    private final boolean migrateFromMongo;
+
+    public SessionRedisStore(
+            StringRedisTemplate stringRedisTemplate,
+            SessionRepository sessionRepository,
+            @Value("${chatapp.session.migrate-from-mongo:false}") boolean migrateFromMongo) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sessionRepository = sessionRepository;
+        this.migrateFromMongo = migrateFromMongo;
+    }
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Map<String, String> hash = stringRedisTemplate.<String, String>opsForHash().entries(buildKey(userId));
+        return toSession(userId, hash).or(() -> migrate(userId));
+    }
+
+    /**
+     * HGETALL 과 조건부 PEXPIRE 를 하나의 스크립트로 실행한다.
+     * 다른 기기의 sessionId 로 조회하면 만료를 연장하지 않는다.
+     */
+    @Override
+    public Optional<Session> findByUserIdAndRefreshTtl(String userId, String sessionId) {
+        List<String> fields = stringRedisTemplate.execute(FIND_AND_REFRESH_SCRIPT, List.of(buildKey(userId)),
+                sessionId, String.valueOf(SESSION_TTL_MILLIS));
+        return toSession(userId, toMap(fields)).or(() -> migrate(userId));
+    }
+
+    @Override
+    public Session save(Session session) {
+        String key = buildKey(session.getUserId());
+        Map<String, String> hash = toHash(session);
+        Instant expiresAt = session.getExpiresAt() != null
+                ? session.getExpiresAt()
+                : Instant.ofEpochMilli(session.getLastActivity() + SESSION_TTL_MILLIS);
+        List<String> args = new ArrayList<>(1 + hash.size() * 2);
+        args.add(String.valueOf(expiresAt.toEpochMilli()));
+        hash.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        stringRedisTemplate.execute(SAVE_SCRIPT, List.of(key), args.toArray());
+        return session;
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        stringRedisTemplate.execute(DELETE_IF_SESSION_SCRIPT, List.of(buildKey(userId)), sessionId);
+        if (migrateFromMongo) {
+            sessionRepository.deleteByUserIdAndSessionId(userId, sessionId);
+        }
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        stringRedisTemplate.delete(buildKey(userId));
+        if (migrateFromMongo) {
+            sessionRepository.deleteByUserId(userId);
+        }
+    }
+
+    @Override
+    public void updateActivity(Collection<SessionActivity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        byte[] ttl = String.valueOf(SESSION_TTL_MILLIS).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SessionActivity activity : activities) {
+                eval(connection, activity, ttl);
+            }
+            return null;
+        });
+    }
+
+    private void eval(RedisConnection connection, SessionActivity activity, byte[] ttl) {
+        // 파이프라인에서는 NOSCRIPT 재시도가 불가능하므로 EVALSHA 대신 EVAL 사용
+        connection.scriptingCommands().eval(
+                UPDATE_ACTIVITY_SCRIPT,
+                ReturnType.INTEGER,
+                1,
+                buildKey(activity.userId()).getBytes(StandardCharsets.UTF_8),
+                activity.sessionId().getBytes(StandardCharsets.UTF_8),
+                String.valueOf(activity.lastActivity()).getBytes(StandardCharsets.UTF_8),
+                ttl);
+    }
+
+    private Optional<Session> migrate(String userId) {
+        if (!migrateFromMongo) {
+            return Optional.empty();
+        }
+        Optional<Session> session = sessionRepository.findByUserId(userId)
+                .filter(found -> found.getExpiresAt() == null || found.getExpiresAt().isAfter(Instant.now()));
+        session.ifPresent(found -> {
+            save(found);
+            sessionRepository.deleteByUserId(userId);
+            log.debug("Migrated session of user {} from MongoDB to Redis", userId);
+        });
+        return session;
+    }
+
+    private Map<String, String> toHash(Session session) {
+        Map<String, String> hash = new HashMap<>();
+        hash.put(SESSION_ID, session.getSessionId());
+        hash.put(CREATED_AT, String.valueOf(session.getCreatedAt()));
+        hash.put(LAST_ACTIVITY, String.valueOf(session.getLastActivity()));
+        SessionMetadata metadata = session.getMetadata();
+        if (metadata != null) {
+            putIfNotNull(hash, USER_AGENT, metadata.userAgent());
+            putIfNotNull(hash, IP_ADDRESS, metadata.ipAddress());
+            putIfNotNull(hash, DEVICE_INFO, metadata.deviceInfo());
+        }
+        return hash;
+    }
+
+    private static Map<String, String> toMap(List<String> fields) {
+        if (fields == null) {
+            return Map.of();
+        }
+        Map<String, String> hash = new HashMap<>();
+        for (int i = 0; i + 1 < fields.size(); i += 2) {
+            hash.put(fields.get(i), fields.get(i + 1));
+        }
+        return hash;
+    }
+
+    private Optional<Session> toSession(String userId, Map<String, String> hash) {
+        if (hash == null || hash.get(SESSION_ID) == null) {
+            return Optional.empty();
+        }
+        long lastActivity = Long.parseLong(hash.getOrDefault(LAST_ACTIVITY, "0"));
+        return Optional.of(Session.builder()
+                .userId(userId)
+                .sessionId(hash.get(SESSION_ID))
+                .createdAt(Long.parseLong(hash.getOrDefault(CREATED_AT, "0")))
+                .lastActivity(lastActivity)
+                .metadata(new SessionMetadata(hash.get(USER_AGENT), hash.get(IP_ADDRESS), hash.get(DEVICE_INFO)))
+                .expiresAt(Instant.ofEpochMilli(lastActivity + SESSION_TTL_MILLIS))
+                .build());
+    }
+
+    private static void putIfNotNull(Map<String, String> hash, String field, String value) {
+        if (value != null) {
+            hash.put(field, value);
+        }
+    }
+
+    private String buildKey(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
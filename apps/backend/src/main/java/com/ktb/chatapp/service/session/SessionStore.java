@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -17,6 +18,18 @@ public interface SessionStore {
      */
     Optional<Session> findByUserId(String userId);
     
+    /**
+     * Find session by user ID and, if the stored session has the given ID, extend its expiry
+     * in the same round trip. Stores without native key expiry fall back to {@link #findByUserId(String)}.
+     *
+     * @param userId the user identifier
+     * @param sessionId the session ID presented by the client
+     * @return Optional containing the Session if found, empty otherwise
+     */
+    default Optional<Session> findByUserIdAndRefreshTtl(String userId, String sessionId) {
+        return findByUserId(userId);
+    }
+    
     /**
      * Save or update session
      *
@@ -33,4 +46,12 @@ public interface SessionStore {
     void deleteAll(String userId);
     
     void delete(String userId, String sessionId);
+    
+    /**
+     * Batch update lastActivity and expiresAt of existing sessions.
+     * Sessions whose sessionId no longer matches are left untouched.
+     *
+     * @param activities the latest activity per user
+     */
+    void updateActivity(Collection<SessionActivity> activities);
 }
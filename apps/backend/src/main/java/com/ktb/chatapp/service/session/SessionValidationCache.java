@@ -0,0 +1,133 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.service.SessionData;
+import com.ktb.chatapp.util.BoundedTtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 검증 결과 near-cache
+ * REST 요청과 소켓 핸드셰이크마다 세션 저장소를 조회하지 않도록 유효한 (userId, sessionId) 쌍을 짧게 보관한다.
+ * 세션 삭제/재생성 시 Redis pub/sub으로 모든 노드의 항목을 폐기해 로그아웃과 중복 로그인이 즉시 반영된다.
+ */
+@Slf4j
+@Component
+public class SessionValidationCache implements MessageListener {
+
+    static final String REVOCATION_CHANNEL = "session:revoke";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long ttlMillis;
+
+    private final BoundedTtlCache<String, SessionData> cache;
+    // 조회 도중 폐기가 일어나면 폐기된 세션을 캐시하지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SessionValidationCache(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.session.validation-cache.ttl:5s}") Duration ttl,
+            @Value("${chatapp.session.validation-cache.max-entries:100000}") int maxEntries) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttlMillis = ttl.toMillis();
+        this.cache = new BoundedTtlCache<>(maxEntries);
+
+        this.hitCounter = Counter.builder("session.validation.cache")
+                .description("Session validation cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("session.validation.cache")
+                .description("Session validation cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("session.validation.cache.size", cache, BoundedTtlCache::size)
+                .description("Sessions held in the validation cache")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * 캐시된 유효 세션을 반환한다. 없거나 만료되었으면 null.
+     * 반환값은 호출자가 수정해도 되도록 매번 새로 만든다.
+     */
+    public SessionData get(String userId, String sessionId) {
+        SessionData cached = cache.get(userId);
+        if (cached != null && cached.getSessionId().equals(sessionId)) {
+            hitCounter.increment();
+            return copy(cached);
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * 저장소 조회 전에 세대 번호를 얻어 두고, 검증 성공 후 같은 번호로 put 한다.
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void put(SessionData session, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        cache.put(session.getUserId(), copy(session), System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * 세션 삭제/재생성 후 호출한다. 로컬 항목을 폐기하고 다른 노드에도 전파한다.
+     */
+    public void revoke(String userId) {
+        evict(userId);
+        try {
+            stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, userId);
+        } catch (Exception e) {
+            // 전파 실패 시에도 다른 노드는 TTL 경과 후 저장소를 다시 조회한다
+            log.warn("Failed to publish session revocation - userId: {}", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String userId = new String(message.getBody(), StandardCharsets.UTF_8);
+        evict(userId);
+        log.debug("Session validation cache revoked - userId: {}", userId);
+    }
+
+    private void evict(String userId) {
+        generation.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    private static SessionData copy(SessionData session) {
+        return SessionData.builder()
+                .userId(session.getUserId())
+                .sessionId(session.getSessionId())
+                .createdAt(session.getCreatedAt())
+                .lastActivity(session.getLastActivity())
+                .metadata(session.getMetadata())
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ktb.chatapp.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * 항목 수 상한과 항목별 만료 시각을 갖는 메모리 캐시
+ * 조회는 ConcurrentHashMap 에서 락 없이 처리하고, 저장 시 삽입 순서 큐의 앞쪽부터
+ * 만료·교체·삭제된 항목과 상한을 넘는 가장 오래된 항목을 제거한다.
+ * 상한에 닿아도 저장마다 전체를 훑지 않으므로 저장 비용은 분할 상환 O(1) 이다.
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    // 저장된 순서. 교체/삭제된 항목은 큐 앞쪽에 닿을 때 버린다
+    private final ConcurrentLinkedQueue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final LongSupplier epochMillisClock;
+
+    public BoundedTtlCache(int maxEntries) {
+        this(maxEntries, System::currentTimeMillis);
+    }
+
+    public BoundedTtlCache(int maxEntries, LongSupplier epochMillisClock) {
+        this.maxEntries = maxEntries;
+        this.epochMillisClock = epochMillisClock;
+    }
+
+    /**
+     * 만료되지 않은 값을 반환한다. 없거나 만료되었으면 null.
+     */
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= epochMillisClock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * @param expiresAt 만료 시각(epoch ms). 이미 지났으면 저장하지 않는다
+     */
+    public void put(K key, V value, long expiresAt) {
+        long now = epochMillisClock.getAsLong();
+        if (expiresAt <= now) {
+            return;
+        }
+        Entry<K, V> entry = new Entry<>(key, value, expiresAt);
+        entries.put(key, entry);
+        insertionOrder.add(entry);
+        trim(now);
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void trim(long now) {
+        Entry<K, V> head;
+        while ((head = insertionOrder.peek()) != null) {
+            boolean replaced = entries.get(head.key()) != head;
+            if (!replaced && head.expiresAt() > now && entries.size() <= maxEntries) {
+                return;
+            }
+            insertionOrder.poll();
+            if (!replaced) {
+                // 만료되었거나 상한을 넘었으면 가장 오래 저장된 항목부터 제거한다
+                entries.remove(head.key(), head);
+            }
+        }
+    }
+
+    private record Entry<K, V>(K key, V value, long expiresAt) {
+    }
+}
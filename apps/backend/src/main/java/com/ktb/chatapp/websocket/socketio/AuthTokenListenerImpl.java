@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 
@@ -48,8 +49,9 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
             String userId;
             String sessionIdFromToken = null;
             try {
-                userId = jwtService.extractUserId(token);
-                sessionIdFromToken = jwtService.extractSessionId(token);
+                Jwt jwt = jwtService.parse(token);
+                userId = jwt.getClaimAsString("userId");
+                sessionIdFromToken = jwt.getClaimAsString("sessionId");
             } catch (JwtException e) {
                 return new AuthTokenResult(false, Map.of("message", "Invalid token"));
             }
@@ -1,6 +1,11 @@
 package com.ktb.chatapp.websocket.socketio;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Data store interface for chat-related data storage.
@@ -33,5 +38,100 @@ public interface ChatDataStore {
      */
     void delete(String key);
     
-    int size();
+    /**
+     * Add a member to the set stored at key (atomic, creates the set if absent)
+     *
+     * @param key the set key
+     * @param member the member to add
+     * @return true if the member was newly added
+     */
+    boolean sAdd(String key, String member);
+    
+    /**
+     * Remove a member from the set stored at key (the set is removed when it becomes empty)
+     *
+     * @param key the set key
+     * @param member the member to remove
+     * @return true if the member was present
+     */
+    boolean sRem(String key, String member);
+    
+    /**
+     * Check set membership without loading the whole set
+     *
+     * @param key the set key
+     * @param member the member to check
+     * @return true if the member is in the set
+     */
+    boolean sIsMember(String key, String member);
+    
+    /**
+     * Retrieve all members of the set stored at key
+     *
+     * @param key the set key
+     * @return a snapshot of the members, empty if the set does not exist
+     */
+    Set<String> sMembers(String key);
+
+    /**
+     * Retrieve multiple values of the same type in a single round trip
+     *
+     * @param keys the storage keys
+     * @param type the type of values to retrieve
+     * @param <T> the type parameter
+     * @return values by key; missing keys are absent from the map
+     */
+    <T> Map<String, T> getAll(Collection<String> keys, Class<T> type);
+    
+    /**
+     * Store multiple values in a single round trip
+     *
+     * @param values values by key
+     */
+    void setAll(Map<String, ?> values);
+    
+    /**
+     * Delete multiple keys in a single round trip
+     *
+     * @param keys the storage keys
+     */
+    void deleteAll(Collection<String> keys);
+    
+    /**
+     * Execute several operations as one pipelined round trip.
+     * Results are available from the returned suppliers once this method returns.
+     *
+     * @param operations the operations to queue
+     */
+    void batch(Consumer<Batch> operations);
+    
+    /**
+     * Operations that can be queued in {@link #batch(Consumer)}
+     */
+    interface Batch {
+        
+        <T> Supplier<Optional<T>> get(String key, Class<T> type);
+        
+        /**
+         * Store a value and return the previous one
+         */
+        <T> Supplier<Optional<T>> getAndSet(String key, T value);
+        
+        void set(String key, Object value);
+        
+        void delete(String key);
+        
+        /**
+         * Delete the key only if it currently holds the expected value
+         *
+         * @return supplier of true if the key was deleted
+         */
+        Supplier<Boolean> deleteIfEquals(String key, Object expected);
+        
+        Supplier<Set<String>> sMembers(String key);
+        
+        void sAdd(String key, String member);
+        
+        void sRem(String key, String member);
+    }
 }
@@ -1,5 +1,7 @@
 package com.ktb.chatapp.websocket.socketio;
 
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -25,8 +27,20 @@ public class ConnectedUsers {
         chatDataStore.delete(buildKey(userId));
     }
     
-    public int size() {
-        return chatDataStore.size();
+    /**
+     * 배치에 활성 연결 교체를 추가하고 이전 연결을 돌려받는다.
+     */
+    public Supplier<Optional<SocketUser>> getAndSet(ChatDataStore.Batch batch, SocketUser socketUser) {
+        return batch.getAndSet(buildKey(socketUser.id()), socketUser);
+    }
+    
+    /**
+     * 배치에 활성 연결 삭제를 추가한다. 다른 연결로 이미 교체된 경우 삭제하지 않는다.
+     *
+     * @return 삭제 여부 (이 연결이 활성 연결이었는지)
+     */
+    public Supplier<Boolean> delIfCurrent(ChatDataStore.Batch batch, SocketUser socketUser) {
+        return batch.deleteIfEquals(buildKey(socketUser.id()), socketUser);
     }
     
     private String buildKey(String userId) {
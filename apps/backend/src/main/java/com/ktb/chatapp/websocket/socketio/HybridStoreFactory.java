@@ -0,0 +1,54 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.store.MemoryStore;
+import com.corundumstudio.socketio.store.RedissonPubSubStore;
+import com.corundumstudio.socketio.store.Store;
+import com.corundumstudio.socketio.store.pubsub.BaseStoreFactory;
+import com.corundumstudio.socketio.store.pubsub.PubSubStore;
+import java.util.Map;
+import java.util.UUID;
+import org.redisson.api.RedissonClient;
+
+/**
+ * 로컬 우선 Socket.IO StoreFactory
+ * 연결별 속성(client.get/set, 예: SocketUser)은 해당 연결을 가진 노드에서만 읽히므로
+ * 힙 메모리에 보관해 이벤트마다 발생하던 Redis 왕복을 없앤다.
+ * 노드 간 룸 브로드캐스트(pub/sub)와 공유 맵만 Redis(Redisson)를 사용한다.
+ */
+public class HybridStoreFactory extends BaseStoreFactory {
+
+    private final RedissonClient redissonClient;
+    private final PubSubStore pubSubStore;
+
+    public HybridStoreFactory(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+        this.pubSubStore = new RedissonPubSubStore(redissonClient, redissonClient, getNodeId());
+    }
+
+    @Override
+    public Store createStore(UUID sessionId) {
+        // 연결 종료 시 ClientHead와 함께 GC되므로 별도 정리가 필요 없다
+        return new MemoryStore();
+    }
+
+    @Override
+    public PubSubStore pubSubStore() {
+        return pubSubStore;
+    }
+
+    @Override
+    public <K, V> Map<K, V> createMap(String name) {
+        return redissonClient.getMap(name);
+    }
+
+    @Override
+    public void shutdown() {
+        pubSubStore.shutdown();
+        // RedissonClient는 Spring 빈으로 관리되며 컨텍스트 종료 시 함께 정리된다
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " (local session store, distributed publish/subscribe)";
+    }
+}
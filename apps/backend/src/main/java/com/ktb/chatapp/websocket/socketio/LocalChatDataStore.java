@@ -1,7 +1,14 @@
 package com.ktb.chatapp.websocket.socketio;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Local in-memory implementation of ChatDataStore using ConcurrentHashMap.
@@ -10,6 +17,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class LocalChatDataStore implements ChatDataStore {
     
     private final ConcurrentHashMap<String, Object> storage = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> sets = new ConcurrentHashMap<>();
     
     @Override
     public <T> Optional<T> get(String key, Class<T> type) {
@@ -33,10 +41,113 @@ public class LocalChatDataStore implements ChatDataStore {
     @Override
     public void delete(String key) {
         storage.remove(key);
+        sets.remove(key);
     }
     
     @Override
-    public int size() {
-        return storage.size();
+    public boolean sAdd(String key, String member) {
+        boolean[] added = new boolean[1];
+        sets.compute(key, (k, members) -> {
+            Set<String> target = members != null ? members : ConcurrentHashMap.newKeySet();
+            added[0] = target.add(member);
+            return target;
+        });
+        return added[0];
+    }
+    
+    @Override
+    public boolean sRem(String key, String member) {
+        boolean[] removed = new boolean[1];
+        // Redis와 동일하게 비어 있는 집합은 키째 제거한다
+        sets.computeIfPresent(key, (k, members) -> {
+            removed[0] = members.remove(member);
+            return members.isEmpty() ? null : members;
+        });
+        return removed[0];
+    }
+    
+    @Override
+    public boolean sIsMember(String key, String member) {
+        Set<String> members = sets.get(key);
+        return members != null && members.contains(member);
+    }
+    
+    @Override
+    public Set<String> sMembers(String key) {
+        Set<String> members = sets.get(key);
+        return members != null ? Set.copyOf(members) : Set.of();
+    }
+    
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new HashMap<>();
+        for (String key : keys) {
+            get(key, type).ifPresent(value -> result.put(key, value));
+        }
+        return result;
+    }
+    
+    @Override
+    public void setAll(Map<String, ?> values) {
+        values.forEach(this::set);
+    }
+    
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+    
+    @Override
+    public void batch(Consumer<Batch> operations) {
+        // 로컬 저장소는 왕복 비용이 없으므로 즉시 실행한다
+        operations.accept(new LocalBatch());
+    }
+    
+    private class LocalBatch implements Batch {
+        
+        @Override
+        public <T> Supplier<Optional<T>> get(String key, Class<T> type) {
+            Optional<T> value = LocalChatDataStore.this.get(key, type);
+            return () -> value;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Supplier<Optional<T>> getAndSet(String key, T value) {
+            Optional<T> previous = Optional.ofNullable((T) storage.put(key, value));
+            return () -> previous;
+        }
+        
+        @Override
+        public void set(String key, Object value) {
+            LocalChatDataStore.this.set(key, value);
+        }
+        
+        @Override
+        public void delete(String key) {
+            LocalChatDataStore.this.delete(key);
+        }
+        
+        @Override
+        public Supplier<Boolean> deleteIfEquals(String key, Object expected) {
+            boolean deleted = storage.remove(key, Objects.requireNonNull(expected));
+            return () -> deleted;
+        }
+        
+        @Override
+        public Supplier<Set<String>> sMembers(String key) {
+            Set<String> members = LocalChatDataStore.this.sMembers(key);
+            return () -> members;
+        }
+        
+        @Override
+        public void sAdd(String key, String member) {
+            LocalChatDataStore.this.sAdd(key, member);
+        }
+        
+        @Override
+        public void sRem(String key, String member) {
+            LocalChatDataStore.this.sRem(key, member);
+        }
     }
 }
@@ -0,0 +1,156 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이미 JSON으로 인코딩된 브로드캐스트 페이로드
+ * 클라이언트별 패킷 인코딩 시 재직렬화 없이 UTF-8 바이트를 그대로 복사한다.
+ * Redisson pub/sub(Kryo)으로 다른 노드에 전달될 때도 인코딩된 바이트만 전송된다.
+ */
+public final class PreEncodedJson implements JsonSerializable, Serializable {
+
+    private byte[] utf8;
+
+    // 노드 간 전송 대상이 아니며, 역직렬화 후 첫 사용 시 만든다
+    private transient volatile RawUtf8 raw;
+
+    private PreEncodedJson() {
+        // Kryo 역직렬화용
+    }
+
+    PreEncodedJson(byte[] utf8) {
+        this.utf8 = utf8;
+    }
+
+    public String json() {
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        RawUtf8 value = raw;
+        if (value == null) {
+            value = new RawUtf8(utf8);
+            raw = value;
+        }
+        gen.writeRawValue(value);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return json();
+    }
+
+    /**
+     * UTF-8 바이트를 그대로 쓰는 raw 값
+     * 소켓 패킷을 만드는 UTF-8 생성기는 바이트를 복사만 하고, 문자 기반 생성기에서만 문자열로 디코딩한다.
+     */
+    private static final class RawUtf8 implements SerializableString {
+
+        private final byte[] utf8;
+        private SerializedString text;
+
+        private RawUtf8(byte[] utf8) {
+            this.utf8 = utf8;
+        }
+
+        private SerializedString text() {
+            SerializedString value = text;
+            if (value == null) {
+                value = new SerializedString(new String(utf8, StandardCharsets.UTF_8));
+                text = value;
+            }
+            return value;
+        }
+
+        @Override
+        public String getValue() {
+            return text().getValue();
+        }
+
+        @Override
+        public int charLength() {
+            return text().charLength();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return text().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8;
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return text().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return text().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return text().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + utf8.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+            return utf8.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return text().appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return text().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+            return text().putQuotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (utf8.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(utf8);
+            return utf8.length;
+        }
+    }
+}
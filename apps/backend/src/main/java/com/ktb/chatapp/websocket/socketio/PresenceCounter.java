@@ -0,0 +1,100 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접속자 수 집계기
+ * 노드별 접속자는 메모리에서 O(1)로 관리하고, 클러스터 전체 접속자 수는
+ * heartbeat마다 노드별 값을 TTL이 있는 Redis 맵에 기록해 합산한다.
+ * 종료되거나 응답하지 않는 노드의 값은 TTL 경과 후 자동으로 제외된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class PresenceCounter {
+
+    private static final String NODE_COUNTS_KEY = "presence:node-counts";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<String, String> localUsers = new ConcurrentHashMap<>();
+    private final RMapCache<String, Long> nodeCounts;
+    private final Duration nodeTtl;
+
+    private volatile long clusterCount;
+
+    public PresenceCounter(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.presence.node-ttl:15s}") Duration nodeTtl) {
+        this.nodeCounts = redissonClient.getMapCache(NODE_COUNTS_KEY,
+                new CompositeCodec(StringCodec.INSTANCE, LongCodec.INSTANCE));
+        this.nodeTtl = nodeTtl;
+
+        Gauge.builder("socketio.concurrent.users", localUsers, ConcurrentHashMap::size)
+                .description("Current number of concurrent Socket.IO users on this node")
+                .register(meterRegistry);
+        Gauge.builder("socketio.concurrent.users.cluster", this, PresenceCounter::clusterCount)
+                .description("Current number of concurrent Socket.IO users across all nodes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 활성 연결이 이 노드에 생겼음을 기록한다.
+     */
+    public void connected(String userId, String socketId) {
+        localUsers.put(userId, socketId);
+    }
+
+    /**
+     * 해당 연결이 사용자의 활성 연결인 경우에만 제거한다.
+     */
+    public void disconnected(String userId, String socketId) {
+        localUsers.remove(userId, socketId);
+    }
+
+    public int localCount() {
+        return localUsers.size();
+    }
+
+    /**
+     * 마지막 heartbeat 시점의 클러스터 전체 접속자 수
+     */
+    public long clusterCount() {
+        return clusterCount;
+    }
+
+    @Scheduled(fixedDelayString = "${socketio.presence.heartbeat-interval:5s}")
+    public void heartbeat() {
+        try {
+            nodeCounts.fastPut(nodeId, (long) localUsers.size(), nodeTtl.toMillis(), TimeUnit.MILLISECONDS);
+            clusterCount = nodeCounts.readAllValues().stream().mapToLong(Long::longValue).sum();
+        } catch (Exception e) {
+            log.warn("Presence heartbeat failed - nodeId: {}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            nodeCounts.fastRemove(nodeId);
+        } catch (Exception e) {
+            log.debug("Failed to remove presence entry - nodeId: {}", nodeId, e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.MessagesReadBatchResponse;
+import com.ktb.chatapp.dto.MessagesReadResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.MessageReadStatusService.ReadMark;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ;
+
+/**
+ * 읽음 처리 병합기
+ * markMessagesAsRead 이벤트마다 쓰기와 방 전체 브로드캐스트를 수행하는 대신 방별로 읽음을 모아 두고,
+ * tick 마다 모든 방의 읽음 위치를 하나의 bulk write 로 저장한 뒤 방마다 병합된 MESSAGES_READ 를 한 번 전송한다.
+ * 방의 버퍼가 max-buffer 에 도달하면 tick 을 기다리지 않고 해당 방만 즉시 flush 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadReceiptAggregator {
+
+    private final MessageReadStatusService messageReadStatusService;
+    private final RoomBroadcaster roomBroadcaster;
+    private final int maxBuffer;
+
+    // roomId -> (userId -> 읽은 메시지 ID). 내부 맵은 compute/remove 안에서만 변경한다
+    private final ConcurrentHashMap<String, RoomReads> pending = new ConcurrentHashMap<>();
+
+    private final Counter recordCounter;
+    private final Counter broadcastCounter;
+    private final DistributionSummary flushSize;
+
+    public ReadReceiptAggregator(
+            MessageReadStatusService messageReadStatusService,
+            RoomBroadcaster roomBroadcaster,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.read-receipt.max-buffer:1000}") int maxBuffer) {
+        this.messageReadStatusService = messageReadStatusService;
+        this.roomBroadcaster = roomBroadcaster;
+        this.maxBuffer = maxBuffer;
+        this.recordCounter = Counter.builder("readreceipt.records")
+                .description("markMessagesAsRead events buffered for aggregation")
+                .register(meterRegistry);
+        this.broadcastCounter = Counter.builder("readreceipt.broadcasts")
+                .description("Merged MESSAGES_READ broadcasts sent")
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("readreceipt.flush.size")
+                .description("Read cursors written per flush")
+                .register(meterRegistry);
+        Gauge.builder("readreceipt.pending.rooms", pending, Map::size)
+                .description("Rooms with buffered read receipts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽음을 버퍼에 기록한다. 멤버십 검증은 호출자가 수행한다.
+     */
+    public void record(String roomId, String userId, Collection<String> messageIds) {
+        recordCounter.increment();
+        RoomReads reads = pending.compute(roomId, (key, current) -> {
+            RoomReads next = current != null ? current : new RoomReads();
+            next.add(userId, messageIds);
+            return next;
+        });
+        if (reads.size >= maxBuffer) {
+            flushRooms(drain(List.of(roomId)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chatapp.read-receipt.tick:250ms}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushRooms(drain(new ArrayList<>(pending.keySet())));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Map<String, RoomReads> drain(Collection<String> roomIds) {
+        Map<String, RoomReads> drained = new HashMap<>();
+        for (String roomId : roomIds) {
+            // 제거 이후의 기록은 새 버퍼에 쌓여 다음 tick 에 처리된다
+            RoomReads reads = pending.remove(roomId);
+            if (reads != null) {
+                drained.put(roomId, reads);
+            }
+        }
+        return drained;
+    }
+
+    private void flushRooms(Map<String, RoomReads> drained) {
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            Set<String> messageIds = drained.values().stream()
+                    .flatMap(reads -> reads.byUser.values().stream())
+                    .flatMap(Set::stream)
+                    .collect(Collectors.toSet());
+            Map<String, Message> messagesById = messageReadStatusService.findMessages(messageIds).stream()
+                    .collect(Collectors.toMap(Message::getId, Function.identity()));
+
+            List<ReadMark> marks = new ArrayList<>();
+            Map<String, List<MessagesReadResponse>> broadcasts = new HashMap<>();
+            drained.forEach((roomId, reads) -> reads.byUser.forEach((userId, ids) -> {
+                // 다른 방의 메시지나 존재하지 않는 메시지는 제외한다
+                List<Message> read = ids.stream()
+                        .map(messagesById::get)
+                        .filter(message -> message != null && roomId.equals(message.getRoomId()))
+                        .toList();
+                if (read.isEmpty()) {
+                    return;
+                }
+                read.stream()
+                        .filter(message -> message.getTimestamp() != null)
+                        .max(Comparator.comparing(Message::getTimestamp))
+                        .ifPresent(latest -> marks.add(new ReadMark(userId, latest)));
+                broadcasts.computeIfAbsent(roomId, key -> new ArrayList<>())
+                        .add(new MessagesReadResponse(userId, read.stream().map(Message::getId).toList()));
+            }));
+
+            messageReadStatusService.markAllAsRead(marks);
+            flushSize.record(marks.size());
+
+            broadcasts.forEach((roomId, responses) -> {
+                roomBroadcaster.sendEvent(roomId, MESSAGES_READ, new MessagesReadBatchResponse(responses));
+                broadcastCounter.increment();
+            });
+        } catch (Exception e) {
+            // 읽음 처리는 다음 읽음 이벤트나 메시지 조회 시 다시 반영되므로 재시도하지 않는다
+            log.error("Failed to flush read receipts - rooms: {}", drained.size(), e);
+        }
+    }
+
+    private static final class RoomReads {
+
+        private final Map<String, Set<String>> byUser = new LinkedHashMap<>();
+        private int size;
+
+        private void add(String userId, Collection<String> messageIds) {
+            Set<String> ids = byUser.computeIfAbsent(userId, key -> new LinkedHashSet<>());
+            for (String messageId : messageIds) {
+                if (ids.add(messageId)) {
+                    size++;
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.ktb.chatapp.websocket.socketio;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RFuture;
+import org.redisson.api.RSet;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.codec.TypedJsonJacksonCodec;
 
 /**
@@ -16,6 +28,9 @@ public class RedisChatDataStore implements ChatDataStore {
 
     private final RedissonClient redissonClient;
 
+    // TypedJsonJacksonCodec은 내부에 ObjectMapper를 만들기 때문에 타입별로 재사용한다
+    private final Map<Class<?>, Codec> codecs = new ConcurrentHashMap<>();
+
     @Override
     public <T> Optional<T> get(String key, Class<T> type) {
         RBucket<T> bucket = redissonClient.getBucket(key, codec(type));
@@ -39,12 +54,133 @@ public class RedisChatDataStore implements ChatDataStore {
     }
 
     @Override
-    public int size() {
-        // Counts only keys owned by this Redisson instance; used for logging.
-        return (int) redissonClient.getKeys().count();
+    public boolean sAdd(String key, String member) {
+        return set(key).add(member);
+    }
+
+    @Override
+    public boolean sRem(String key, String member) {
+        return set(key).remove(member);
+    }
+
+    @Override
+    public boolean sIsMember(String key, String member) {
+        return set(key).contains(member);
+    }
+
+    @Override
+    public Set<String> sMembers(String key) {
+        return set(key).readAll();
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        // MGET 한 번으로 조회
+        return redissonClient.getBuckets(codec(type)).get(keys.toArray(String[]::new));
+    }
+
+    @Override
+    public void setAll(Map<String, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        batch(batch -> values.forEach(batch::set));
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redissonClient.getKeys().delete(keys.toArray(String[]::new));
+    }
+
+    @Override
+    public void batch(Consumer<Batch> operations) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        operations.accept(new RedisBatch(batch));
+        batch.execute();
+    }
+
+    private RSet<String> set(String key) {
+        // 멤버는 문자열 그대로 저장해 redis-cli에서도 SMEMBERS로 확인할 수 있게 한다
+        return redissonClient.getSet(key, StringCodec.INSTANCE);
     }
 
     private Codec codec(Class<?> type) {
-        return new TypedJsonJacksonCodec(type);
+        return codecs.computeIfAbsent(type, TypedJsonJacksonCodec::new);
+    }
+
+    /**
+     * RBatch에 명령을 쌓고, 실행 후 결과를 Supplier로 돌려준다.
+     */
+    private class RedisBatch implements Batch {
+
+        private final RBatch batch;
+
+        private RedisBatch(RBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public <T> Supplier<Optional<T>> get(String key, Class<T> type) {
+            RBucketAsync<T> bucket = batch.getBucket(key, codec(type));
+            return optional(bucket.getAsync());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Supplier<Optional<T>> getAndSet(String key, T value) {
+            RBucketAsync<T> bucket = batch.getBucket(key, codec(value.getClass()));
+            return optional(bucket.getAndSetAsync(value));
+        }
+
+        @Override
+        public void set(String key, Object value) {
+            if (value == null) {
+                delete(key);
+                return;
+            }
+            batch.getBucket(key, codec(value.getClass())).setAsync(value);
+        }
+
+        @Override
+        public void delete(String key) {
+            batch.getBucket(key).deleteAsync();
+        }
+
+        @Override
+        public Supplier<Boolean> deleteIfEquals(String key, Object expected) {
+            // 값이 expected와 같을 때만 삭제 (update=null 이면 삭제)
+            RFuture<Boolean> future = batch.getBucket(key, codec(expected.getClass()))
+                    .compareAndSetAsync(expected, null);
+            return () -> future.toCompletableFuture().join();
+        }
+
+        @Override
+        public Supplier<Set<String>> sMembers(String key) {
+            RFuture<Set<String>> future = batch.<String>getSet(key, StringCodec.INSTANCE).readAllAsync();
+            return () -> {
+                Set<String> members = future.toCompletableFuture().join();
+                return members != null ? members : Set.of();
+            };
+        }
+
+        @Override
+        public void sAdd(String key, String member) {
+            batch.<String>getSet(key, StringCodec.INSTANCE).addAsync(member);
+        }
+
+        @Override
+        public void sRem(String key, String member) {
+            batch.<String>getSet(key, StringCodec.INSTANCE).removeAsync(member);
+        }
+
+        private <T> Supplier<Optional<T>> optional(RFuture<T> future) {
+            return () -> Optional.ofNullable(future.toCompletableFuture().join());
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.protocol.JsonSupport;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 브로드캐스트 전용 송신기
+ * 페이로드를 서버의 JsonSupport로 이벤트당 한 번만 UTF-8 바이트로 인코딩하고,
+ * 방의 모든 클라이언트와 Redisson pub/sub 전달에서 같은 바이트를 재사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomBroadcaster {
+
+    private final SocketIOServer socketIOServer;
+    private final Timer encodeTimer;
+    private final DistributionSummary payloadSize;
+
+    public RoomBroadcaster(SocketIOServer socketIOServer, MeterRegistry meterRegistry) {
+        this.socketIOServer = socketIOServer;
+        this.encodeTimer = Timer.builder("socketio.broadcast.encode.time")
+                .description("Time to encode a room broadcast payload once")
+                .register(meterRegistry);
+        this.payloadSize = DistributionSummary.builder("socketio.broadcast.payload.size")
+                .description("Encoded room broadcast payload size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방의 모든 클라이언트에 이벤트를 전송한다.
+     *
+     * @param roomId  대상 방 (user:{id}, room-list 등 포함)
+     * @param event   이벤트 이름
+     * @param payload 전송할 객체
+     */
+    public void sendEvent(String roomId, String event, Object payload) {
+        socketIOServer.getRoomOperations(roomId).sendEvent(event, encode(payload));
+    }
+
+    PreEncodedJson encode(Object payload) {
+        if (payload instanceof PreEncodedJson preEncoded) {
+            return preEncoded;
+        }
+
+        long start = System.nanoTime();
+        JsonSupport jsonSupport = socketIOServer.getConfiguration().getJsonSupport();
+        // JsonSupport 는 ByteBuf 로만 쓰므로 힙 버퍼에 쓴 뒤 바이트 배열로 한 번만 꺼낸다
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            jsonSupport.writeValue(new ByteBufOutputStream(buffer), payload);
+            payloadSize.record(buffer.readableBytes());
+            return new PreEncodedJson(ByteBufUtil.getBytes(buffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode broadcast payload", e);
+        } finally {
+            buffer.release();
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.AckRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 단위 단일 작성자(single-writer) 이벤트 실행기
+ * Socket.IO 이벤트를 키(보통 roomId)의 해시로 고정된 lane에 배정한다.
+ * 각 lane은 가상 스레드 하나로 순차 실행되므로 같은 방의 이벤트 순서가 보장되고,
+ * Mongo/Redis 블로킹 호출이 Netty 워커 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomEventExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer[] waitTimers;
+    private final Counter rejectedCounter;
+
+    public RoomEventExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${socketio.executor.lanes:64}") int laneCount,
+            @Value("${socketio.executor.lane-queue-capacity:10000}") int laneQueueCapacity) {
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        this.waitTimers = new Timer[laneCount];
+
+        for (int i = 0; i < laneCount; i++) {
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(laneQueueCapacity),
+                    Thread.ofVirtual().name("socketio-lane-" + i + "-", 0).factory());
+            lanes[i] = lane;
+
+            String laneTag = String.valueOf(i);
+            Gauge.builder("socketio.executor.queue.depth", lane, executor -> executor.getQueue().size())
+                    .description("Socket.IO events waiting in a room lane")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+            waitTimers[i] = Timer.builder("socketio.executor.wait.time")
+                    .description("Time Socket.IO events wait in a room lane before running")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+        }
+        this.rejectedCounter = Counter.builder("socketio.executor.rejected")
+                .description("Socket.IO events rejected because a room lane was full")
+                .register(meterRegistry);
+
+        log.info("Room event executor initialized - lanes: {}, laneQueueCapacity: {}",
+                laneCount, laneQueueCapacity);
+    }
+
+    /**
+     * 키에 해당하는 lane에서 작업을 실행한다.
+     *
+     * @param key  순서를 보장할 단위 (roomId 등)
+     * @param task 실행할 작업
+     * @throws RejectedExecutionException lane 대기열이 가득 찬 경우
+     */
+    public void execute(Object key, Runnable task) {
+        int index = laneIndex(key);
+        Timer waitTimer = waitTimers[index];
+        long enqueuedAt = System.nanoTime();
+        try {
+            lanes[index].execute(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("Unhandled error in room lane {} - key: {}", index, key, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Room lane {} is full - key: {}", index, key);
+            throw e;
+        }
+    }
+
+    /**
+     * 작업이 정상 종료되면 아직 응답하지 않은 ack 요청에 빈 응답을 보낸다.
+     * 이벤트가 비동기로 처리되므로 서버는 MANUAL ack 모드로 동작하며,
+     * 기존 AUTO_SUCCESS_ONLY 동작을 여기서 대신한다.
+     * lane 대기열이 가득 차 거절되면 예외를 던지지 않고 SERVER_BUSY 오류 ack를 보낸다.
+     */
+    public void execute(Object key, AckRequest ackRequest, Runnable task) {
+        try {
+            execute(key, () -> {
+                task.run();
+                if (ackRequest.isAckRequested()) {
+                    ackRequest.sendAckData(Collections.emptyList());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (ackRequest.isAckRequested()) {
+                ackRequest.sendAckData(busyError());
+            }
+        }
+    }
+
+    /**
+     * lane 거절 시 클라이언트에 보내는 오류 페이로드
+     */
+    public static Map<String, Object> busyError() {
+        return Map.of(
+                "code", "SERVER_BUSY",
+                "message", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."
+        );
+    }
+
+    int laneIndex(Object key) {
+        return Math.floorMod(Objects.hashCode(key), lanes.length);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                lane.shutdownNow();
+            }
+        }
+    }
+}
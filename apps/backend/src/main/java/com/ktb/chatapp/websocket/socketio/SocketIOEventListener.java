@@ -1,6 +1,5 @@
 package com.ktb.chatapp.websocket.socketio;
 
-import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.event.*;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -17,16 +16,15 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class SocketIOEventListener {
 
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
 
     @EventListener
     public void handleSessionEndedEvent(SessionEndedEvent event) {
         try {
-            socketIOServer.getRoomOperations("user:" + event.getUserId())
-                    .sendEvent("session_ended", Map.of(
-                            "reason", event.getReason(),
-                            "message", event.getMessage()
-                    ));
+            roomBroadcaster.sendEvent("user:" + event.getUserId(), "session_ended", Map.of(
+                    "reason", event.getReason(),
+                    "message", event.getMessage()
+            ));
             log.info("session_ended 이벤트 발송: userId={}, reason={}", event.getUserId(), event.getReason());
         } catch (Exception e) {
             log.error("session_ended 이벤트 발송 실패: userId={}", event.getUserId(), e);
@@ -36,7 +34,7 @@ public class SocketIOEventListener {
     @EventListener
     public void handleRoomCreatedEvent(RoomCreatedEvent event) {
         try {
-            socketIOServer.getRoomOperations("room-list").sendEvent(ROOM_CREATED, event.getRoomResponse());
+            roomBroadcaster.sendEvent("room-list", ROOM_CREATED, event.getRoomResponse());
             log.info("roomCreated 이벤트 발송: roomId={}", event.getRoomResponse().getId());
         } catch (Exception e) {
             log.error("roomCreated 이벤트 발송 실패", e);
@@ -46,7 +44,7 @@ public class SocketIOEventListener {
     @EventListener
     public void handleRoomUpdatedEvent(RoomUpdatedEvent event) {
         try {
-            socketIOServer.getRoomOperations(event.getRoomId()).sendEvent(ROOM_UPDATE, event.getRoomResponse());
+            roomBroadcaster.sendEvent(event.getRoomId(), ROOM_UPDATE, event.getRoomResponse());
             log.info("roomUpdate 이벤트 발송: roomId={}", event.getRoomId());
         } catch (Exception e) {
             log.error("roomUpdate 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
@@ -61,8 +59,7 @@ public class SocketIOEventListener {
                 "aiType", event.getAiType(),
                 "timestamp", event.getStartTime()
             );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_START, data);
+            roomBroadcaster.sendEvent(event.getRoomId(), AI_MESSAGE_START, data);
             log.info("aiMessageStart 이벤트 발송: roomId={}, messageId={}",
                     event.getRoomId(), event.getMessageId());
         } catch (Exception e) {
@@ -79,8 +76,7 @@ public class SocketIOEventListener {
                 "isCodeBlock", event.isCodeBlock(),
                 "isComplete", false
             );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_CHUNK, data);
+            roomBroadcaster.sendEvent(event.getRoomId(), AI_MESSAGE_CHUNK, data);
         } catch (Exception e) {
             log.error("aiMessageChunk 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
         }
@@ -96,8 +92,7 @@ public class SocketIOEventListener {
                 "aiType", event.getAiType(),
                 "timestamp", event.getStartTime()
             );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_COMPLETE, data);
+            roomBroadcaster.sendEvent(event.getRoomId(), AI_MESSAGE_COMPLETE, data);
             log.info("aiMessageComplete 이벤트 발송: roomId={}, messageId={}",
                     event.getRoomId(), event.getSavedMessageId());
         } catch (Exception e) {
@@ -113,8 +108,7 @@ public class SocketIOEventListener {
                 "error", event.getErrorMessage(),
                 "aiType", event.getAiType()
             );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_ERROR, data);
+            roomBroadcaster.sendEvent(event.getRoomId(), AI_MESSAGE_ERROR, data);
             log.error("aiMessageError 이벤트 발송: roomId={}, messageId={}, error={}",
                     event.getRoomId(), event.getMessageId(), event.getErrorMessage());
         } catch (Exception e) {
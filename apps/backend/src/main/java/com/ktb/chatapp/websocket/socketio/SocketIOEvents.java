@@ -41,6 +41,12 @@ public final class SocketIOEvents {
      */
     public static final String MARK_MESSAGES_AS_READ = "markMessagesAsRead";
 
+    /**
+     * 메시지를 읽은 사용자 목록 요청
+     * Payload: { messageId }
+     */
+    public static final String FETCH_MESSAGE_READERS = "fetchMessageReaders";
+
     /**
      * 메시지 리액션 추가/제거
      * Payload: { messageId, reaction, type }
@@ -77,7 +83,7 @@ public final class SocketIOEvents {
 
     /**
      * 이전 메시지 로드 완료
-     * Payload: { messages, hasMore, oldestTimestamp }
+     * Payload: { messages, hasMore, nextCursor }
      */
     public static final String PREVIOUS_MESSAGES_LOADED = "previousMessagesLoaded";
 
@@ -122,6 +128,12 @@ public final class SocketIOEvents {
      */
     public static final String MESSAGES_READ = "messagesRead";
 
+    /**
+     * 메시지를 읽은 사용자 목록 (요청한 클라이언트에게만 전송)
+     * Payload: { messageId, readers }
+     */
+    public static final String MESSAGE_READERS = "messageReaders";
+
     /**
      * 메시지 리액션 업데이트
      * Payload: { messageId, reactions }
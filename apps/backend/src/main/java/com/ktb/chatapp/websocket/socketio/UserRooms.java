@@ -1,7 +1,7 @@
 package com.ktb.chatapp.websocket.socketio;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -11,7 +11,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class UserRooms {
 
-    private static final String USER_ROOM_KEY_PREFIX = "userroom:roomids:";
+    // 기존 JSON bucket 키(userroom:roomids:)와 타입이 달라 WRONGTYPE 오류가 나지 않도록 별도 prefix 사용
+    private static final String USER_ROOM_KEY_PREFIX = "userroom:set:";
 
     private final ChatDataStore chatDataStore;
 
@@ -21,11 +22,8 @@ public class UserRooms {
      * @param userId the user ID
      * @return the set of room IDs the user is currently in, or empty set if not in any room
      */
-    @SuppressWarnings("unchecked")
     public Set<String> get(String userId) {
-        return chatDataStore.get(buildKey(userId), Set.class)
-                .map(obj -> (Set<String>) obj)
-                .orElse(new HashSet<>());
+        return chatDataStore.sMembers(buildKey(userId));
     }
 
     /**
@@ -35,9 +33,7 @@ public class UserRooms {
      * @param roomId the room ID to add to the user's room set
      */
     public void add(String userId, String roomId) {
-        Set<String> rooms = new HashSet<>(get(userId));
-        rooms.add(roomId);
-        chatDataStore.set(buildKey(userId), rooms);
+        chatDataStore.sAdd(buildKey(userId), roomId);
     }
 
     /**
@@ -47,13 +43,7 @@ public class UserRooms {
      * @param roomId the room ID to remove
      */
     public void remove(String userId, String roomId) {
-        Set<String> rooms = new HashSet<>(get(userId));
-        rooms.remove(roomId);
-        if (rooms.isEmpty()) {
-            chatDataStore.delete(buildKey(userId));
-        } else {
-            chatDataStore.set(buildKey(userId), rooms);
-        }
+        chatDataStore.sRem(buildKey(userId), roomId);
     }
 
     /**
@@ -73,7 +63,28 @@ public class UserRooms {
      * @return true if the user is in the room, false otherwise
      */
     public boolean isInRoom(String userId, String roomId) {
-        return get(userId).contains(roomId);
+        return chatDataStore.sIsMember(buildKey(userId), roomId);
+    }
+
+    /**
+     * Queue a room lookup in a ChatDataStore batch
+     *
+     * @param batch the batch to queue into
+     * @param userId the user ID
+     * @return supplier of the user's room IDs, available after the batch executes
+     */
+    public Supplier<Set<String>> get(ChatDataStore.Batch batch, String userId) {
+        return batch.sMembers(buildKey(userId));
+    }
+
+    /**
+     * Queue removal of all room associations in a ChatDataStore batch
+     *
+     * @param batch the batch to queue into
+     * @param userId the user ID
+     */
+    public void clear(ChatDataStore.Batch batch, String userId) {
+        batch.delete(buildKey(userId));
     }
 
     private String buildKey(String userId) {
@@ -81,6 +92,6 @@ public class UserRooms {
     }
     
     public void removeAllRooms(String userId) {
-        get(userId).forEach(roomId -> remove(userId, roomId));
+        clear(userId);
     }
 }
@@ -1,16 +1,20 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.annotation.RateLimit.Distribution;
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.model.*;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.*;
+import com.ktb.chatapp.service.message.MessagePersistenceQueue;
+import com.ktb.chatapp.service.message.RecentMessageCache;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
 import com.ktb.chatapp.util.BannedWordChecker;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -18,6 +22,9 @@ import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -30,9 +37,9 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ChatMessageHandler {
-    private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final RoomBroadcaster roomBroadcaster;
+    private final MessagePersistenceQueue messagePersistenceQueue;
+    private final RoomMembershipCache roomMembershipCache;
     private final UserRepository userRepository;
     //private final FileRepository fileRepository;
     private final AiService aiService;
@@ -41,9 +48,23 @@ public class ChatMessageHandler {
     private final RateLimitService rateLimitService;
     private final MeterRegistry meterRegistry;
     private final S3FileService s3FileService;
+    private final RoomEventExecutor roomEventExecutor;
+    private final RecentMessageCache recentMessageCache;
+    private final MessageResponseMapper messageResponseMapper;
     
     @OnEvent(CHAT_MESSAGE)
-    public void handleChatMessage(SocketIOClient client, ChatMessageRequest data) {
+    public void handleChatMessage(SocketIOClient client, ChatMessageRequest data, AckRequest ackRequest) {
+        // ack는 커밋 완료 시점에 messageId와 함께 직접 보낸다
+        String roomId = data != null ? data.getRoom() : null;
+        try {
+            roomEventExecutor.execute(roomId, () -> processChatMessage(client, data, ackRequest));
+        } catch (RejectedExecutionException e) {
+            recordError("server_busy");
+            client.sendEvent(ERROR, RoomEventExecutor.busyError());
+        }
+    }
+
+    private void processChatMessage(SocketIOClient client, ChatMessageRequest data, AckRequest ackRequest) {
         Timer.Sample timerSample = Timer.start(meterRegistry);
 
         if (data == null) {
@@ -80,9 +101,9 @@ public class ChatMessageHandler {
             return;
         }
 
-        // Rate limit check
-        RateLimitCheckResult rateLimitResult =
-                rateLimitService.checkRateLimit(socketUser.id(), 10000, Duration.ofMinutes(1));
+        // Rate limit check (노드를 옮겨 다녀도 사용자 한도가 유지되도록 lease 방식 사용)
+        RateLimitCheckResult rateLimitResult = rateLimitService.checkRateLimit(
+                socketUser.id(), 10000, Duration.ofMinutes(1), Distribution.LEASED);
         if (!rateLimitResult.allowed()) {
             recordError("rate_limit_exceeded");
             Counter.builder("socketio.messages.rate_limit")
@@ -113,8 +134,7 @@ public class ChatMessageHandler {
             }
 
             String roomId = data.getRoom();
-            Room room = roomRepository.findById(roomId).orElse(null);
-            if (room == null || !room.getParticipantIds().contains(socketUser.id())) {
+            if (!roomMembershipCache.isMember(roomId, socketUser.id())) {
                 recordError("room_access_denied");
                 client.sendEvent(ERROR, Map.of(
                     "code", "MESSAGE_ERROR",
@@ -163,21 +183,39 @@ public class ChatMessageHandler {
                         data.getFileData());
             }
 
-            Message savedMessage = messageRepository.save(message);
+            CompletableFuture<Message> commit = messagePersistenceQueue.submit(message);
+            Message savedMessage = messagePersistenceQueue.isWaitForCommit() ? awaitCommit(commit) : message;
 
-            log.debug("📤 Saved message: id={}, type={}, hasFile={}",
+            log.debug("📤 Queued message: id={}, type={}, hasFile={}",
                     savedMessage.getId(),
                     savedMessage.getType(),
                     savedMessage.getFile() != null);
 
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGE, createMessageResponse(savedMessage, sender));
+            roomBroadcaster.sendEvent(roomId, MESSAGE, createMessageResponse(savedMessage, sender));
+            // 최근 메시지 버퍼는 MongoDB 조회 결과와 같은 형태로 보관한다
+            recentMessageCache.append(messageResponseMapper.mapToMessageResponse(savedMessage, sender));
+
+            commit.whenComplete((committed, error) -> {
+                if (error != null) {
+                    // BROADCAST_THEN_COMMIT 모드에서 커밋이 실패하면 발신자에게만 알린다
+                    recordError("persist_failed");
+                    recentMessageCache.remove(roomId, savedMessage.getId());
+                    log.error("Message persistence failed - messageId: {}, room: {}",
+                            savedMessage.getId(), roomId, error);
+                    client.sendEvent(ERROR, Map.of(
+                            "code", "MESSAGE_ERROR",
+                            "message", "메시지 저장에 실패했습니다."
+                    ));
+                    return;
+                }
+                if (ackRequest.isAckRequested()) {
+                    ackRequest.sendAckData(Map.of("messageId", committed.getId()));
+                }
+            });
 
             // AI 멘션 처리
             aiService.handleAIMentions(roomId, socketUser.id(), messageContent);
 
-            sessionService.updateLastActivity(socketUser.id());
-
             // Record success metrics
             recordMessageSuccess(messageType);
             timerSample.stop(createTimer("success", messageType));
@@ -196,6 +234,17 @@ public class ChatMessageHandler {
         }
     }
 
+    private Message awaitCommit(CompletableFuture<Message> commit) {
+        try {
+            return commit.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     private Message handleFileMessage(String roomId, String userId, MessageContent messageContent,
                                       ChatMessageRequest.FileDataRequest fileData) {
         if (fileData == null) {
@@ -3,15 +3,19 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.ktb.chatapp.websocket.socketio.ChatDataStore;
 import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.PresenceCounter;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
-import io.micrometer.core.instrument.Gauge;
-import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -29,49 +33,64 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class ConnectionLoginHandler {
 
     private final SocketIOServer socketIOServer;
+    private final ChatDataStore chatDataStore;
     private final ConnectedUsers connectedUsers;
     private final UserRooms userRooms;
     private final RoomJoinHandler roomJoinHandler;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final PresenceCounter presenceCounter;
 
     public ConnectionLoginHandler(
             SocketIOServer socketIOServer,
+            ChatDataStore chatDataStore,
             ConnectedUsers connectedUsers,
             UserRooms userRooms,
             RoomJoinHandler roomJoinHandler,
             RoomLeaveHandler roomLeaveHandler,
-            MeterRegistry meterRegistry) {
+            PresenceCounter presenceCounter) {
         this.socketIOServer = socketIOServer;
+        this.chatDataStore = chatDataStore;
         this.connectedUsers = connectedUsers;
         this.userRooms = userRooms;
         this.roomJoinHandler = roomJoinHandler;
         this.roomLeaveHandler = roomLeaveHandler;
-
-        // Register gauge metric for concurrent users
-        Gauge.builder("socketio.concurrent.users", connectedUsers::size)
-                .description("Current number of concurrent Socket.IO users")
-                .register(meterRegistry);
+        this.presenceCounter = presenceCounter;
     }
     
     /**
      * auth 처리가 선행되어야 해서 @OnConnect 대신 별도 메서드로 구현
+     * 이전 연결 교체와 참여 방 조회는 한 번의 배치(왕복 1회)로 처리한다.
      */
     public void onConnect(SocketIOClient client, SocketUser user) {
         String userId = user.id();
         
         try {
-            notifyDuplicateLogin(client, userId);
+            var pending = new Object() {
+                Supplier<Optional<SocketUser>> previousUser;
+                Supplier<Set<String>> roomIds;
+            };
+            chatDataStore.batch(batch -> {
+                pending.previousUser = connectedUsers.getAndSet(batch, user);
+                pending.roomIds = userRooms.get(batch, userId);
+            });
+            
+            pending.previousUser.get().ifPresent(previousUser -> notifyDuplicateLogin(client, previousUser));
             client.set("user", user);
             
-            userRooms.get(userId).forEach(roomId -> {
+            pending.roomIds.get().forEach(roomId -> {
                 // 재접속 시 기존 참여 방 재입장 처리
-                roomJoinHandler.handleJoinRoom(client, roomId);
+                try {
+                    roomJoinHandler.rejoinRoom(client, roomId);
+                } catch (RejectedExecutionException e) {
+                    // 한 방의 lane이 가득 차도 나머지 방과 연결 처리는 계속한다
+                    client.sendEvent(ERROR, RoomEventExecutor.busyError());
+                }
             });
             
-            connectedUsers.set(userId, user);
+            presenceCounter.connected(userId, client.getSessionId().toString());
 
-            log.info("Socket.IO user connected: {} ({}) - Total concurrent users: {}",
-                    getUserName(client), userId, connectedUsers.size());
+            log.info("Socket.IO user connected: {} ({}) - Concurrent users on node: {}",
+                    getUserName(client), userId, presenceCounter.localCount());
 
             client.joinRooms(Set.of("user:" + userId, "room-list"));
             
@@ -83,8 +102,12 @@ public class ConnectionLoginHandler {
         }
     }
     
+    /**
+     * 참여 방 조회/삭제와 활성 연결 정리는 한 번의 배치(왕복 1회)로 처리한다.
+     */
     @OnDisconnect
     public void onDisconnect(SocketIOClient client) {
+        SocketUser socketUser = getUserDto(client);
         String userId = getUserId(client);
         String userName = getUserName(client);
         
@@ -93,16 +116,29 @@ public class ConnectionLoginHandler {
                 return;
             }
             
-            userRooms.get(userId).forEach(roomId -> {
-                roomLeaveHandler.handleLeaveRoom(client, roomId);
+            var pending = new Object() {
+                Supplier<Set<String>> roomIds;
+                Supplier<Boolean> wasCurrent;
+            };
+            chatDataStore.batch(batch -> {
+                pending.roomIds = userRooms.get(batch, userId);
+                userRooms.clear(batch, userId);
+                // 해당 사용자의 현재 활성 연결인 경우에만 정리
+                pending.wasCurrent = connectedUsers.delIfCurrent(batch, socketUser);
+            });
+            
+            pending.roomIds.get().forEach(roomId -> {
+                try {
+                    roomLeaveHandler.leaveRoomOnDisconnect(client, socketUser, roomId);
+                } catch (RejectedExecutionException e) {
+                    // 퇴장 알림을 보내지 못해도 접속 수와 소켓 룸 정리는 계속한다
+                    log.warn("Skipped leave on disconnect - roomId: {}, userId: {}", roomId, userId);
+                }
             });
             String socketId = client.getSessionId().toString();
+            presenceCounter.disconnected(userId, socketId);
             
-            // 해당 사용자의 현재 활성 연결인 경우에만 정리
-            var socketUser = connectedUsers.get(userId);
-            if (socketUser != null && socketId.equals(socketUser.socketId())) {
-                connectedUsers.del(userId);
-            } else {
+            if (!pending.wasCurrent.get()) {
                 log.warn("Socket.IO disconnect: User {} has a different active connection. Skipping cleanup.", userId);
             }
 
@@ -110,8 +146,8 @@ public class ConnectionLoginHandler {
             client.del("user");
             client.disconnect();
             
-            log.info("Socket.IO user disconnected: {} ({}) - Total concurrent users: {}",
-                    userName, userId, connectedUsers.size());
+            log.info("Socket.IO user disconnected: {} ({}) - Concurrent users on node: {}",
+                    userName, userId, presenceCounter.localCount());
         } catch (Exception e) {
             log.error("Error handling Socket.IO disconnection", e);
             client.sendEvent(ERROR, Map.of(
@@ -139,12 +175,8 @@ public class ConnectionLoginHandler {
      * TODO 멀티 클러스터에서 동작 안함 다중 노드의 경우 다른  노드에 접속된 사용자는 통보 불가함
      * socketIOServer.getRoomOperations("user:" + userId) 로 처리 변경.
      */
-    private void notifyDuplicateLogin(SocketIOClient client, String userId) {
-        var socketUser = connectedUsers.get(userId);
-        if (socketUser == null) {
-            return;
-        }
-        String existingSocketId = socketUser.socketId();
+    private void notifyDuplicateLogin(SocketIOClient client, SocketUser previousUser) {
+        String existingSocketId = previousUser.socketId();
         SocketIOClient existingClient = socketIOServer.getClient(UUID.fromString(existingSocketId));
         if (existingClient == null) {
             return;
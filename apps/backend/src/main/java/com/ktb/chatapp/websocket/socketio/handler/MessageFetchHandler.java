@@ -1,19 +1,16 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
-import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.MessagesReadResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -33,13 +30,18 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageFetchHandler {
 
-    private final SocketIOServer socketIOServer;
-    private final RoomRepository roomRepository;
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomMembershipCache roomMembershipCache;
     private final MessageLoader messageLoader;
-    private final MessageReadStatusService messageReadStatusService;
+    private final RoomEventExecutor roomEventExecutor;
 
     @OnEvent(FETCH_PREVIOUS_MESSAGES)
-    public void handleFetchMessages(SocketIOClient client, FetchMessagesRequest data) {
+    public void handleFetchMessages(SocketIOClient client, FetchMessagesRequest data, AckRequest ackRequest) {
+        String roomId = data != null ? data.roomId() : null;
+        roomEventExecutor.execute(roomId, ackRequest, () -> processFetchMessages(client, data));
+    }
+
+    private void processFetchMessages(SocketIOClient client, FetchMessagesRequest data) {
         String userId = getUserId(client);
         String queueKey = data.roomId() + ":" + userId;
         if (userId == null) {
@@ -52,8 +54,7 @@ public class MessageFetchHandler {
         
         try {
             // 권한 체크
-            Room room = roomRepository.findById(data.roomId()).orElse(null);
-            if (room == null || !room.getParticipantIds().contains(userId)) {
+            if (!roomMembershipCache.isMember(data.roomId(), userId)) {
                 client.sendEvent(ERROR, Map.of(
                         "code", "LOAD_ERROR",
                         "message", "채팅방 접근 권한이 없습니다."
@@ -63,40 +64,24 @@ public class MessageFetchHandler {
 
             client.sendEvent(MESSAGE_LOAD_START);
 
-            log.debug("Starting message load for user {} in room {}, limit: {}, before: {}",
-                    userId, data.roomId(), data.limit(), data.before());
+            log.debug("Starting message load for user {} in room {}, limit: {}, before: {}, cursor: {}",
+                    userId, data.roomId(), data.limit(), data.before(), data.cursor());
 
             log.debug("Loading messages for room {}", data.roomId());
             FetchMessagesResponse result = messageLoader.loadMessages(data, userId);
-            
-            // 읽음 처리
-            List<String> messageIds = new ArrayList<String>();
-            List<MessageResponse> messageResponses = result.getMessages();
-            for(MessageResponse messageResponse : messageResponses){
-                boolean flag = false;
-                List<Message.MessageReader> readers = messageResponse.getReaders();
-                for(Message.MessageReader reader : readers){
-                    if(reader.getUserId() == userId) flag = true;
-                }
-                if(flag) continue;
-                messageIds.add(messageResponse.getId());
-            }
-            messageReadStatusService.updateReadStatus(messageIds, userId);
-
-            // 다시 읽어오기
-            result = messageLoader.loadMessages(data,userId);
 
             log.debug("Previous messages loaded - room: {}, count: {}, hasMore: {}",
                     data.roomId(), result.getMessages().size(),
                     result.isHasMore());
             
             client.sendEvent(PREVIOUS_MESSAGES_LOADED, result);
-            
-            MessagesReadResponse response = new MessagesReadResponse(userId, messageIds);
 
-            String roomId = data.roomId();
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGES_READ, response);
+            // 읽음 처리는 메시지 로드 시 읽음 위치 갱신으로 함께 수행되며, 새로 읽은 메시지만 알린다
+            List<String> messageIds = result.getNewlyReadMessageIds();
+            if (!messageIds.isEmpty()) {
+                MessagesReadResponse response = new MessagesReadResponse(userId, messageIds);
+                roomBroadcaster.sendEvent(data.roomId(), MESSAGES_READ, response);
+            }
 
         } catch (Exception e) {
             log.error("Error handling fetchPreviousMessages", e);
@@ -2,21 +2,33 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.MessageCursor;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.ReadCursor;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.message.MessageBucketStore;
+import com.ktb.chatapp.service.message.RecentMessageCache;
+import com.ktb.chatapp.service.message.RecentMessageCache.RecentPage;
+import com.ktb.chatapp.service.message.RedisRoomTail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -25,24 +37,66 @@ import org.springframework.stereotype.Component;
 
 import static java.util.Collections.emptyList;
 
+/**
+ * 채팅방 메시지 페이지 로더
+ * 최신 페이지는 최근 메시지 버퍼나 공유 Redis tail 에서, 이전 페이지는 범위 조회 한 번으로 만들고,
+ * 읽음 위치 쓰기는 최대 한 번 수행한다. 본인의 읽음 상태는 다시 조회하지 않고 메모리에서 응답에 반영한다.
+ * 메시지는 응답에 필요한 필드만 projection 으로 읽고, 읽은 사용자는 목록 대신 집계한 readCount 만 보낸다.
+ * 목록은 클라이언트가 필요할 때 FETCH_MESSAGE_READERS 로 조회한다.
+ * 채팅방에 cold storage 경계가 있으면 경계 이하의 메시지는 버킷에서 읽는다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MessageLoader {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
     private final MessageResponseMapper messageResponseMapper;
     private final MessageReadStatusService messageReadStatusService;
+    private final RecentMessageCache recentMessageCache;
+    private final RedisRoomTail redisRoomTail;
+    private final MessageBucketStore messageBucketStore;
+
+    private final Timer queryTimer;
+    private final Timer bucketTimer;
+    private final Timer cursorsTimer;
+    private final Timer readMarkTimer;
+    private final Timer sendersTimer;
+    private final Timer mapTimer;
 
     private static final int BATCH_SIZE = 30;
 
+    public MessageLoader(
+            MessageRepository messageRepository,
+            UserRepository userRepository,
+            MessageResponseMapper messageResponseMapper,
+            MessageReadStatusService messageReadStatusService,
+            RecentMessageCache recentMessageCache,
+            RedisRoomTail redisRoomTail,
+            MessageBucketStore messageBucketStore,
+            MeterRegistry meterRegistry) {
+        this.messageRepository = messageRepository;
+        this.userRepository = userRepository;
+        this.messageResponseMapper = messageResponseMapper;
+        this.messageReadStatusService = messageReadStatusService;
+        this.recentMessageCache = recentMessageCache;
+        this.redisRoomTail = redisRoomTail;
+        this.messageBucketStore = messageBucketStore;
+        this.queryTimer = stageTimer(meterRegistry, "query");
+        this.bucketTimer = stageTimer(meterRegistry, "bucket");
+        this.cursorsTimer = stageTimer(meterRegistry, "cursors");
+        this.readMarkTimer = stageTimer(meterRegistry, "read-mark");
+        this.sendersTimer = stageTimer(meterRegistry, "senders");
+        this.mapTimer = stageTimer(meterRegistry, "map");
+    }
+
     /**
      * 메시지 로드
+     * 반환된 페이지까지 사용자의 읽음 위치를 전진시키고, 새로 읽은 메시지 ID를 함께 반환한다.
      */
     public FetchMessagesResponse loadMessages(FetchMessagesRequest data, String userId) {
         try {
-            return loadMessagesInternal(data.roomId(), data.limit(BATCH_SIZE), data.before(LocalDateTime.now()), userId);
+            return loadMessagesInternal(data.roomId(), data.limit(BATCH_SIZE), data.pageCursor(), userId);
         } catch (Exception e) {
             log.error("Error loading initial messages for room {}", data.roomId(), e);
             return FetchMessagesResponse.builder()
@@ -52,44 +106,178 @@ public class MessageLoader {
         }
     }
 
+    /**
+     * REST 히스토리 조회. 읽음 위치를 전진시키지 않으므로 같은 요청에는 같은 응답을 돌려준다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public FetchMessagesResponse loadHistory(FetchMessagesRequest data) {
+        return loadMessagesInternal(data.roomId(), data.limit(BATCH_SIZE), data.pageCursor(), null);
+    }
+
+    /**
+     * 채팅방의 가장 최근 메시지 ID. 메시지가 없으면 null.
+     * 최근 메시지 버퍼에 있으면 MongoDB 를 조회하지 않는다.
+     */
+    public String newestMessageId(String roomId) {
+        RecentPage cached = recentMessageCache.firstPage(roomId, 1);
+        if (cached != null) {
+            return cached.messages().isEmpty() ? null : cached.messages().getLast().getId();
+        }
+        List<Message> newest = queryTimer.record(() -> messageRepository.findNewestIds(roomId, PageRequest.of(0, 1)));
+        return newest.isEmpty() ? null : newest.getFirst().getId();
+    }
+
     private FetchMessagesResponse loadMessagesInternal(
             String roomId,
             int limit,
-            LocalDateTime before,
+            MessageCursor before,
             String userId) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").descending());
+        RecentPage page = before == null ? loadFirstPage(roomId, limit) : loadPage(roomId, limit, before);
+        List<MessageResponse> messageResponses = page.messages();
+
+        List<Long> timestamps = messageResponses.stream().map(MessageResponse::getTimestamp).toList();
+        Map<Long, Integer> readCounts = cursorsTimer.record(
+                () -> messageReadStatusService.countReaders(roomId, timestamps));
+        List<String> newlyReadIds = userId != null
+                ? markPageRead(roomId, userId, messageResponses)
+                : List.of();
+
+        // 본인의 읽음 위치 전진은 다시 집계하지 않고 새로 읽은 메시지의 수에 더한다
+        Set<String> newlyRead = Set.copyOf(newlyReadIds);
+        messageResponses.forEach(message -> messageResponseMapper.applyReadCount(message,
+                readCounts.getOrDefault(message.getTimestamp(), 0) + (newlyRead.contains(message.getId()) ? 1 : 0)));
+
+        log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, newlyRead: {}, hasMore: {}",
+                roomId, limit, messageResponses.size(), newlyReadIds.size(), page.hasMore());
+
+        return FetchMessagesResponse.builder()
+                .messages(messageResponses)
+                .newlyReadMessageIds(newlyReadIds)
+                .hasMore(page.hasMore())
+                .nextCursor(page.hasMore() && !messageResponses.isEmpty()
+                        ? MessageCursor.of(messageResponses.getFirst()).encode()
+                        : null)
+                .build();
+    }
+
+    /**
+     * 페이지의 최신 메시지가 기존 읽음 위치보다 앞설 때만 한 번 쓴다.
+     *
+     * @return 이번 조회로 새로 읽은 메시지 ID
+     */
+    private List<String> markPageRead(
+            String roomId,
+            String userId,
+            List<MessageResponse> messageResponses) {
+        ReadCursor cursor = cursorsTimer.record(() -> messageReadStatusService.findCursor(roomId, userId));
+        LocalDateTime previousRead = cursor != null ? cursor.getLastReadTimestamp() : null;
+        long previousReadMillis = previousRead != null
+                ? previousRead.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : Long.MIN_VALUE;
+
+        List<String> newlyReadIds = messageResponses.stream()
+                .filter(message -> message.getTimestamp() > previousReadMillis)
+                .map(MessageResponse::getId)
+                .toList();
+        if (newlyReadIds.isEmpty()) {
+            return newlyReadIds;
+        }
+
+        MessageResponse newest = messageResponses.getLast();
+        Message latest = Message.builder()
+                .id(newest.getId())
+                .roomId(roomId)
+                .timestamp(toDateTime(newest.getTimestamp()))
+                .build();
+        readMarkTimer.record(() -> messageReadStatusService.markAsRead(latest, userId));
+        return newlyReadIds;
+    }
+
+    /**
+     * 최신 페이지는 노드의 최근 메시지 버퍼, 공유 Redis tail, MongoDB 순으로 읽고
+     * 읽은 결과로 앞 단계를 채운다.
+     */
+    private RecentPage loadFirstPage(String roomId, int limit) {
+        RecentPage cached = recentMessageCache.firstPage(roomId, limit);
+        if (cached != null) {
+            return cached;
+        }
+
+        recentMessageCache.beginLoad(roomId);
+        int bufferSize = Math.max(limit, recentMessageCache.capacity());
+        RecentPage loaded = redisRoomTail.firstPage(roomId, bufferSize);
+        if (loaded == null) {
+            loaded = loadPage(roomId, Math.max(bufferSize, redisRoomTail.capacity()), null);
+            redisRoomTail.prime(roomId, loaded.messages(), loaded.hasMore());
+        }
+        RecentPage buffered = newest(loaded, bufferSize);
+        recentMessageCache.prime(roomId, buffered.messages(), buffered.hasMore());
+        return newest(buffered, limit);
+    }
+
+    private static RecentPage newest(RecentPage page, int limit) {
+        List<MessageResponse> messages = page.messages();
+        if (messages.size() <= limit) {
+            return page;
+        }
+        return new RecentPage(new ArrayList<>(messages.subList(messages.size() - limit, messages.size())), true);
+    }
+
+    /**
+     * before 보다 이전 메시지를 (timestamp, _id) 내림차순으로 조회한다.
+     * 커서에 메시지 ID 가 없으면(최신 페이지, 기존 before 요청) timestamp 만으로 자른다.
+     * 페이지가 cold storage 경계에 닿을 수 있을 때만 경계를 조회하고, 경계 이하는 버킷에서 읽는다.
+     */
+    private RecentPage loadPage(String roomId, int limit, MessageCursor before) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "timestamp", "_id"));
 
-        Slice<Message> messageSlice = messageRepository
-                .findSliceByRoomIdAndIsDeletedAndTimestampBefore(roomId, false, before, pageable);
+        Slice<Message> messageSlice = queryTimer.record(() -> before != null && before.id() != null
+                ? messageRepository.findSliceBeforeCursor(
+                        roomId, toDateTime(before.timestamp()), new ObjectId(before.id()), pageable)
+                : messageRepository.findHistorySliceBefore(
+                        roomId, before != null ? toDateTime(before.timestamp()) : LocalDateTime.now(), pageable));
 
-        List<Message> messages = messageSlice.getContent();
+        List<Message> newestFirst = messageSlice.getContent();
+        boolean hasMore = messageSlice.hasNext();
+        if (!hasMore || messageBucketStore.mayHaveColdBefore(newestFirst.getLast())) {
+            MessageCursor watermark = bucketTimer.record(() -> messageBucketStore.watermark(roomId));
+            if (watermark != null) {
+                // 경계 이하의 hot 메시지는 중단된 작업이 남긴 사본이다
+                List<Message> hot = newestFirst.stream()
+                        .filter(message -> !MessageBucketStore.isCompacted(watermark, message))
+                        .toList();
+                if (!hasMore || hot.size() < newestFirst.size()) {
+                    MessageCursor coldBefore = hot.isEmpty() ? before : MessageCursor.of(hot.getLast());
+                    int remaining = limit - hot.size();
+                    List<Message> cold = bucketTimer.record(() -> loadCold(roomId, coldBefore, remaining + 1));
+                    hasMore = cold.size() > remaining;
+                    newestFirst = Stream.concat(hot.stream(), cold.stream().limit(remaining)).toList();
+                }
+            }
+        }
 
         // DESC로 조회했으므로 ASC로 재정렬 (채팅 UI 표시 순서)
-        List<Message> sortedMessages = messages.reversed();
-        
-        var messageIds = sortedMessages.stream().map(Message::getId).toList();
-        messageReadStatusService.updateReadStatus(messageIds, userId);
+        List<Message> sortedMessages = newestFirst.reversed();
 
         // 발신자 정보를 한 번에 로드해 N+1 쿼리 방지
-        Map<String, User> usersById = loadUsersById(sortedMessages);
-        
+        Map<String, User> usersById = sendersTimer.record(() -> loadUsersById(sortedMessages));
+
         // 메시지 응답 생성
-        List<MessageResponse> messageResponses = sortedMessages.stream()
+        List<MessageResponse> messageResponses = mapTimer.record(() -> sortedMessages.stream()
                 .map(message -> {
                     var user = usersById.get(message.getSenderId());
                     return messageResponseMapper.mapToMessageResponse(message, user);
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
 
-        boolean hasMore = messageSlice.hasNext();
-
-        log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
-                roomId, limit, messageResponses.size(), hasMore);
+        return new RecentPage(messageResponses, hasMore);
+    }
 
-        return FetchMessagesResponse.builder()
-                .messages(messageResponses)
-                .hasMore(hasMore)
-                .build();
+    private List<Message> loadCold(String roomId, MessageCursor before, int count) {
+        try (Stream<Message> messages = messageBucketStore.streamBefore(roomId, before)) {
+            return messages.limit(count).toList();
+        }
     }
 
     private Map<String, User> loadUsersById(List<Message> messages) {
@@ -102,4 +290,15 @@ public class MessageLoader {
                 .stream()
                 .collect(Collectors.toMap(User::getId, Function.identity()));
     }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("messages.fetch.stage.time")
+                .description("Time spent in each message page load stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
 }
@@ -1,12 +1,15 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageReactionRequest;
 import com.ktb.chatapp.dto.MessageReactionResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.service.message.RecentMessageCache;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -26,11 +29,19 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReactionHandler {
     
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MessageRepository messageRepository;
+    private final RoomEventExecutor roomEventExecutor;
+    private final RecentMessageCache recentMessageCache;
     
     @OnEvent(MESSAGE_REACTION)
-    public void handleMessageReaction(SocketIOClient client, MessageReactionRequest data) {
+    public void handleMessageReaction(SocketIOClient client, MessageReactionRequest data, AckRequest ackRequest) {
+        // 요청에 roomId가 없으므로 같은 메시지에 대한 리액션끼리 순서를 보장한다
+        String messageId = data != null ? data.getMessageId() : null;
+        roomEventExecutor.execute(messageId, ackRequest, () -> processMessageReaction(client, data));
+    }
+
+    private void processMessageReaction(SocketIOClient client, MessageReactionRequest data) {
         try {
             String userId = getUserId(client);
             if (userId == null || userId.isBlank()) {
@@ -57,14 +68,14 @@ public class MessageReactionHandler {
                 data.getType(), data.getReaction(), message.getId(), userId);
 
             messageRepository.save(message);
+            recentMessageCache.updateReactions(message.getRoomId(), message.getId(), message.getReactions());
 
             MessageReactionResponse response = new MessageReactionResponse(
                 message.getId(),
                 message.getReactions()
             );
 
-            socketIOServer.getRoomOperations(message.getRoomId())
-                .sendEvent(MESSAGE_REACTION_UPDATE, response);
+            roomBroadcaster.sendEvent(message.getRoomId(), MESSAGE_REACTION_UPDATE, response);
 
         } catch (Exception e) {
             log.error("Error handling messageReaction", e);
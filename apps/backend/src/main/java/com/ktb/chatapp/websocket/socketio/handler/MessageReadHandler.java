@@ -1,18 +1,18 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.FetchMessageReadersRequest;
 import com.ktb.chatapp.dto.MarkAsReadRequest;
-import com.ktb.chatapp.dto.MessagesReadResponse;
+import com.ktb.chatapp.dto.MessageReadersResponse;
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.ReadReceiptAggregator;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +23,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 
 /**
  * 메시지 읽음 상태 처리 핸들러
- * 메시지 읽음 상태 업데이트 및 브로드캐스트 담당
+ * 읽음 요청을 검증해 ReadReceiptAggregator 에 전달하고, 메시지를 읽은 사용자 목록 요청에 응답한다
  */
 @Slf4j
 @Component
@@ -31,14 +31,19 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReadHandler {
     
-    private final SocketIOServer socketIOServer;
+    private final ReadReceiptAggregator readReceiptAggregator;
     private final MessageReadStatusService messageReadStatusService;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final RoomMembershipCache roomMembershipCache;
+    private final RoomEventExecutor roomEventExecutor;
     
     @OnEvent(MARK_MESSAGES_AS_READ)
-    public void handleMarkAsRead(SocketIOClient client, MarkAsReadRequest data) {
+    public void handleMarkAsRead(SocketIOClient client, MarkAsReadRequest data, AckRequest ackRequest) {
+        // roomId가 없으면 메시지 조회 후에야 알 수 있으므로 연결 단위로 순서를 보장한다
+        Object laneKey = data != null && data.getRoomId() != null ? data.getRoomId() : client.getSessionId();
+        roomEventExecutor.execute(laneKey, ackRequest, () -> processMarkAsRead(client, data));
+    }
+
+    private void processMarkAsRead(SocketIOClient client, MarkAsReadRequest data) {
         try {
             String userId = getUserId(client);
             if (userId == null) {
@@ -49,34 +54,25 @@ public class MessageReadHandler {
             if (data == null || data.getMessageIds() == null || data.getMessageIds().isEmpty()) {
                 return;
             }
-            
-            String roomId = messageRepository.findById(data.getMessageIds().getFirst())
-                    .map(Message::getRoomId).orElse(null);
-            
-            if (roomId == null || roomId.isBlank()) {
-                client.sendEvent(ERROR, Map.of("message", "Invalid room"));
-                return;
+
+            String roomId = data.getRoomId();
+            if (roomId == null) {
+                roomId = messageReadStatusService.findLatest(data.getMessageIds())
+                        .map(Message::getRoomId).orElse(null);
             }
 
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
-                client.sendEvent(ERROR, Map.of("message", "User not found"));
+            if (roomId == null || roomId.isBlank()) {
+                client.sendEvent(ERROR, Map.of("message", "Invalid room"));
                 return;
             }
 
-            Room room = roomRepository.findById(roomId).orElse(null);
-            if (room == null || !room.getParticipantIds().contains(userId)) {
+            if (!roomMembershipCache.isMember(roomId, userId)) {
                 client.sendEvent(ERROR, Map.of("message", "Room access denied"));
                 return;
             }
-            
-            messageReadStatusService.updateReadStatus(data.getMessageIds(), userId);
-
-            MessagesReadResponse response = new MessagesReadResponse(userId, data.getMessageIds());
 
-            // Broadcast to room
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGES_READ, response);
+            // 저장과 MESSAGES_READ 브로드캐스트는 방별로 모아 tick 마다 한 번 수행된다
+            readReceiptAggregator.record(roomId, userId, data.getMessageIds());
 
         } catch (Exception e) {
             log.error("Error handling markMessagesAsRead", e);
@@ -86,8 +82,52 @@ public class MessageReadHandler {
         }
     }
     
+    @OnEvent(FETCH_MESSAGE_READERS)
+    public void handleFetchReaders(SocketIOClient client, FetchMessageReadersRequest data, AckRequest ackRequest) {
+        roomEventExecutor.execute(client.getSessionId(), ackRequest, () -> processFetchReaders(client, data));
+    }
+
+    /**
+     * 메시지 페이지에는 읽은 사용자 수만 포함되므로, 목록은 클라이언트가 요청할 때만 조회한다.
+     */
+    private void processFetchReaders(SocketIOClient client, FetchMessageReadersRequest data) {
+        try {
+            String userId = getUserId(client);
+            if (userId == null) {
+                client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+                return;
+            }
+
+            if (data == null || data.messageId() == null) {
+                return;
+            }
+
+            Message message = messageReadStatusService.findMessages(List.of(data.messageId())).stream()
+                    .findFirst()
+                    .orElse(null);
+            if (message == null || message.getTimestamp() == null) {
+                client.sendEvent(ERROR, Map.of("message", "Message not found"));
+                return;
+            }
+
+            if (!roomMembershipCache.isMember(message.getRoomId(), userId)) {
+                client.sendEvent(ERROR, Map.of("message", "Room access denied"));
+                return;
+            }
+
+            client.sendEvent(MESSAGE_READERS, new MessageReadersResponse(
+                    message.getId(), messageReadStatusService.findReaders(message)));
+
+        } catch (Exception e) {
+            log.error("Error handling fetchMessageReaders", e);
+            client.sendEvent(ERROR, Map.of(
+                    "message", "읽은 사용자 조회 중 오류가 발생했습니다."
+            ));
+        }
+    }
+
     private String getUserId(SocketIOClient client) {
         var user = (SocketUser) client.get("user");
-        return user.id();
+        return user != null ? user.id() : null;
     }
 }
@@ -10,6 +10,7 @@ import com.ktb.chatapp.model.User;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import com.ktb.chatapp.service.S3FileService;
 import lombok.RequiredArgsConstructor;
@@ -45,8 +46,7 @@ public class MessageResponseMapper {
                 .roomId(message.getRoomId())
                 .reactions(message.getReactions() != null ?
                         message.getReactions() : new HashMap<>())
-                .readers(message.getReaders() != null ?
-                        message.getReaders() : new ArrayList<>());
+                .readers(new ArrayList<>());
         if(message.getFile() != null){
             builder.file(mapToFileResponse(message.getFile(), "", message.getTimestamp()));
         }
@@ -82,6 +82,18 @@ public class MessageResponseMapper {
 
         return builder.build();
     }
+    /**
+     * 읽은 사용자 수를 응답에 설정한다.
+     * 읽은 사용자 목록은 필요할 때 FETCH_MESSAGE_READERS 로 조회하므로 응답에서 제외한다.
+     *
+     * @param response 대상 응답
+     * @param readCount 읽음 위치가 메시지 timestamp 이후인 사용자 수
+     */
+    public void applyReadCount(MessageResponse response, int readCount) {
+        response.setReaders(null);
+        response.setReadCount(readCount);
+    }
+
     public FileResponse mapToFileResponse(File file, String sender, LocalDateTime uploadDate) {
         return FileResponse.from(file, s3FileService.getPublicUrl(file.getKey()), sender, uploadDate);
     }
@@ -1,11 +1,12 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
+import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
@@ -13,6 +14,10 @@ import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.message.RecentMessageCache;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import java.time.LocalDateTime;
@@ -34,7 +39,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class RoomJoinHandler {
 
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
@@ -42,12 +47,31 @@ public class RoomJoinHandler {
     private final MessageLoader messageLoader;
     private final MessageResponseMapper messageResponseMapper;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final RoomEventExecutor roomEventExecutor;
+    private final RoomMembershipCache roomMembershipCache;
+    private final RecentMessageCache recentMessageCache;
     
     @OnEvent(JOIN_ROOM)
-    public void handleJoinRoom(SocketIOClient client, String roomId) {
+    public void handleJoinRoom(SocketIOClient client, String roomId, AckRequest ackRequest) {
+        SocketUser user = getUser(client);
+        roomEventExecutor.execute(roomId, ackRequest, () -> processJoinRoom(client, user, roomId));
+    }
+
+    /**
+     * 재접속 시 기존 참여 방 재입장 (ack 없음)
+     * 참여 여부는 호출자가 UserRooms에서 이미 확인했으므로 소켓 룸 참가와 응답만 처리한다.
+     */
+    public void rejoinRoom(SocketIOClient client, String roomId) {
+        roomEventExecutor.execute(roomId, () -> {
+            client.joinRoom(roomId);
+            client.sendEvent(JOIN_ROOM_SUCCESS, Map.of("roomId", roomId));
+        });
+    }
+
+    private void processJoinRoom(SocketIOClient client, SocketUser user, String roomId) {
         try {
-            String userId = getUserId(client);
-            String userName = getUserName(client);
+            String userId = user != null ? user.id() : null;
+            String userName = user != null ? user.name() : null;
 
             if (userId == null) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "Unauthorized"));
@@ -76,6 +100,7 @@ public class RoomJoinHandler {
 
             // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
             roomRepository.addParticipant(roomId, userId);
+            roomMembershipCache.invalidate(roomId);
             room.getParticipantIds().add(userId); // 이후 재조회 없이 참가자 정보 구성
 
             // Join socket room and add to user's room set
@@ -90,11 +115,12 @@ public class RoomJoinHandler {
                 .mentions(new ArrayList<>())
                 .isDeleted(false)
                 .reactions(new HashMap<>())
-                .readers(new ArrayList<>())
                 .metadata(new HashMap<>())
                 .build();
 
             joinMessage = messageRepository.save(joinMessage);
+            MessageResponse joinMessageResponse = messageResponseMapper.mapToMessageResponse(joinMessage, null);
+            recentMessageCache.append(joinMessageResponse);
 
             // 초기 메시지 로드
             FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
@@ -111,18 +137,17 @@ public class RoomJoinHandler {
                 .participants(participants)
                 .messages(messageLoadResult.getMessages())
                 .hasMore(messageLoadResult.isHasMore())
+                .nextCursor(messageLoadResult.getNextCursor())
                 .activeStreams(Collections.emptyList())
                 .build();
 
             client.sendEvent(JOIN_ROOM_SUCCESS, response);
 
             // 입장 메시지 브로드캐스트
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(MESSAGE, messageResponseMapper.mapToMessageResponse(joinMessage, null));
+            roomBroadcaster.sendEvent(roomId, MESSAGE, joinMessageResponse);
 
             // 참가자 목록 업데이트 브로드캐스트
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participants);
+            roomBroadcaster.sendEvent(roomId, PARTICIPANTS_UPDATE, participants);
 
             log.info("User {} joined room {} successfully. Message count: {}, hasMore: {}",
                 userName, roomId, messageLoadResult.getMessages().size(), messageLoadResult.isHasMore());
@@ -138,14 +163,4 @@ public class RoomJoinHandler {
     private SocketUser getUser(SocketIOClient client) {
         return client.get("user");
     }
-
-    private String getUserId(SocketIOClient client) {
-        SocketUser user = getUser(client);
-        return user != null ? user.id() : null;
-    }
-
-    private String getUserName(SocketIOClient client) {
-        SocketUser user = getUser(client);
-        return user != null ? user.name() : null;
-    }
 }
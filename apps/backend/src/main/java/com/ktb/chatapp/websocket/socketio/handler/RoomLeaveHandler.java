@@ -1,7 +1,7 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.corundumstudio.socketio.AckRequest;
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
@@ -12,6 +12,10 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.message.RecentMessageCache;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.RoomBroadcaster;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import java.time.LocalDateTime;
@@ -36,25 +40,43 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class RoomLeaveHandler {
 
-    private final SocketIOServer socketIOServer;
+    private final RoomBroadcaster roomBroadcaster;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final UserRooms userRooms;
     private final MessageResponseMapper messageResponseMapper;
+    private final RoomEventExecutor roomEventExecutor;
+    private final RoomMembershipCache roomMembershipCache;
+    private final RecentMessageCache recentMessageCache;
     
     @OnEvent(LEAVE_ROOM)
-    public void handleLeaveRoom(SocketIOClient client, String roomId) {
+    public void handleLeaveRoom(SocketIOClient client, String roomId, AckRequest ackRequest) {
+        SocketUser user = getUserDto(client);
+        roomEventExecutor.execute(roomId, ackRequest, () -> processLeaveRoom(client, user, roomId, true));
+    }
+
+    /**
+     * 연결 종료 시 참여 방 퇴장 (ack 없음)
+     * 호출자가 UserRooms 조회와 삭제를 배치로 이미 처리했으므로 Redis 호출은 생략한다.
+     * lane에서 실행될 때는 client의 user 속성이 이미 제거되었을 수 있으므로 user를 전달받는다.
+     */
+    public void leaveRoomOnDisconnect(SocketIOClient client, SocketUser user, String roomId) {
+        roomEventExecutor.execute(roomId, () -> processLeaveRoom(client, user, roomId, false));
+    }
+
+    private void processLeaveRoom(SocketIOClient client, SocketUser socketUser, String roomId,
+                                  boolean trackUserRooms) {
         try {
-            String userId = getUserId(client);
-            String userName = getUserName(client);
+            String userId = socketUser != null ? socketUser.id() : null;
+            String userName = socketUser != null ? socketUser.name() : null;
 
             if (userId == null) {
                 client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
                 return;
             }
 
-            if (!userRooms.isInRoom(userId, roomId)) {
+            if (trackUserRooms && !userRooms.isInRoom(userId, roomId)) {
                 log.debug("User {} is not in room {}", userId, roomId);
                 return;
             }
@@ -68,9 +90,12 @@ public class RoomLeaveHandler {
             }
             
             roomRepository.removeParticipant(roomId, userId);
+            roomMembershipCache.invalidate(roomId);
             
             client.leaveRoom(roomId);
-            userRooms.remove(userId, roomId);
+            if (trackUserRooms) {
+                userRooms.remove(userId, roomId);
+            }
             
             log.info("User {} left room {}", userName, room.getName());
             
@@ -78,11 +103,10 @@ public class RoomLeaveHandler {
             
             sendSystemMessage(roomId, userName + "님이 퇴장하였습니다.");
             broadcastParticipantList(roomId);
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(USER_LEFT, Map.of(
-                            "userId", userId,
-                            "userName", userName
-                    ));
+            roomBroadcaster.sendEvent(roomId, USER_LEFT, Map.of(
+                    "userId", userId,
+                    "userName", userName
+            ));
             
         } catch (Exception e) {
             log.error("Error handling leaveRoom", e);
@@ -100,14 +124,13 @@ public class RoomLeaveHandler {
             systemMessage.setMentions(new ArrayList<>());
             systemMessage.setIsDeleted(false);
             systemMessage.setReactions(new HashMap<>());
-            systemMessage.setReaders(new ArrayList<>());
             systemMessage.setMetadata(new HashMap<>());
 
             Message savedMessage = messageRepository.save(systemMessage);
             MessageResponse response = messageResponseMapper.mapToMessageResponse(savedMessage, null);
+            recentMessageCache.append(response);
 
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGE, response);
+            roomBroadcaster.sendEvent(roomId, MESSAGE, response);
 
         } catch (Exception e) {
             log.error("Error sending system message", e);
@@ -133,21 +156,10 @@ public class RoomLeaveHandler {
             return;
         }
         
-        socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participantList);
+        roomBroadcaster.sendEvent(roomId, PARTICIPANTS_UPDATE, participantList);
     }
 
     private SocketUser getUserDto(SocketIOClient client) {
         return client.get("user");
     }
-
-    private String getUserId(SocketIOClient client) {
-        SocketUser user = getUserDto(client);
-        return user != null ? user.id() : null;
-    }
-
-    private String getUserName(SocketIOClient client) {
-        SocketUser user = getUserDto(client);
-        return user != null ? user.name() : null;
-    }
 }
@@ -0,0 +1,87 @@
+package com.ktb.chatapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CachingJwtDecoder 테스트")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증한다")
+    void decode_VerifiesTokenOnce() {
+        Jwt jwt = jwt(NOW.plusSeconds(60));
+        when(delegate.decode("token")).thenReturn(jwt);
+        CachingJwtDecoder decoder = decoder(NOW);
+
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    @DisplayName("exp 가 지난 캐시 항목은 다시 검증한다")
+    void decode_RevalidatesAfterExpiry() {
+        AtomicReference<Instant> now = new AtomicReference<>(NOW);
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        when(delegate.decode("token"))
+                .thenReturn(jwt(NOW.plusSeconds(60)))
+                .thenThrow(new JwtException("expired"));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, new SimpleMeterRegistry(), clock);
+        decoder.decode("token");
+
+        now.set(NOW.plusSeconds(61));
+
+        assertThatThrownBy(() -> decoder.decode("token")).isInstanceOf(JwtException.class);
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+    void decode_DoesNotCacheFailures() {
+        when(delegate.decode("bad")).thenThrow(new JwtException("bad signature"));
+        CachingJwtDecoder decoder = decoder(NOW);
+
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(JwtException.class);
+
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    private CachingJwtDecoder decoder(Instant now) {
+        return new CachingJwtDecoder(delegate, 100, new SimpleMeterRegistry(), fixed(now));
+    }
+
+    private static Clock fixed(Instant now) {
+        return Clock.fixed(now, ZoneOffset.UTC);
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .claim("userId", "user-1")
+                .issuedAt(NOW.minusSeconds(1))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ktb.chatapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.config.RateLimitInterceptor;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.JwtService;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.service.RateLimitService;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.auth.PasswordHashingExecutor;
+import com.ktb.chatapp.service.ratelimit.RateLimiter;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthController rate limit 테스트")
+class AuthControllerRateLimitTest {
+
+    private static final String CLIENT_IP = "10.0.0.1";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RateLimiter nodeRateLimiter;
+
+    @Mock
+    private RateLimiter clusterRateLimiter;
+
+    @Mock
+    private RateLimiter leasedRateLimiter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AuthController controller = new AuthController(
+                userRepository, passwordHashingExecutor, jwtService, sessionService, eventPublisher);
+        RateLimitService rateLimitService =
+                new RateLimitService(nodeRateLimiter, clusterRateLimiter, leasedRateLimiter);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new RateLimitInterceptor(rateLimitService, new ObjectMapper()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("로그인은 노드 구분 없는 클러스터 카운터로 제한하고 초과 시 인증을 시도하지 않는다")
+    void login_UsesClusterLimiter() throws Exception {
+        when(clusterRateLimiter.tryAcquire(eq("ip:" + CLIENT_IP), anyInt(), any(Duration.class)))
+                .thenReturn(RateLimitCheckResult.rejected(10000, 30, 0, 5));
+
+        mockMvc.perform(post("/api/auth/login")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"user@example.com\",\"password\":\"password\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(clusterRateLimiter).tryAcquire(eq("ip:" + CLIENT_IP), anyInt(), any(Duration.class));
+        verifyNoInteractions(nodeRateLimiter, leasedRateLimiter, userRepository, passwordHashingExecutor);
+    }
+
+    @Test
+    @DisplayName("회원가입은 클러스터 카운터로 제한한다")
+    void register_UsesClusterLimiter() throws Exception {
+        when(clusterRateLimiter.tryAcquire(eq("ip:" + CLIENT_IP), anyInt(), any(Duration.class)))
+                .thenReturn(RateLimitCheckResult.rejected(10000, 30, 0, 5));
+
+        mockMvc.perform(post("/api/auth/register")
+                        .header("X-Forwarded-For", CLIENT_IP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Test User\",\"email\":\"user@example.com\",\"password\":\"password\"}"))
+                .andExpect(status().isTooManyRequests());
+
+        verify(clusterRateLimiter).tryAcquire(eq("ip:" + CLIENT_IP), anyInt(), any(Duration.class));
+        verifyNoInteractions(nodeRateLimiter, leasedRateLimiter, userRepository, passwordHashingExecutor);
+    }
+}
@@ -0,0 +1,215 @@
+package com.ktb.chatapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.annotation.RateLimit;
+import com.ktb.chatapp.config.RateLimitInterceptor;
+import com.ktb.chatapp.dto.FetchMessagesRequest;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.service.RateLimitService;
+import com.ktb.chatapp.service.message.MessageHistoryStreamer;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.handler.MessageLoader;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageController 테스트")
+class MessageControllerTest {
+
+    private static final String PATH = "/api/message/rooms/room-1/messages";
+
+    @Mock
+    private MessageLoader messageLoader;
+
+    @Mock
+    private MessageHistoryStreamer messageHistoryStreamer;
+
+    @Mock
+    private MessageReadStatusService messageReadStatusService;
+
+    @Mock
+    private RoomMembershipCache roomMembershipCache;
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    private final UsernamePasswordAuthenticationToken member = authentication("user-1");
+    private MessageController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        controller = new MessageController(messageLoader, messageHistoryStreamer,
+                messageReadStatusService, roomMembershipCache, new ObjectMapper());
+        ReflectionTestUtils.setField(controller, "maxLimit", 100);
+        ReflectionTestUtils.setField(controller, "streamMaxLimit", 1000);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        lenient().when(roomMembershipCache.isMember("room-1", "user-1")).thenReturn(true);
+        lenient().when(messageLoader.newestMessageId("room-1")).thenReturn("m9");
+        lenient().when(messageReadStatusService.findLatestReadAt("room-1"))
+                .thenReturn(LocalDateTime.of(2026, 1, 1, 10, 0));
+    }
+
+    @Test
+    @DisplayName("히스토리를 weak ETag 와 함께 반환한다")
+    void loadMessages_ReturnsPageWithWeakETag() throws Exception {
+        when(messageLoader.loadHistory(any())).thenReturn(FetchMessagesResponse.builder()
+                .messages(List.of())
+                .hasMore(false)
+                .build());
+
+        mockMvc.perform(get(PATH).param("limit", "500").principal(member))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.startsWith("W/\"m9-")))
+                .andExpect(header().string("Cache-Control", org.hamcrest.Matchers.containsString("no-cache")))
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(messageLoader).loadHistory(argThat(request -> request.limit() == 100));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 페이지를 읽지 않고 304 를 반환한다")
+    void loadMessages_NotModified() throws Exception {
+        String etag = mockMvc.perform(get(PATH).principal(member)).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(PATH).principal(member).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(messageLoader).loadHistory(any(FetchMessagesRequest.class));
+    }
+
+    @Test
+    @DisplayName("읽음 위치가 바뀌면 ETag 가 달라진다")
+    void loadMessages_ReadChange_ChangesETag() throws Exception {
+        String before = mockMvc.perform(get(PATH).principal(member)).andReturn().getResponse().getHeader("ETag");
+        when(messageReadStatusService.findLatestReadAt("room-1")).thenReturn(LocalDateTime.of(2026, 1, 1, 10, 5));
+
+        mockMvc.perform(get(PATH).principal(member).header("If-None-Match", before))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400 을 반환한다")
+    void loadMessages_InvalidCursor_BadRequest() throws Exception {
+        mockMvc.perform(get(PATH).param("cursor", "not-a-cursor").principal(member))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(messageLoader, never()).loadHistory(any());
+    }
+
+    @Test
+    @DisplayName("채팅방 참여자가 아니면 403 을 반환한다")
+    void loadMessages_NotMember_Forbidden() throws Exception {
+        mockMvc.perform(get(PATH).principal(authentication("user-2")))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(messageLoader, never()).newestMessageId(any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 제한된 limit 으로 스트리머에 위임한다")
+    void streamMessages_WritesThroughStreamer() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("{\"success\":true}".getBytes());
+            return null;
+        }).when(messageHistoryStreamer).write(eq("room-1"), anyInt(), any(), any());
+
+        MvcResult result = mockMvc.perform(get(PATH).param("stream", "true").param("limit", "5000").principal(member))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.endsWith("-s\"")))
+                .andExpect(content().json("{\"success\":true}"));
+
+        verify(messageHistoryStreamer).write(eq("room-1"), eq(1000), eq(null), any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회도 If-None-Match 가 일치하면 304 를 반환한다")
+    void streamMessages_NotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get(PATH).param("stream", "true").principal(member)).andReturn();
+        mockMvc.perform(asyncDispatch(first));
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(PATH).param("stream", "true").principal(member).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(messageHistoryStreamer).write(eq("room-1"), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회에서 참여자가 아니면 403 JSON 을 반환한다")
+    void streamMessages_NotMember_Forbidden() throws Exception {
+        MvcResult result = mockMvc.perform(get(PATH).param("stream", "true").principal(authentication("user-2")))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 비동기 재디스패치에서 rate limit 토큰을 다시 차감하지 않는다")
+    void streamMessages_ConsumesOneRateLimitToken() throws Exception {
+        MockMvc limited = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new RateLimitInterceptor(rateLimitService, new ObjectMapper()))
+                .build();
+        when(rateLimitService.checkRateLimit(anyString(), anyInt(), any(Duration.class), any(RateLimit.Distribution.class)))
+                .thenReturn(RateLimitCheckResult.allowed(10, 9, 30, 0, 30));
+
+        MvcResult result = limited.perform(get(PATH).param("stream", "true").principal(member))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        limited.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        verify(rateLimitService, times(1))
+                .checkRateLimit(anyString(), anyInt(), any(Duration.class), any(RateLimit.Distribution.class));
+        verify(messageHistoryStreamer).write(eq("room-1"), anyInt(), any(), any());
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String userId) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userId + "@example.com", null, List.of());
+        authentication.setDetails(Map.of("userId", userId));
+        return authentication;
+    }
+}
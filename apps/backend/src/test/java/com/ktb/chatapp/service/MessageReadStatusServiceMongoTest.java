@@ -0,0 +1,218 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.MessageReaderResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.ReadCursor;
+import com.ktb.chatapp.service.MessageReadStatusService.ReadMark;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("MessageReadStatusService MongoDB 테스트")
+class MessageReadStatusServiceMongoTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static MessageReadStatusService service;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(mongo.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "chatapp-test");
+        IndexOperations indexOps = mongoTemplate.indexOps(ReadCursor.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(ReadCursor.class)
+                .forEach(indexOps::createIndex);
+        service = new MessageReadStatusService(mongoTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), ReadCursor.class);
+    }
+
+    @Test
+    @DisplayName("읽음 위치는 앞으로만 이동한다")
+    void markAsRead_ForwardOnly() {
+        service.markAsRead(message("room-1", T0.plusSeconds(2)), "user-1");
+        service.markAsRead(message("room-1", T0.plusSeconds(1)), "user-1");
+        assertThat(lastRead("room-1", "user-1")).isEqualTo(T0.plusSeconds(2));
+
+        service.markAsRead(message("room-1", T0.plusSeconds(3)), "user-1");
+        assertThat(lastRead("room-1", "user-1")).isEqualTo(T0.plusSeconds(3));
+    }
+
+    @Test
+    @DisplayName("여러 세션이 같은 읽음 위치를 동시에 처음 만들어도 가장 앞선 위치가 남는다")
+    void markAsRead_ConcurrentCreate_KeepsNewest() throws InterruptedException {
+        int rooms = 20;
+        int sessions = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        for (int room = 0; room < rooms; room++) {
+            String roomId = "room-" + room;
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(sessions);
+            for (int session = 0; session < sessions; session++) {
+                LocalDateTime timestamp = T0.plusSeconds(session);
+                executor.submit(() -> {
+                    start.await();
+                    service.markAsRead(message(roomId, timestamp), "user-1");
+                    done.countDown();
+                    return null;
+                });
+            }
+            start.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(lastRead(roomId, "user-1")).isEqualTo(T0.plusSeconds(sessions - 1));
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 실행된 bulk 쓰기도 가장 앞선 위치를 남긴다")
+    void markAllAsRead_ConcurrentCreate_KeepsNewest() throws InterruptedException {
+        List<String> users = IntStream.range(0, 50).mapToObj(i -> "user-" + i).toList();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread older = Thread.ofPlatform().start(() -> awaitAndMark(start, users, T0));
+        Thread newer = Thread.ofPlatform().start(() -> awaitAndMark(start, users, T0.plusSeconds(1)));
+        start.countDown();
+        older.join();
+        newer.join();
+
+        assertThat(users).allSatisfy(user ->
+                assertThat(lastRead("room-1", user)).isEqualTo(T0.plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("메시지 이후까지 읽은 사용자를 읽은 순서로 반환한다")
+    void findReaders_ReturnsUsersReadPastMessageInReadOrder() {
+        insertCursor("room-1", "user-1", T0.plusSeconds(2), T0.plusMinutes(3));
+        insertCursor("room-1", "user-2", T0.plusSeconds(5), T0.plusMinutes(1));
+        insertCursor("room-1", "user-3", T0.plusSeconds(1), T0.plusMinutes(2));
+        insertCursor("room-2", "user-4", T0.plusSeconds(9), T0.plusMinutes(1));
+
+        List<MessageReaderResponse> readers = service.findReaders(message("room-1", T0.plusSeconds(2)));
+
+        assertThat(readers).extracting(MessageReaderResponse::getUserId).containsExactly("user-2", "user-1");
+        assertThat(readers).extracting(MessageReaderResponse::getReadAt)
+                .containsExactly(T0.plusMinutes(1), T0.plusMinutes(3));
+    }
+
+    @Test
+    @DisplayName("읽은 사용자 조회는 인덱스로 정렬하고 메모리 정렬을 하지 않는다")
+    void findReaders_UsesIndexWithoutBlockingSort() {
+        Document filter = new Document("room", "room-1")
+                .append("lastReadTimestamp", new Document("$gte", Date.from(T0.atZone(ZoneId.systemDefault()).toInstant())));
+
+        Document plan = mongoTemplate.getCollection("read_cursors")
+                .find(filter)
+                .sort(new Document("readAt", 1))
+                .explain()
+                .get("queryPlanner", Document.class)
+                .get("winningPlan", Document.class);
+
+        assertThat(plan.toJson()).contains("room_readAt_lastRead_idx").doesNotContain("\"SORT\"");
+    }
+
+    @Test
+    @DisplayName("메시지 timestamp 별로 그 이후까지 읽은 사용자 수를 센다")
+    void countReaders_CountsUsersReadPastEachTimestamp() {
+        insertCursor("room-1", "ahead", T0.plusSeconds(20), T0);
+        insertCursor("room-1", "exact", T0.plusSeconds(10), T0);
+        insertCursor("room-1", "between", T0.plusSeconds(7), T0);
+        insertCursor("room-1", "behind", T0.plusSeconds(1), T0);
+        insertCursor("room-2", "other", T0.plusSeconds(20), T0);
+
+        Map<Long, Integer> counts = service.countReaders("room-1",
+                List.of(millis(T0.plusSeconds(10)), millis(T0.plusSeconds(5)), millis(T0.plusSeconds(10))));
+
+        assertThat(counts).containsOnly(
+                Map.entry(millis(T0.plusSeconds(5)), 3),
+                Map.entry(millis(T0.plusSeconds(10)), 2));
+    }
+
+    @Test
+    @DisplayName("읽은 사용자가 없으면 0 을 돌려준다")
+    void countReaders_NoReaders_ReturnsZero() {
+        insertCursor("room-1", "behind", T0, T0);
+
+        assertThat(service.countReaders("room-1", List.of(millis(T0.plusSeconds(1)))))
+                .containsOnly(Map.entry(millis(T0.plusSeconds(1)), 0));
+        assertThat(service.countReaders("room-1", List.of())).isEmpty();
+    }
+
+    private static void awaitAndMark(CountDownLatch start, List<String> users, LocalDateTime timestamp) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        service.markAllAsRead(users.stream()
+                .map(user -> new ReadMark(user, message("room-1", timestamp)))
+                .toList());
+    }
+
+    private static void insertCursor(String roomId, String userId, LocalDateTime lastRead, LocalDateTime readAt) {
+        mongoTemplate.insert(ReadCursor.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .lastReadTimestamp(lastRead)
+                .readAt(readAt)
+                .build());
+    }
+
+    private static LocalDateTime lastRead(String roomId, String userId) {
+        ReadCursor cursor = mongoTemplate.findOne(
+                new Query(Criteria.where("room").is(roomId).and("user").is(userId)), ReadCursor.class);
+        return cursor != null ? cursor.getLastReadTimestamp() : null;
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Message message(String roomId, LocalDateTime timestamp) {
+        return Message.builder()
+                .id(roomId + "-" + timestamp)
+                .roomId(roomId)
+                .timestamp(timestamp)
+                .build();
+    }
+}
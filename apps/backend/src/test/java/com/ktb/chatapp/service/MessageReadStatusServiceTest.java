@@ -0,0 +1,140 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.MessageReaderResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.ReadCursor;
+import com.ktb.chatapp.service.MessageReadStatusService.ReadMark;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageReadStatusService 테스트")
+class MessageReadStatusServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulk;
+
+    @Mock
+    private BulkOperations retry;
+
+    private MessageReadStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MessageReadStatusService(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("upsert 가 중복 키에 걸리면 같은 조건으로 한 번 더 갱신한다")
+    void markAsRead_DuplicateKey_RetriesConditionalUpdate() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(ReadCursor.class)))
+                .thenThrow(new DuplicateKeyException("E11000"));
+
+        service.markAsRead(message("m2", T0.plusSeconds(1)), "user-1");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(ReadCursor.class));
+        assertThat(query.getValue().getQueryObject().get("user")).isEqualTo("user-1");
+        assertThat(query.getValue().getQueryObject().get("lastReadTimestamp", Document.class))
+                .containsEntry("$lt", T0.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("upsert 가 성공하면 다시 갱신하지 않는다")
+    void markAsRead_Upserted_NoRetry() {
+        service.markAsRead(message("m2", T0.plusSeconds(1)), "user-1");
+
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(ReadCursor.class));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(ReadCursor.class));
+    }
+
+    @Test
+    @DisplayName("bulk upsert 중 중복 키에 걸린 항목만 갱신으로 다시 시도한다")
+    void markAllAsRead_DuplicateKey_RetriesFailedMarksOnly() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadCursor.class))
+                .thenReturn(bulk, retry);
+        when(bulk.execute()).thenThrow(bulkFailure(new BulkWriteError(11000, "E11000", new BsonDocument(), 1)));
+
+        service.markAllAsRead(List.of(
+                new ReadMark("user-1", message("m1", T0)),
+                new ReadMark("user-2", message("m2", T0.plusSeconds(1)))));
+
+        verify(bulk, times(2)).upsert(any(Query.class), any(Update.class));
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(retry).updateOne(query.capture(), any(Update.class));
+        verify(retry).execute();
+        assertThat(query.getValue().getQueryObject().get("user")).isEqualTo("user-2");
+    }
+
+    @Test
+    @DisplayName("중복 키가 아닌 bulk 오류는 다시 시도하지 않는다")
+    void markAllAsRead_OtherError_NoRetry() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadCursor.class)).thenReturn(bulk);
+        when(bulk.execute()).thenThrow(bulkFailure(new BulkWriteError(121, "validation", new BsonDocument(), 0)));
+
+        service.markAllAsRead(List.of(new ReadMark("user-1", message("m1", T0))));
+
+        verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.UNORDERED, ReadCursor.class);
+    }
+
+    @Test
+    @DisplayName("읽은 사용자는 방과 메시지 시각 이후 읽음 위치로 조회해 읽은 순서로 반환한다")
+    void findReaders_QueriesRoomCursorsPastMessage() {
+        when(mongoTemplate.find(any(Query.class), eq(ReadCursor.class))).thenReturn(List.of(
+                ReadCursor.builder().userId("user-2").readAt(T0.plusMinutes(1)).build()));
+
+        List<MessageReaderResponse> readers = service.findReaders(message("m1", T0));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(ReadCursor.class));
+        assertThat(query.getValue().getQueryObject().get("room")).isEqualTo("room-1");
+        assertThat(query.getValue().getQueryObject().get("lastReadTimestamp", Document.class))
+                .containsEntry("$gte", T0);
+        assertThat(query.getValue().getSortObject()).isEqualTo(new Document("readAt", 1));
+        assertThat(readers).extracting(MessageReaderResponse::getUserId, MessageReaderResponse::getReadAt)
+                .containsExactly(tuple("user-2", T0.plusMinutes(1)));
+    }
+
+    private static BulkOperationException bulkFailure(BulkWriteError error) {
+        return new BulkOperationException("bulk write failed", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Set.of()));
+    }
+
+    private static Message message(String id, LocalDateTime timestamp) {
+        return Message.builder().id(id).roomId("room-1").timestamp(timestamp).build();
+    }
+}
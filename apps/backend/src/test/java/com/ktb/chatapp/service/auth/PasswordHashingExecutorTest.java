@@ -0,0 +1,70 @@
+package com.ktb.chatapp.service.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PasswordHashingExecutor 테스트")
+class PasswordHashingExecutorTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor =
+            new PasswordHashingExecutor(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 결과를 비동기로 반환하고 대기/해시 시간을 기록한다")
+    void matches_CompletesWithResult() throws Exception {
+        when(passwordEncoder.matches("raw", "encoded")).thenReturn(true);
+
+        assertThat(executor.matches("raw", "encoded").get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("auth.password.queue.wait").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash.time").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 즉시 거절한다")
+    void encode_RejectsWhenQueueFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+
+        CompletableFuture<String> running = executor.encode("first");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = executor.encode("second");
+        CompletableFuture<String> rejected = executor.encode("third");
+
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.retryAfterSeconds()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+}
@@ -0,0 +1,114 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageBucket;
+import com.ktb.chatapp.model.MessageType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageBucketStore 테스트")
+class MessageBucketStoreTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private MessageBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MessageBucketStore(
+                mongoTemplate, new ObjectMapper().findAndRegisterModules(), true, Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("압축한 버킷을 풀면 원래 메시지를 같은 순서로 돌려준다")
+    void encode_RoundTrip() {
+        Message first = message("m1", T0.plusMinutes(5));
+        first.setReactions(Map.of("👍", Set.of("user-1")));
+        first.setMentions(List.of("user-2"));
+        Message second = message("m2", T0.plusMinutes(30));
+
+        MessageBucket bucket = store.encode("room-1", List.of(first, second));
+
+        assertThat(bucket.getId()).isEqualTo("room-1:m1");
+        assertThat(bucket.getHour()).isEqualTo(T0);
+        assertThat(bucket.getCount()).isEqualTo(2);
+        assertThat(bucket.getLastMessageId()).isEqualTo("m2");
+        assertThat(store.decode(bucket)).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("커서 이전 메시지를 최신순으로 내보내고, 겹친 버킷의 중복은 건너뛴다")
+    void streamBefore_DescendingWithoutDuplicates() {
+        // 삭제 전에 중단된 뒤 다시 옮겨 m3, m4 가 두 버킷에 모두 들어 있는 상황
+        MessageBucket older = store.encode("room-1", List.of(
+                message("m1", T0), message("m2", T0.plusMinutes(1)),
+                message("m3", T0.plusMinutes(2)), message("m4", T0.plusMinutes(3))));
+        MessageBucket retried = store.encode("room-1", List.of(
+                message("m3", T0.plusMinutes(2)), message("m4", T0.plusMinutes(3)),
+                message("m5", T0.plusMinutes(4))));
+        when(mongoTemplate.stream(any(Query.class), eq(MessageBucket.class)))
+                .thenReturn(Stream.of(retried, older));
+
+        MessageCursor before = MessageCursor.of(message("m5", T0.plusMinutes(4)));
+        try (Stream<Message> messages = store.streamBefore("room-1", before)) {
+            assertThat(messages.map(Message::getId).toList()).containsExactly("m4", "m3", "m2", "m1");
+        }
+    }
+
+    @Test
+    @DisplayName("cold storage 를 켜지 않으면 경계를 조회하지 않는다")
+    void watermark_Disabled_NoQuery() {
+        MessageBucketStore disabled = new MessageBucketStore(
+                mongoTemplate, new ObjectMapper().findAndRegisterModules(), false, Duration.ofDays(30));
+
+        assertThat(disabled.watermark("room-1")).isNull();
+        assertThat(disabled.mayHaveColdBefore(message("m1", T0))).isFalse();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("경계 이하의 메시지만 버킷에 저장된 것으로 본다")
+    void isCompacted_AtOrBelowWatermark() {
+        MessageCursor watermark = MessageCursor.of(message("m2", T0));
+
+        assertThat(MessageBucketStore.isCompacted(watermark, message("m1", T0))).isTrue();
+        assertThat(MessageBucketStore.isCompacted(watermark, message("m2", T0))).isTrue();
+        assertThat(MessageBucketStore.isCompacted(watermark, message("m3", T0))).isFalse();
+        assertThat(MessageBucketStore.isCompacted(null, message("m1", T0))).isFalse();
+    }
+
+    private static Message message(String id, LocalDateTime timestamp) {
+        return Message.builder()
+                .id(id)
+                .roomId("room-1")
+                .content("hello " + id)
+                .senderId("user-1")
+                .type(MessageType.text)
+                .timestamp(timestamp)
+                .build();
+    }
+}
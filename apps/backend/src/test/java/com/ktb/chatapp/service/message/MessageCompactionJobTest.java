@@ -0,0 +1,185 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageBucket;
+import com.ktb.chatapp.model.MessageBucketWatermark;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("MessageCompactionJob 테스트")
+class MessageCompactionJobTest {
+
+    private static final Duration MAX_AGE = Duration.ofDays(30);
+    private static final LocalDateTime OLD_HOUR = LocalDateTime.now().minusDays(40).truncatedTo(ChronoUnit.HOURS);
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static MessageBucketStore store;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(mongo.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "chatapp-test");
+        store = new MessageBucketStore(mongoTemplate, new ObjectMapper().findAndRegisterModules(), true, MAX_AGE);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.dropCollection(Message.class);
+        mongoTemplate.dropCollection(MessageBucket.class);
+        mongoTemplate.dropCollection(MessageBucketWatermark.class);
+        mongoTemplate.dropCollection(Room.class);
+        mongoTemplate.dropCollection("message_compaction_state");
+    }
+
+    @Test
+    @DisplayName("오래된 메시지를 시간별 버킷으로 옮기고 최근 메시지는 남긴다")
+    void compactRoom_MovesOldHoursIntoBuckets() {
+        List<Message> old = new ArrayList<>();
+        for (int hour = 0; hour < 3; hour++) {
+            old.add(insert("room-1", OLD_HOUR.plusHours(hour).plusMinutes(1)));
+            old.add(insert("room-1", OLD_HOUR.plusHours(hour).plusMinutes(2)));
+        }
+        Message recent = insert("room-1", LocalDateTime.now().minusMinutes(1));
+
+        long moved = job(2000).compactRoom("room-1", cutoff());
+
+        assertThat(moved).isEqualTo(6);
+        assertThat(hotIds("room-1")).containsExactly(recent.getId());
+        assertThat(mongoTemplate.count(new Query(), MessageBucket.class)).isEqualTo(3);
+        assertThat(store.watermark("room-1").id()).isEqualTo(old.getLast().getId());
+        assertThat(coldIds("room-1")).containsExactlyElementsOf(idsNewestFirst(old));
+    }
+
+    @Test
+    @DisplayName("한 시간에 max-messages 보다 많으면 여러 버킷으로 나눈다")
+    void compactRoom_SplitsLargeHours() {
+        List<Message> old = List.of(
+                insert("room-1", OLD_HOUR.plusMinutes(1)),
+                insert("room-1", OLD_HOUR.plusMinutes(2)),
+                insert("room-1", OLD_HOUR.plusMinutes(3)));
+
+        job(2).compactRoom("room-1", cutoff());
+
+        assertThat(mongoTemplate.count(new Query(), MessageBucket.class)).isEqualTo(2);
+        assertThat(coldIds("room-1")).containsExactlyElementsOf(idsNewestFirst(old));
+    }
+
+    @Test
+    @DisplayName("삭제나 경계 이동 전에 중단된 상태에서 다시 실행해도 메시지를 잃거나 중복하지 않는다")
+    void compactRoom_ResumesAfterInterruption() {
+        List<Message> firstHour = List.of(
+                insert("room-1", OLD_HOUR.plusMinutes(1)),
+                insert("room-1", OLD_HOUR.plusMinutes(2)),
+                insert("room-1", OLD_HOUR.plusMinutes(3)),
+                insert("room-1", OLD_HOUR.plusMinutes(4)));
+        List<Message> secondHour = List.of(
+                insert("room-1", OLD_HOUR.plusHours(1).plusMinutes(1)),
+                insert("room-1", OLD_HOUR.plusHours(1).plusMinutes(2)));
+        // 첫 묶음은 버킷 저장과 경계 이동 후 삭제가 일부만 되었다
+        store.save(store.encode("room-1", firstHour));
+        store.advanceWatermark("room-1", firstHour.getLast());
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(firstHour.get(1).getId(), firstHour.get(3).getId())),
+                Message.class);
+        // 다음 묶음은 버킷만 저장되고 경계를 옮기지 못했다
+        store.save(store.encode("room-1", secondHour));
+
+        job(2000).compactRoom("room-1", cutoff());
+
+        List<Message> all = Stream.concat(firstHour.stream(), secondHour.stream()).toList();
+        assertThat(hotIds("room-1")).isEmpty();
+        assertThat(coldIds("room-1")).containsExactlyElementsOf(idsNewestFirst(all));
+        assertThat(store.watermark("room-1").id()).isEqualTo(secondHour.getLast().getId());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있으면 마지막으로 처리한 채팅방 다음부터 이어서 진행하고 완료 후 지운다")
+    void compact_ResumesFromCheckpoint() {
+        String done = new ObjectId().toHexString();
+        String pending = new ObjectId().toHexString();
+        mongoTemplate.insert(Room.builder().id(done).name("done").build());
+        mongoTemplate.insert(Room.builder().id(pending).name("pending").build());
+        Message skipped = insert(done, OLD_HOUR.plusMinutes(1));
+        insert(pending, OLD_HOUR.plusMinutes(1));
+        mongoTemplate.insert(new Document("_id", "rooms").append("lastRoomId", done), "message_compaction_state");
+
+        job(2000).compact();
+
+        assertThat(hotIds(done)).containsExactly(skipped.getId());
+        assertThat(hotIds(pending)).isEmpty();
+        assertThat(mongoTemplate.count(new Query(), "message_compaction_state")).isZero();
+    }
+
+    private static MessageCompactionJob job(int maxMessages) {
+        return new MessageCompactionJob(mongoTemplate, store, mock(RedissonClient.class),
+                new SimpleMeterRegistry(), MAX_AGE, maxMessages);
+    }
+
+    private static LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(MAX_AGE).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static Message insert(String roomId, LocalDateTime timestamp) {
+        return mongoTemplate.insert(Message.builder()
+                .id(new ObjectId().toHexString())
+                .roomId(roomId)
+                .content("hello")
+                .senderId("user-1")
+                .type(MessageType.text)
+                .timestamp(timestamp.truncatedTo(ChronoUnit.MILLIS))
+                .build());
+    }
+
+    private static List<String> hotIds(String roomId) {
+        Query query = new Query(Criteria.where("room").is(roomId))
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"));
+        return mongoTemplate.find(query, Message.class).stream().map(Message::getId).toList();
+    }
+
+    private static List<String> coldIds(String roomId) {
+        try (Stream<Message> messages = store.streamBefore(roomId, null)) {
+            return messages.map(Message::getId).toList();
+        }
+    }
+
+    private static List<String> idsNewestFirst(List<Message> messages) {
+        return messages.reversed().stream().map(Message::getId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ktb.chatapp.service.message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageCompactionJob 락 테스트")
+class MessageCompactionLockTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MessageBucketStore messageBucketStore;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    private MessageCompactionJob job;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getLock("message-compaction:lock")).thenReturn(lock);
+        job = new MessageCompactionJob(mongoTemplate, messageBucketStore, redissonClient,
+                new SimpleMeterRegistry(), Duration.ofDays(30), 2000);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 실행하지 않는다")
+    void compactExclusively_LockHeldElsewhere_Skips() {
+        when(lock.tryLock()).thenReturn(false);
+
+        assertThat(job.compactExclusively()).isFalse();
+
+        verifyNoInteractions(mongoTemplate, messageBucketStore);
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 실행한 뒤 해제한다")
+    void compactExclusively_AcquiresAndReleases() {
+        when(lock.tryLock()).thenReturn(true);
+
+        assertThat(job.compactExclusively()).isTrue();
+
+        verify(mongoTemplate).findById(eq("rooms"), eq(Document.class), anyString());
+        verify(mongoTemplate).remove(any(), anyString());
+        verify(lock).unlock();
+    }
+}
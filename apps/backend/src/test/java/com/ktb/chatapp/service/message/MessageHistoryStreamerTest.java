@@ -0,0 +1,164 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.S3FileService;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageHistoryStreamer 테스트")
+class MessageHistoryStreamerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MessageReadStatusService messageReadStatusService;
+
+    @Mock
+    private S3FileService s3FileService;
+
+    @Mock
+    private MessageBucketStore messageBucketStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private MessageHistoryStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        streamer = new MessageHistoryStreamer(mongoTemplate, userRepository, new MessageResponseMapper(s3FileService),
+                messageReadStatusService, objectMapper, messageBucketStore);
+        lenient().when(userRepository.findAllById(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("limit 개만 쓰고 다음 메시지가 있으면 hasMore 와 마지막 메시지 커서를 쓴다")
+    void write_LimitReached_HasMoreWithCursor() throws IOException {
+        Message m3 = message(T0.plusSeconds(2));
+        Message m2 = message(T0.plusSeconds(1));
+        Message m1 = message(T0);
+        hot(m3, m2, m1);
+
+        JsonNode data = write(2);
+
+        assertThat(ids(data)).containsExactly(m3.getId(), m2.getId());
+        assertThat(data.get("order").asText()).isEqualTo("desc");
+        assertThat(data.get("hasMore").asBoolean()).isTrue();
+        assertThat(data.get("nextCursor").asText()).isEqualTo(MessageCursor.of(m2).encode());
+        verify(messageBucketStore, never()).watermark(anyString());
+    }
+
+    @Test
+    @DisplayName("hot 메시지가 끝났고 경계가 없으면 버킷을 읽지 않는다")
+    void write_HotExhaustedWithoutWatermark_NoBucketRead() throws IOException {
+        Message m1 = message(T0);
+        hot(m1);
+
+        JsonNode data = write(5);
+
+        assertThat(ids(data)).containsExactly(m1.getId());
+        assertThat(data.get("hasMore").asBoolean()).isFalse();
+        assertThat(data.get("nextCursor").isNull()).isTrue();
+        verify(messageBucketStore, never()).streamBefore(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("hot 메시지가 끝나면 경계가 있는 채팅방은 버킷에서 이어서 쓴다")
+    void write_HotExhausted_SplicesColdMessages() throws IOException {
+        Message hot = message(T0.plusSeconds(2));
+        Message cold2 = message(T0.plusSeconds(1));
+        Message cold1 = message(T0);
+        hot(hot);
+        when(messageBucketStore.watermark("room-1")).thenReturn(MessageCursor.of(cold2));
+        when(messageBucketStore.streamBefore("room-1", MessageCursor.of(hot))).thenReturn(Stream.of(cold2, cold1));
+
+        JsonNode data = write(2);
+
+        assertThat(ids(data)).containsExactly(hot.getId(), cold2.getId());
+        assertThat(data.get("hasMore").asBoolean()).isTrue();
+        assertThat(data.get("nextCursor").asText()).isEqualTo(MessageCursor.of(cold2).encode());
+    }
+
+    @Test
+    @DisplayName("경계 이하의 hot 사본을 만나면 hot 조회를 멈추고 버킷에서 읽는다")
+    void write_CompactedHotCopy_SwitchesToCold() throws IOException {
+        Message newest = message(T0.plusSeconds(2));
+        Message leftover = message(T0.plusSeconds(1));
+        Message cold1 = message(T0);
+        hot(newest, leftover);
+        when(messageBucketStore.mayHaveColdBefore(newest)).thenReturn(false);
+        when(messageBucketStore.mayHaveColdBefore(leftover)).thenReturn(true);
+        when(messageBucketStore.watermark("room-1")).thenReturn(MessageCursor.of(leftover));
+        when(messageBucketStore.streamBefore("room-1", MessageCursor.of(newest)))
+                .thenReturn(Stream.of(leftover, cold1));
+
+        JsonNode data = write(10);
+
+        // 사본은 한 번만 쓰인다
+        assertThat(ids(data)).containsExactly(newest.getId(), leftover.getId(), cold1.getId());
+        assertThat(data.get("hasMore").asBoolean()).isFalse();
+        verify(messageBucketStore).watermark("room-1");
+    }
+
+    private void hot(Message... messages) {
+        when(mongoTemplate.stream(any(Query.class), eq(Message.class))).thenReturn(Stream.of(messages));
+    }
+
+    private JsonNode write(int limit) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.write("room-1", limit, null, out);
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        return body.get("data");
+    }
+
+    private static List<String> ids(JsonNode data) {
+        List<String> ids = new ArrayList<>();
+        data.get("messages").forEach(message -> ids.add(message.get("_id").asText()));
+        return ids;
+    }
+
+    private static Message message(LocalDateTime timestamp) {
+        return Message.builder()
+                .id(new ObjectId().toHexString())
+                .roomId("room-1")
+                .content("hello")
+                .type(MessageType.text)
+                .timestamp(timestamp)
+                .build();
+    }
+}
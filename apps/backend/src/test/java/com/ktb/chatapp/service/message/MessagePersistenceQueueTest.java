@@ -0,0 +1,130 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.service.message.MessagePersistenceQueue.DurabilityMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessagePersistenceQueue 테스트")
+class MessagePersistenceQueueTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MessagePersistenceQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new MessagePersistenceQueue(
+                mongoTemplate, meterRegistry, 100, 50, Duration.ofMillis(20), DurabilityMode.WAIT_FOR_COMMIT);
+        lenient().when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Message.class)))
+                .thenReturn(bulkOperations);
+        lenient().when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.stop();
+    }
+
+    @Test
+    @DisplayName("제출한 메시지는 ID가 미리 발급되고 커밋 후 Future가 완료된다")
+    void submit_AssignsIdAndCompletesAfterCommit() throws Exception {
+        queue.start();
+        Message message = Message.builder().roomId("room-1").content("hello").build();
+
+        CompletableFuture<Message> future = queue.submit(message);
+
+        assertThat(message.getId()).isNotNull();
+        assertThat(future.get(2, TimeUnit.SECONDS)).isSameAs(message);
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    @DisplayName("커밋 중에 쌓인 메시지는 다음 bulkWrite 한 번으로 그룹 커밋된다")
+    void submit_GroupCommitsQueuedMessages() throws Exception {
+        CountDownLatch firstFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        when(bulkOperations.execute()).thenAnswer(invocation -> {
+            if (firstFlushStarted.getCount() > 0) {
+                firstFlushStarted.countDown();
+                releaseFirstFlush.await(2, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+        queue.start();
+
+        CompletableFuture<Message> first = queue.submit(Message.builder().roomId("room-1").content("first").build());
+        assertThat(firstFlushStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+        List<CompletableFuture<Message>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            futures.add(queue.submit(Message.builder().roomId("room-1").content("m" + i).build()));
+        }
+        releaseFirstFlush.countDown();
+
+        first.get(2, TimeUnit.SECONDS);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(2, TimeUnit.SECONDS);
+
+        verify(bulkOperations, times(2)).execute();
+        assertThat(meterRegistry.get("messages.persistence.batch.size").summary().max()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("bulkWrite 실패 시 배치의 모든 Future가 예외로 완료된다")
+    void submit_PropagatesFlushFailure() {
+        when(bulkOperations.execute()).thenThrow(new IllegalStateException("mongo down"));
+        queue.start();
+
+        CompletableFuture<Message> future = queue.submit(Message.builder().roomId("room-1").content("x").build());
+
+        assertThatThrownBy(() -> future.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("flusher가 동작하지 않거나 큐가 가득 차면 호출 스레드에서 직접 저장한다")
+    void submit_FallsBackToSynchronousSaveWhenFull() throws Exception {
+        Message overflow = Message.builder().roomId("room-1").content("overflow").build();
+        when(mongoTemplate.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // flusher를 시작하지 않았으므로 즉시 동기 저장 경로를 탄다
+        CompletableFuture<Message> future = queue.submit(overflow);
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isSameAs(overflow);
+        verify(mongoTemplate).save(overflow);
+        assertThat(meterRegistry.get("messages.persistence.overflow").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.ReadCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.validation.Validator;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ReadCursorMigration 테스트")
+class ReadCursorMigrationTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static ReadCursorMigration migration;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(mongo.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "chatapp-test");
+        migration = new ReadCursorMigration(mongoTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.dropCollection(Message.class);
+        mongoTemplate.dropCollection(ReadCursor.class);
+        mongoTemplate.dropCollection("migrations");
+        mongoTemplate.indexOps(ReadCursor.class).createIndex(new Index()
+                .on("room", Sort.Direction.ASC)
+                .on("user", Sort.Direction.ASC)
+                .unique());
+    }
+
+    @Test
+    @DisplayName("사용자별 가장 최근에 읽은 메시지를 읽음 위치로 옮기고 readers 와 기존 인덱스를 제거한다")
+    void migrate_MovesLatestReadPerUser() {
+        mongoTemplate.indexOps(Message.class).createIndex(new Index()
+                .on("readers.userId", Sort.Direction.ASC)
+                .named("readers_userId_idx"));
+        ObjectId older = insertMessage("room-1", T0, "user-1", "user-2");
+        ObjectId newer = insertMessage("room-1", T0.plusMinutes(1), "user-1");
+        insertMessage("room-2", T0.plusMinutes(2), "user-2");
+
+        migration.migrate();
+
+        assertThat(cursor("room-1", "user-1").getLastReadMessageId()).isEqualTo(newer.toHexString());
+        assertThat(cursor("room-1", "user-2").getLastReadMessageId()).isEqualTo(older.toHexString());
+        assertThat(cursor("room-2", "user-2").getLastReadTimestamp()).isEqualTo(T0.plusMinutes(2));
+        assertThat(mongoTemplate.exists(new Query(Criteria.where("readers").exists(true)), Message.class))
+                .isFalse();
+        assertThat(mongoTemplate.indexOps(Message.class).getIndexInfo())
+                .extracting(IndexInfo::getName)
+                .doesNotContain("readers_userId_idx");
+    }
+
+    @Test
+    @DisplayName("완료 기록이 있으면 messages 를 다시 조회하지 않는다")
+    void migrate_AfterCompletion_Skips() {
+        migration.migrate();
+        assertThat(mongoTemplate.exists(new Query(Criteria.where("_id").is("read-cursor-readers")), "migrations"))
+                .isTrue();
+
+        insertMessage("room-1", T0, "user-1");
+        migration.migrate();
+
+        assertThat(cursor("room-1", "user-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 더 앞선 읽음 위치는 되돌리지 않는다")
+    void migrate_KeepsNewerCursor() {
+        mongoTemplate.insert(ReadCursor.builder()
+                .roomId("room-1")
+                .userId("user-1")
+                .lastReadTimestamp(T0.plusHours(1))
+                .lastReadMessageId("newest")
+                .readAt(T0.plusHours(1))
+                .build());
+        insertMessage("room-1", T0, "user-1");
+
+        migration.migrate();
+
+        assertThat(cursor("room-1", "user-1").getLastReadMessageId()).isEqualTo("newest");
+    }
+
+    @Test
+    @DisplayName("중복 키가 아닌 쓰기 오류가 나면 readers 와 기존 인덱스를 남기고 완료를 기록하지 않는다")
+    void migrate_WriteError_KeepsReaders() {
+        mongoTemplate.dropCollection(ReadCursor.class);
+        // readAt 을 문자열로만 허용해 모든 upsert 가 문서 검증 오류(121)로 실패하게 한다
+        mongoTemplate.createCollection(ReadCursor.class, CollectionOptions.empty()
+                .validator(Validator.criteria(Criteria.where("readAt").type(2))));
+        mongoTemplate.indexOps(Message.class).createIndex(new Index()
+                .on("readers.userId", Sort.Direction.ASC)
+                .named("readers_userId_idx"));
+        insertMessage("room-1", T0, "user-1");
+
+        assertThatThrownBy(migration::migrate).isInstanceOf(BulkOperationException.class);
+
+        assertThat(mongoTemplate.exists(new Query(Criteria.where("readers.0").exists(true)), Message.class))
+                .isTrue();
+        assertThat(mongoTemplate.indexOps(Message.class).getIndexInfo())
+                .extracting(IndexInfo::getName)
+                .contains("readers_userId_idx");
+        assertThat(mongoTemplate.exists(new Query(Criteria.where("_id").is("read-cursor-readers")), "migrations"))
+                .isFalse();
+    }
+
+    private static ObjectId insertMessage(String roomId, LocalDateTime timestamp, String... readers) {
+        ObjectId id = new ObjectId();
+        Date at = Date.from(timestamp.atZone(ZoneId.systemDefault()).toInstant());
+        List<Document> readerDocuments = List.of(readers).stream()
+                .map(userId -> new Document("userId", userId).append("readAt", at))
+                .toList();
+        mongoTemplate.insert(new Document("_id", id)
+                .append("room", roomId)
+                .append("timestamp", at)
+                .append("isDeleted", false)
+                .append("readers", readerDocuments), "messages");
+        return id;
+    }
+
+    private static ReadCursor cursor(String roomId, String userId) {
+        return mongoTemplate.findOne(
+                new Query(Criteria.where("room").is(roomId).and("user").is(userId)), ReadCursor.class);
+    }
+}
@@ -0,0 +1,179 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.MessageReaderResponse;
+import com.ktb.chatapp.service.message.RecentMessageCache.RecentPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecentMessageCache 테스트")
+class RecentMessageCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private RedisRoomTail redisRoomTail;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private RecentMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cache(3, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("채워지지 않은 방은 miss 이고, 채운 뒤에는 최신 메시지를 오래된 순으로 반환한다")
+    void firstPage_AfterPrime_ReturnsNewest() {
+        assertThat(cache.firstPage("room-1", 2)).isNull();
+
+        cache.beginLoad("room-1");
+        cache.prime("room-1", List.of(message("m1", 1), message("m2", 2)), false);
+        cache.append(message("m3", 3));
+
+        RecentPage page = cache.firstPage("room-1", 2);
+        assertThat(page.messages()).extracting(MessageResponse::getId).containsExactly("m2", "m3");
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 메시지를 버리고, 부족한 페이지는 miss 로 처리한다")
+    void append_TrimsToCapacity() {
+        cache.beginLoad("room-1");
+        cache.prime("room-1", List.of(message("m1", 1)), false);
+        cache.append(message("m3", 3));
+        cache.append(message("m2", 2));
+        cache.append(message("m4", 4));
+
+        assertThat(cache.firstPage("room-1", 3).messages())
+                .extracting(MessageResponse::getId)
+                .containsExactly("m2", "m3", "m4");
+        assertThat(cache.firstPage("room-1", 4)).isNull();
+    }
+
+    @Test
+    @DisplayName("반환된 응답을 수정해도 버퍼에는 영향이 없다")
+    void firstPage_ReturnsCopies() {
+        cache.beginLoad("room-1");
+        cache.prime("room-1", List.of(message("m1", 1)), false);
+
+        cache.firstPage("room-1", 1).messages().getFirst()
+                .setReaders(List.of(new MessageReaderResponse("user-1", null)));
+
+        assertThat(cache.firstPage("room-1", 1).messages().getFirst().getReaders()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 저장된 메시지와 리액션 변경이 반영된다")
+    void onMessage_AppliesRemoteEvents() throws Exception {
+        cache.beginLoad("room-1");
+        cache.prime("room-1", List.of(message("m1", 1)), false);
+
+        cache.onMessage(event(new RecentMessageCache.RecentMessageEvent(
+                "other-node", RecentMessageCache.Operation.APPEND, "room-1", "m2", message("m2", 2), null)), null);
+        cache.onMessage(event(new RecentMessageCache.RecentMessageEvent(
+                "other-node", RecentMessageCache.Operation.REACTIONS, "room-1", "m1", null,
+                Map.of("👍", Set.of("user-1")))), null);
+
+        List<MessageResponse> messages = cache.firstPage("room-1", 2).messages();
+        assertThat(messages).extracting(MessageResponse::getId).containsExactly("m1", "m2");
+        assertThat(messages.getFirst().getReactions()).containsEntry("👍", Set.of("user-1"));
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 조회되지 않은 방을 제거한다")
+    void prime_EvictsLeastRecentlyUsedRoomOverBudget() {
+        long oneMessage = RecentMessageCache.estimateBytes(message("x", 0));
+        cache = cache(3, DataSize.ofBytes(oneMessage * 2));
+
+        cache.beginLoad("room-1");
+        cache.prime("room-1", List.of(message("a1", 1)), false);
+        now.addAndGet(1_000);
+        cache.beginLoad("room-2");
+        cache.prime("room-2", List.of(message("b1", 1)), false);
+        now.addAndGet(1_000);
+        cache.beginLoad("room-3");
+        cache.prime("room-3", List.of(message("c1", 1)), false);
+
+        assertThat(cache.firstPage("room-1", 1)).isNull();
+        assertThat(cache.firstPage("room-2", 1)).isNotNull();
+        assertThat(cache.firstPage("room-3", 1)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("max-age 가 지나면 MongoDB 에서 다시 채우도록 miss 로 처리한다")
+    void firstPage_ExpiresAfterMaxAge() {
+        cache.beginLoad("room-1");
+        cache.prime("room-1", List.of(message("m1", 1)), false);
+
+        now.addAndGet(Duration.ofMinutes(6).toMillis());
+
+        assertThat(cache.firstPage("room-1", 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("유휴 방을 제거하면 메모리 사용량이 줄고, 제거 후 도착한 추가는 반영되지 않는다")
+    void evictIdle_ReleasesBytesAndIgnoresLateAppend() {
+        cache.beginLoad("room-1");
+        cache.prime("room-1", List.of(message("m1", 1)), false);
+        cache.append(message("m2", 2));
+        assertThat(cachedBytes()).isEqualTo(2 * RecentMessageCache.estimateBytes(message("x", 0)));
+
+        now.addAndGet(Duration.ofMinutes(11).toMillis());
+        cache.evictIdle();
+        cache.append(message("m3", 3));
+
+        assertThat(cache.firstPage("room-1", 1)).isNull();
+        assertThat(cachedBytes()).isZero();
+    }
+
+    private double cachedBytes() {
+        return meterRegistry.get("messages.recent.cache.bytes").gauge().value();
+    }
+
+    private RecentMessageCache cache(int perRoom, DataSize budget) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new RecentMessageCache(stringRedisTemplate, listenerContainer, redisRoomTail, objectMapper, meterRegistry,
+                perRoom, budget, Duration.ofMinutes(5), Duration.ofMinutes(10), now::get);
+    }
+
+    private DefaultMessage event(RecentMessageCache.RecentMessageEvent event) throws Exception {
+        return new DefaultMessage(
+                RecentMessageCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(event));
+    }
+
+    private static MessageResponse message(String id, long timestamp) {
+        return MessageResponse.builder()
+                .id(id)
+                .roomId("room-1")
+                .content("hello")
+                .timestamp(timestamp)
+                .build();
+    }
+}
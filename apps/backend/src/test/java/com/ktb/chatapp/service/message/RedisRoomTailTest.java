@@ -0,0 +1,143 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.service.message.RecentMessageCache.RecentPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisRoomTail 테스트")
+class RedisRoomTailTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisRoomTail tail;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        tail = newTail(Duration.ofMinutes(10));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("채우지 않은 방은 append 만으로는 첫 페이지를 응답하지 않는다")
+    void firstPage_NotPrimed_ReturnsNull() {
+        String roomId = roomId();
+        tail.append(message(roomId, "m1", T0));
+
+        assertThat(tail.firstPage(roomId, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("최신 메시지 limit 개를 오래된 순으로 반환한다")
+    void firstPage_ReturnsNewestInAscendingOrder() {
+        String roomId = roomId();
+        tail.prime(roomId, List.of(message(roomId, "m1", T0)), false);
+        // prime 과 append 순서가 섞여도 timestamp 순으로 정렬된다
+        tail.append(message(roomId, "m3", T0 + 2));
+        tail.append(message(roomId, "m2", T0 + 1));
+
+        RecentPage page = tail.firstPage(roomId, 2);
+
+        assertThat(page.messages()).extracting(MessageResponse::getId).containsExactly("m2", "m3");
+        assertThat(page.hasMore()).isTrue();
+        RecentPage all = tail.firstPage(roomId, 3);
+        assertThat(all.messages()).extracting(MessageResponse::getId).containsExactly("m1", "m2", "m3");
+        assertThat(all.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("append 가 보관 수를 넘으면 가장 오래된 메시지를 잘라 내고 더 오래된 메시지가 있음을 기록한다")
+    void append_TrimsOldestAndMarksOlder() {
+        String roomId = roomId();
+        tail.prime(roomId, List.of(), false);
+        for (int i = 0; i < 5; i++) {
+            tail.append(message(roomId, "m" + i, T0 + i));
+        }
+
+        assertThat(redisTemplate.opsForZSet().zCard("room-tail:{" + roomId + "}:ids")).isEqualTo(3);
+        assertThat(redisTemplate.opsForHash().hasKey("room-tail:{" + roomId + "}:data", "m:m0")).isFalse();
+        RecentPage page = tail.firstPage(roomId, 3);
+        assertThat(page.messages()).extracting(MessageResponse::getId).containsExactly("m2", "m3", "m4");
+        assertThat(page.hasMore()).isTrue();
+        // 잘려 나간 메시지가 필요하면 MongoDB 에서 읽도록 응답하지 않는다
+        assertThat(tail.firstPage(roomId, 4)).isNull();
+    }
+
+    @Test
+    @DisplayName("max-age 가 지나면 다시 채울 때까지 응답하지 않는다")
+    void firstPage_AfterMaxAge_ReturnsNull() throws InterruptedException {
+        RedisRoomTail shortLived = newTail(Duration.ofMillis(200));
+        String roomId = roomId();
+        shortLived.prime(roomId, List.of(message(roomId, "m1", T0)), false);
+        assertThat(shortLived.firstPage(roomId, 1)).isNotNull();
+
+        Thread.sleep(400);
+
+        assertThat(shortLived.firstPage(roomId, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("리액션 변경과 메시지 제거를 반영한다")
+    void updateReactionsAndRemove() {
+        String roomId = roomId();
+        tail.prime(roomId, List.of(message(roomId, "m1", T0), message(roomId, "m2", T0 + 1)), false);
+
+        tail.updateReactions(roomId, "m1", Map.of("👍", Set.of("user-1")));
+        tail.remove(roomId, "m2");
+
+        RecentPage page = tail.firstPage(roomId, 10);
+        assertThat(page.messages()).extracting(MessageResponse::getId).containsExactly("m1");
+        assertThat(page.messages().getFirst().getReactions()).containsEntry("👍", Set.of("user-1"));
+    }
+
+    private static RedisRoomTail newTail(Duration maxAge) {
+        return new RedisRoomTail(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                3, maxAge, Duration.ofHours(1));
+    }
+
+    private static String roomId() {
+        return "room-" + UUID.randomUUID();
+    }
+
+    private static MessageResponse message(String roomId, String id, long timestamp) {
+        return MessageResponse.builder()
+                .id(id)
+                .roomId(roomId)
+                .content("hello")
+                .type(MessageType.text)
+                .timestamp(timestamp)
+                .reactions(Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeasedRateLimiter 테스트")
+class LeasedRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final AtomicLong clusterUsed = new AtomicLong();
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private LeasedRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 비동기 갱신을 호출 스레드에서 바로 실행
+        ExecutorService directExecutor = mock(ExecutorService.class);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(directExecutor).execute(any());
+        rateLimiter = new LeasedRateLimiter(stringRedisTemplate, meterRegistry, 10, 0.2, directExecutor, now::get);
+
+        // Redis 카운터 흉내: 한도 내에서 요청한 만큼 부여
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    long limit = Long.parseLong(invocation.getArgument(2));
+                    long requested = Long.parseLong(invocation.getArgument(3));
+                    long grant = Math.max(0, Math.min(requested, limit - clusterUsed.get()));
+                    long used = clusterUsed.addAndGet(grant);
+                    return List.of(grant, limit - used, 60_000L);
+                });
+    }
+
+    @Test
+    @DisplayName("lease 단위로만 Redis 를 호출하고 클러스터 한도를 넘기지 않는다")
+    void tryAcquire_LeasesInBlocksUpToClusterLimit() {
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            if (rateLimiter.tryAcquire("user:1", 25, WINDOW).allowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(25);
+        verify(stringRedisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(), any(), any());
+        assertThat(meterRegistry.get("ratelimit.lease.renewals").tag("mode", "sync").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("ratelimit.lease.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 한도를 소진하면 차단하고 윈도우 종료까지 대기 시간을 알려준다")
+    void tryAcquire_RejectsWhenClusterExhausted() {
+        clusterUsed.set(25);
+
+        RateLimitCheckResult result = rateLimiter.tryAcquire("user:1", 25, WINDOW);
+
+        assertThat(result.allowed()).isFalse();
+        assertThat(result.retryAfterSeconds()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("윈도우가 끝나면 새 lease 를 받아 다시 허용한다")
+    void tryAcquire_RenewsAfterWindowEnds() {
+        clusterUsed.set(25);
+        assertThat(rateLimiter.tryAcquire("user:1", 25, WINDOW).allowed()).isFalse();
+
+        now.addAndGet(WINDOW.toMillis());
+        clusterUsed.set(0);
+
+        assertThat(rateLimiter.tryAcquire("user:1", 25, WINDOW).allowed()).isTrue();
+    }
+}
@@ -0,0 +1,116 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalRateLimiter 테스트")
+class LocalRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong epochMillis = new AtomicLong(1_700_000_000_000L);
+    private LocalRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LocalRateLimiter(nanos::get, epochMillis::get);
+    }
+
+    @Test
+    @DisplayName("한도까지 허용하고 남은 횟수를 줄인 뒤 초과 요청은 차단한다")
+    void tryAcquire_DeniesWhenLimitExceeded() {
+        for (int i = 0; i < 3; i++) {
+            RateLimitCheckResult result = rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(2 - i);
+        }
+
+        RateLimitCheckResult rejected = rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.windowSeconds()).isEqualTo(60);
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(20);
+        assertThat(rejected.resetEpochSeconds()).isEqualTo(1_700_000_000L + 60);
+    }
+
+    @Test
+    @DisplayName("늦게 읽은 이전 시각으로 갱신 시각을 되돌리지 않아 같은 구간을 두 번 충전하지 않는다")
+    void tryAcquire_StaleClock_DoesNotRefillTwice() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW);
+        }
+
+        // 다른 스레드가 갱신하기 전에 읽어 둔 시각으로 요청한 경우
+        advance(Duration.ofSeconds(-20));
+        assertThat(rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW).allowed()).isFalse();
+        advance(Duration.ofSeconds(40));
+
+        assertThat(rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 비율에 맞게 다시 채워진다")
+    void tryAcquire_RefillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW);
+        }
+
+        advance(Duration.ofSeconds(20));
+
+        assertThat(rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("ip:127.0.0.1", 3, WINDOW).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 한도 이상 허용하지 않는다")
+    void tryAcquire_IsExactUnderContention() throws InterruptedException {
+        int maxRequests = 500;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1000);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> {
+                    if (rateLimiter.tryAcquire("user:1", maxRequests, WINDOW).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(allowed.get()).isEqualTo(maxRequests);
+    }
+
+    @Test
+    @DisplayName("윈도우 이상 사용되지 않은 버킷만 제거한다")
+    void evictIdle_RemovesOnlyIdleBuckets() {
+        rateLimiter.tryAcquire("ip:10.0.0.1", 3, WINDOW);
+        advance(Duration.ofSeconds(30));
+        rateLimiter.tryAcquire("ip:10.0.0.2", 3, WINDOW);
+        advance(Duration.ofSeconds(30));
+
+        rateLimiter.evictIdle();
+
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+        epochMillis.addAndGet(duration.toMillis());
+    }
+}
@@ -0,0 +1,87 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisRateLimiter 테스트")
+class RedisRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisRateLimiter rateLimiter;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        rateLimiter = new RedisRateLimiter(new StringRedisTemplate(connectionFactory));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("한도까지 허용하고 남은 횟수를 줄인 뒤 초과 요청은 차단한다")
+    void tryAcquire_DeniesWhenLimitExceeded() {
+        String clientId = "ip:" + UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            RateLimitCheckResult result = rateLimiter.tryAcquire(clientId, 3, WINDOW);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(2 - i);
+        }
+
+        RateLimitCheckResult rejected = rateLimiter.tryAcquire(clientId, 3, WINDOW);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 20L);
+        assertThat(rejected.resetEpochSeconds() - System.currentTimeMillis() / 1000).isBetween(58L, 61L);
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 한도 이상 허용하지 않는다")
+    void tryAcquire_IsExactUnderContention() throws InterruptedException {
+        String clientId = "ip:" + UUID.randomUUID();
+        int maxRequests = 100;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(300);
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 300; i++) {
+                executor.execute(() -> {
+                    if (rateLimiter.tryAcquire(clientId, maxRequests, Duration.ofHours(1)).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(allowed.get()).isEqualTo(maxRequests);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ktb.chatapp.service.room;
+
+import com.ktb.chatapp.model.Room;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomMembershipCache 테스트")
+class RoomMembershipCacheTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RoomMembershipCache(
+                mongoTemplate, stringRedisTemplate, listenerContainer, meterRegistry, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("같은 방의 두 번째 조회부터는 Mongo를 조회하지 않는다")
+    void isMember_CachesMembersPerRoom() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Room.class))).thenReturn(room("room-1", "user-1"));
+
+        assertThat(cache.isMember("room-1", "user-1")).isTrue();
+        assertThat(cache.isMember("room-1", "user-2")).isFalse();
+        assertThat(cache.isMember("room-1", "user-1")).isTrue();
+
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(Room.class));
+        assertThat(meterRegistry.get("room.membership.cache").tag("result", "hit").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("room.membership.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 방은 false를 반환하고 캐시하지 않는다")
+    void isMember_DoesNotCacheMissingRoom() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Room.class))).thenReturn(null);
+
+        assertThat(cache.isMember("room-x", "user-1")).isFalse();
+        assertThat(cache.isMember("room-x", "user-1")).isFalse();
+
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(Room.class));
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 노드에 전파하고 다음 조회에서 다시 로드한다")
+    void invalidate_PublishesAndReloads() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Room.class)))
+                .thenReturn(room("room-1", "user-1"))
+                .thenReturn(room("room-1", "user-1", "user-2"));
+
+        assertThat(cache.isMember("room-1", "user-2")).isFalse();
+        cache.invalidate("room-1");
+        assertThat(cache.isMember("room-1", "user-2")).isTrue();
+
+        verify(stringRedisTemplate).convertAndSend(RoomMembershipCache.INVALIDATION_CHANNEL, "room-1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시를 비운다")
+    void onMessage_EvictsRoom() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Room.class))).thenReturn(room("room-1", "user-1"));
+        cache.isMember("room-1", "user-1");
+
+        cache.onMessage(new DefaultMessage(
+                RoomMembershipCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "room-1".getBytes(StandardCharsets.UTF_8)), null);
+        cache.isMember("room-1", "user-1");
+
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(Room.class));
+    }
+
+    private Room room(String id, String... participantIds) {
+        Room room = new Room();
+        room.setId(id);
+        room.setParticipantIds(new HashSet<>(Set.of(participantIds)));
+        return room;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ktb.chatapp.service.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionActivityCoalescer 테스트")
+class SessionActivityCoalescerTest {
+
+    @Mock
+    private SessionStore sessionStore;
+
+    private SessionActivityCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new SessionActivityCoalescer(sessionStore, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 여러 활동은 flush 시 최신 한 건으로 저장된다")
+    @SuppressWarnings("unchecked")
+    void flush_WritesLatestActivityPerUser() {
+        coalescer.touch("user-1", "s1", 100L);
+        coalescer.touch("user-1", "s1", 300L);
+        coalescer.touch("user-1", "s1", 200L);
+        coalescer.touch("user-2", "s2", 150L);
+
+        coalescer.flush();
+
+        ArgumentCaptor<Collection<SessionActivity>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(sessionStore).updateActivity(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new SessionActivity("user-1", "s1", 300L),
+                new SessionActivity("user-2", "s2", 150L));
+        assertThat(coalescer.pendingActivity("user-1", "s1")).isNull();
+    }
+
+    @Test
+    @DisplayName("대기 중인 활동은 같은 세션 ID로 조회할 때만 반환된다")
+    void pendingActivity_MatchesSessionId() {
+        coalescer.touch("user-1", "s1", 100L);
+
+        assertThat(coalescer.pendingActivity("user-1", "s1")).isEqualTo(100L);
+        assertThat(coalescer.pendingActivity("user-1", "other")).isNull();
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 다음 주기에 재시도한다")
+    void flush_RetriesAfterFailure() {
+        coalescer.touch("user-1", "s1", 100L);
+        doThrow(new IllegalStateException("mongo down")).when(sessionStore).updateActivity(any());
+
+        coalescer.flush();
+
+        assertThat(coalescer.pendingActivity("user-1", "s1")).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("세션이 삭제되면 대기 중인 활동을 저장하지 않는다")
+    void discard_DropsPendingActivity() {
+        coalescer.touch("user-1", "s1", 100L);
+        coalescer.discard("user-1");
+
+        coalescer.flush();
+
+        verify(sessionStore, never()).updateActivity(any());
+        assertThat(coalescer.pendingActivity("user-1", "s1")).isNull();
+    }
+
+    @Test
+    @DisplayName("대기 중인 활동이 없으면 저장소를 호출하지 않는다")
+    void flush_NoPending_NoWrite() {
+        coalescer.flush();
+
+        verify(sessionStore, never()).updateActivity(any());
+    }
+}
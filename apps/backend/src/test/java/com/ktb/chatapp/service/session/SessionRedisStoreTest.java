@@ -0,0 +1,162 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.repository.SessionRepository;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static com.ktb.chatapp.service.SessionService.SESSION_TTL_SEC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("SessionRedisStore 테스트")
+class SessionRedisStoreTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static SessionRepository sessionRepository;
+    private static SessionRedisStore store;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        sessionRepository = mock(SessionRepository.class);
+        store = new SessionRedisStore(redisTemplate, sessionRepository, false);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("저장한 세션을 그대로 읽고 만료 시각을 설정한다")
+    void save_RoundTripsWithExpiry() {
+        String userId = "user-" + UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        Session saved = session(userId, "s1", new SessionMetadata("agent", "127.0.0.1", "desktop"));
+        saved.setExpiresAt(expiresAt);
+
+        store.save(saved);
+
+        Session found = store.findByUserId(userId).orElseThrow();
+        assertThat(found.getSessionId()).isEqualTo("s1");
+        assertThat(found.getLastActivity()).isEqualTo(saved.getLastActivity());
+        assertThat(found.getMetadata()).isEqualTo(saved.getMetadata());
+        assertThat(ttlMillis(userId)).isBetween(590_000L, 600_000L);
+    }
+
+    @Test
+    @DisplayName("다시 저장하면 이전 세션의 필드를 남기지 않는다")
+    void save_ReplacesPreviousFields() {
+        String userId = "user-" + UUID.randomUUID();
+        store.save(session(userId, "s1", new SessionMetadata("agent", "127.0.0.1", "desktop")));
+
+        store.save(session(userId, "s2", null));
+
+        Session found = store.findByUserId(userId).orElseThrow();
+        assertThat(found.getSessionId()).isEqualTo("s2");
+        assertThat(found.getMetadata()).isEqualTo(new SessionMetadata(null, null, null));
+    }
+
+    @Test
+    @DisplayName("sessionId 가 일치할 때만 조회와 함께 만료를 연장한다")
+    void findByUserIdAndRefreshTtl_RefreshesOnlyMatchingSession() {
+        String userId = "user-" + UUID.randomUUID();
+        Session saved = session(userId, "s1", null);
+        saved.setExpiresAt(Instant.now().plusSeconds(60));
+        store.save(saved);
+
+        assertThat(store.findByUserIdAndRefreshTtl(userId, "other")).map(Session::getSessionId).contains("s1");
+        assertThat(ttlMillis(userId)).isLessThanOrEqualTo(60_000L);
+
+        assertThat(store.findByUserIdAndRefreshTtl(userId, "s1")).map(Session::getSessionId).contains("s1");
+        assertThat(ttlMillis(userId)).isGreaterThan(TimeUnit.SECONDS.toMillis(SESSION_TTL_SEC) - 10_000L);
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 빈 결과를 반환한다")
+    void findByUserIdAndRefreshTtl_Missing_ReturnsEmpty() {
+        assertThat(store.findByUserIdAndRefreshTtl("user-" + UUID.randomUUID(), "s1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 sessionId 로는 세션을 삭제하지 않는다")
+    void delete_OnlyMatchingSession() {
+        String userId = "user-" + UUID.randomUUID();
+        store.save(session(userId, "s1", null));
+
+        store.delete(userId, "other");
+        assertThat(store.findByUserId(userId)).isPresent();
+
+        store.delete(userId, "s1");
+        assertThat(store.findByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활동 갱신은 현재 세션의 더 최신 활동만 반영한다")
+    void updateActivity_OnlyForwardAndMatching() {
+        String userId = "user-" + UUID.randomUUID();
+        Session saved = session(userId, "s1", null);
+        store.save(saved);
+        long later = saved.getLastActivity() + 1_000;
+
+        store.updateActivity(List.of(
+                new SessionActivity(userId, "other", later + 5_000),
+                new SessionActivity(userId, "s1", later)));
+        store.updateActivity(List.of(new SessionActivity(userId, "s1", saved.getLastActivity())));
+
+        assertThat(store.findByUserId(userId)).map(Session::getLastActivity).contains(later);
+    }
+
+    @Test
+    @DisplayName("Redis 에 없는 세션은 MongoDB 에서 옮겨 온다")
+    void findByUserId_MigratesFromMongo() {
+        SessionRepository repository = mock(SessionRepository.class);
+        SessionRedisStore migrating = new SessionRedisStore(redisTemplate, repository, true);
+        String userId = "user-" + UUID.randomUUID();
+        when(repository.findByUserId(userId)).thenReturn(Optional.of(session(userId, "s1", null)));
+
+        assertThat(migrating.findByUserIdAndRefreshTtl(userId, "s1")).map(Session::getSessionId).contains("s1");
+
+        verify(repository).deleteByUserId(userId);
+        assertThat(store.findByUserId(userId)).map(Session::getSessionId).contains("s1");
+    }
+
+    private static Session session(String userId, String sessionId, SessionMetadata metadata) {
+        long now = System.currentTimeMillis();
+        return Session.builder()
+                .userId(userId)
+                .sessionId(sessionId)
+                .createdAt(now)
+                .lastActivity(now)
+                .metadata(metadata)
+                .build();
+    }
+
+    private static long ttlMillis(String userId) {
+        return redisTemplate.getExpire("session:" + userId, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.service.SessionData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionValidationCache 테스트")
+class SessionValidationCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SessionValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionValidationCache(
+                stringRedisTemplate, listenerContainer, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("같은 세션 ID로만 캐시된 세션을 반환한다")
+    void get_MatchesSessionId() {
+        cache.put(session("user-1", "s1"), cache.currentGeneration());
+
+        assertThat(cache.get("user-1", "s1")).isNotNull()
+                .extracting(SessionData::getSessionId).isEqualTo("s1");
+        assertThat(cache.get("user-1", "old")).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기하면 다른 노드에 전파하고 조회 도중 로드된 세션은 캐시하지 않는다")
+    void revoke_PublishesAndDropsInFlightLoad() {
+        long loadGeneration = cache.currentGeneration();
+
+        cache.revoke("user-1");
+        cache.put(session("user-1", "s1"), loadGeneration);
+
+        assertThat(cache.get("user-1", "s1")).isNull();
+        verify(stringRedisTemplate).convertAndSend(SessionValidationCache.REVOCATION_CHANNEL, "user-1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메시지를 받으면 로컬 항목을 비운다")
+    void onMessage_EvictsUser() {
+        cache.put(session("user-1", "s1"), cache.currentGeneration());
+
+        cache.onMessage(new DefaultMessage(
+                SessionValidationCache.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "user-1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(cache.get("user-1", "s1")).isNull();
+    }
+
+    private SessionData session(String userId, String sessionId) {
+        return SessionData.builder().userId(userId).sessionId(sessionId).build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ktb.chatapp.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedTtlCache 테스트")
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(3, now::get);
+
+    @Test
+    @DisplayName("만료 시각이 지나면 값을 반환하지 않고 제거한다")
+    void get_Expired_ReturnsNull() {
+        cache.put("a", "A", 2_000L);
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        now.set(2_000L);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 값은 저장하지 않는다")
+    void put_AlreadyExpired_Ignored() {
+        cache.put("a", "A", 1_000L);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 저장된 항목부터 제거한다")
+    void put_OverCapacity_EvictsOldest() {
+        cache.put("a", "A", 10_000L);
+        cache.put("b", "B", 10_000L);
+        cache.put("c", "C", 10_000L);
+
+        cache.put("d", "D", 10_000L);
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("d")).isEqualTo("D");
+    }
+
+    @Test
+    @DisplayName("상한에 닿으면 살아 있는 항목보다 만료된 항목을 먼저 제거한다")
+    void put_OverCapacity_DropsExpiredFirst() {
+        cache.put("a", "A", 5_000L);
+        cache.put("b", "B", 10_000L);
+        cache.put("c", "C", 10_000L);
+        now.set(5_000L);
+
+        cache.put("d", "D", 10_000L);
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("b")).isEqualTo("B");
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    @DisplayName("다시 저장한 항목은 이전 저장 순서로 제거되지 않는다")
+    void put_Replaced_KeepsNewestValue() {
+        cache.put("a", "A1", 10_000L);
+        cache.put("b", "B", 10_000L);
+        cache.put("a", "A2", 10_000L);
+        cache.put("c", "C", 10_000L);
+
+        cache.put("d", "D", 10_000L);
+
+        assertThat(cache.get("a")).isEqualTo("A2");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제한 항목은 다시 조회되지 않는다")
+    void remove_DropsEntry() {
+        cache.put("a", "A", 10_000L);
+
+        cache.remove("a");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.store.RedissonStore;
+import com.corundumstudio.socketio.store.Store;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트마다 수행되는 client.get("user") 비용 비교
+ * RedissonStore(기존)와 HybridStoreFactory의 로컬 Store를 같은 조건에서 측정한다.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("HybridStoreFactory 벤치마크")
+class HybridStoreFactoryBenchmarkTest {
+
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    @BeforeAll
+    static void setUp() {
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("로컬 Store의 이벤트당 사용자 조회가 Redis Store보다 빠르다")
+    void perEventUserLookup_LocalStoreIsFaster() {
+        SocketUser user = new SocketUser("user-1", "tester", "auth-session", UUID.randomUUID().toString());
+
+        Store redisStore = new RedissonStore(UUID.randomUUID(), redissonClient);
+        Store localStore = new HybridStoreFactory(redissonClient).createStore(UUID.randomUUID());
+        redisStore.set("user", user);
+        localStore.set("user", user);
+
+        double redisNanos = measure(redisStore);
+        double localNanos = measure(localStore);
+
+        log.info("client.get(\"user\") per event - RedissonStore: {} us, HybridStoreFactory: {} us",
+                String.format("%.2f", redisNanos / 1_000), String.format("%.3f", localNanos / 1_000));
+
+        assertThat(localStore.<SocketUser>get("user")).isEqualTo(user);
+        assertThat(localNanos).isLessThan(redisNanos);
+    }
+
+    private double measure(Store store) {
+        for (int i = 0; i < WARMUP; i++) {
+            store.get("user");
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            store.get("user");
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,165 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalChatDataStore 테스트")
+class LocalChatDataStoreTest {
+
+    private final LocalChatDataStore store = new LocalChatDataStore();
+
+    @Test
+    @DisplayName("getAll/setAll/deleteAll 은 여러 키를 한 번에 처리하고 없는 키는 결과에서 빠진다")
+    void multiKeyOperations() {
+        SocketUser user1 = user("user-1", "s1");
+        SocketUser user2 = user("user-2", "s2");
+
+        store.setAll(Map.of("k1", user1, "k2", user2));
+
+        assertThat(store.getAll(List.of("k1", "k2", "k3"), SocketUser.class))
+                .containsOnly(Map.entry("k1", user1), Map.entry("k2", user2));
+
+        store.deleteAll(List.of("k1", "k2"));
+
+        assertThat(store.getAll(List.of("k1", "k2"), SocketUser.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 getAndSet 은 이전 값을 돌려주고 새 값을 저장한다")
+    void batch_GetAndSet_ReturnsPrevious() {
+        SocketUser previous = user("user-1", "s1");
+        SocketUser current = user("user-1", "s2");
+        store.set("k", previous);
+
+        AtomicReference<Supplier<Optional<SocketUser>>> result = new AtomicReference<>();
+        AtomicReference<Supplier<Optional<SocketUser>>> missing = new AtomicReference<>();
+        store.batch(batch -> {
+            result.set(batch.getAndSet("k", current));
+            missing.set(batch.getAndSet("missing", current));
+        });
+
+        assertThat(result.get().get()).contains(previous);
+        assertThat(missing.get().get()).isEmpty();
+        assertThat(store.get("k", SocketUser.class)).contains(current);
+    }
+
+    @Test
+    @DisplayName("배치 sMembers 는 없는 키에 빈 집합을 돌려준다")
+    void batch_SMembers_MissingKey_ReturnsEmpty() {
+        AtomicReference<Supplier<Set<String>>> members = new AtomicReference<>();
+
+        store.batch(batch -> members.set(batch.sMembers("missing")));
+
+        assertThat(members.get().get()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteIfEquals 는 저장된 값과 같을 때만 삭제한다")
+    void batch_DeleteIfEquals() {
+        SocketUser stale = user("user-1", "s1");
+        SocketUser newer = user("user-1", "s2");
+        store.set("matching", stale);
+        store.set("replaced", newer);
+
+        AtomicReference<Supplier<Boolean>> deleted = new AtomicReference<>();
+        AtomicReference<Supplier<Boolean>> kept = new AtomicReference<>();
+        store.batch(batch -> {
+            deleted.set(batch.deleteIfEquals("matching", stale));
+            kept.set(batch.deleteIfEquals("replaced", stale));
+        });
+
+        assertThat(deleted.get().get()).isTrue();
+        assertThat(store.get("matching", SocketUser.class)).isEmpty();
+        assertThat(kept.get().get()).isFalse();
+        assertThat(store.get("replaced", SocketUser.class)).contains(newer);
+    }
+
+    @Test
+    @DisplayName("배치 결과는 실행이 끝난 뒤 읽으며 같은 배치의 앞선 쓰기를 반영한다")
+    void batch_SuppliersResolveAfterFlush() {
+        SocketUser user = user("user-1", "s1");
+
+        AtomicReference<Supplier<Optional<SocketUser>>> value = new AtomicReference<>();
+        AtomicReference<Supplier<Set<String>>> members = new AtomicReference<>();
+        store.batch(batch -> {
+            batch.set("k", user);
+            batch.sAdd("set", "room-1");
+            batch.sAdd("set", "room-2");
+            batch.sRem("set", "room-1");
+            value.set(batch.get("k", SocketUser.class));
+            members.set(batch.sMembers("set"));
+        });
+
+        assertThat(value.get().get()).contains(user);
+        assertThat(members.get().get()).containsExactly("room-2");
+    }
+
+    @Test
+    @DisplayName("sAdd/sRem 은 집합이 실제로 바뀌었는지를 돌려준다")
+    void setOperations_ReturnValues() {
+        assertThat(store.sAdd("set", "room-1")).isTrue();
+        assertThat(store.sAdd("set", "room-1")).isFalse();
+        assertThat(store.sIsMember("set", "room-1")).isTrue();
+        assertThat(store.sIsMember("set", "room-2")).isFalse();
+
+        assertThat(store.sRem("set", "room-2")).isFalse();
+        assertThat(store.sRem("set", "room-1")).isTrue();
+        assertThat(store.sRem("missing", "room-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 멤버를 지우면 집합을 키째 제거한다")
+    void sRem_LastMember_DropsSet() {
+        store.sAdd("set", "room-1");
+
+        store.sRem("set", "room-1");
+
+        @SuppressWarnings("unchecked")
+        Map<String, Set<String>> sets = (Map<String, Set<String>>) ReflectionTestUtils.getField(store, "sets");
+        assertThat(sets).doesNotContainKey("set");
+        assertThat(store.sMembers("set")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sMembers 는 이후 변경과 무관한 스냅샷을 돌려준다")
+    void sMembers_ReturnsSnapshot() {
+        store.sAdd("set", "room-1");
+
+        Set<String> members = store.sMembers("set");
+        store.sAdd("set", "room-2");
+
+        assertThat(members).containsExactly("room-1");
+    }
+
+    @Test
+    @DisplayName("UserRooms 는 userroom:set: 키의 집합으로 멤버십을 관리한다")
+    void userRooms_Membership() {
+        UserRooms userRooms = new UserRooms(store);
+
+        userRooms.add("user-1", "room-1");
+        userRooms.add("user-1", "room-2");
+        userRooms.remove("user-1", "room-1");
+
+        assertThat(store.sMembers("userroom:set:user-1")).containsExactly("room-2");
+        assertThat(userRooms.isInRoom("user-1", "room-2")).isTrue();
+        assertThat(userRooms.isInRoom("user-1", "room-1")).isFalse();
+        assertThat(userRooms.isInRoom("user-2", "room-2")).isFalse();
+
+        userRooms.clear("user-1");
+
+        assertThat(userRooms.get("user-1")).isEmpty();
+    }
+
+    private static SocketUser user(String userId, String socketId) {
+        return new SocketUser(userId, "name", "session", socketId);
+    }
+}
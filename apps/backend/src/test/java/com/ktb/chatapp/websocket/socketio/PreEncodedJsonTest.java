@@ -0,0 +1,93 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.Configuration;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.codec.Kryo5Codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PreEncodedJson 테스트")
+class PreEncodedJsonTest {
+
+    private JacksonJsonSupport jsonSupport;
+    private RoomBroadcaster roomBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        jsonSupport = new JacksonJsonSupport(new JavaTimeModule());
+        Configuration configuration = new Configuration();
+        configuration.setJsonSupport(jsonSupport);
+        SocketIOServer socketIOServer = mock(SocketIOServer.class);
+        when(socketIOServer.getConfiguration()).thenReturn(configuration);
+        roomBroadcaster = new RoomBroadcaster(socketIOServer, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("미리 인코딩한 페이로드는 직접 직렬화한 패킷과 동일한 JSON을 만든다")
+    void encode_ProducesSamePacketJson() throws Exception {
+        MessageResponse response = new MessageResponse();
+        response.setId("msg-1");
+        response.setRoomId("room-1");
+        response.setContent("안녕하세요 \"quoted\"");
+        response.setType(MessageType.text);
+        response.setTimestamp(1700000000000L);
+        response.setReactions(Map.of("👍", Set.of("user-1")));
+
+        PreEncodedJson encoded = roomBroadcaster.encode(response);
+
+        assertThat(write(List.of("message", encoded))).isEqualTo(write(List.of("message", response)));
+    }
+
+    @Test
+    @DisplayName("Redisson Kryo 코덱으로 노드 간 전달 후에도 같은 JSON을 만든다")
+    void encode_SurvivesKryoRoundTrip() throws Exception {
+        PreEncodedJson encoded = roomBroadcaster.encode(Map.of("userId", "user-1"));
+        // 캐시된 인코딩이 생성된 상태로 전송되는 경우
+        write(List.of("userLeft", encoded));
+
+        Kryo5Codec codec = new Kryo5Codec();
+        ByteBuf buf = codec.getValueEncoder().encode(encoded);
+        PreEncodedJson decoded = (PreEncodedJson) codec.getValueDecoder().decode(buf, null);
+        buf.release();
+
+        assertThat(decoded.json()).isEqualTo(encoded.json());
+        assertThat(write(List.of("userLeft", decoded))).isEqualTo("[\"userLeft\",{\"userId\":\"user-1\"}]");
+    }
+
+    @Test
+    @DisplayName("문자 기반 생성기에서도 같은 JSON을 쓴다")
+    void encode_WritesThroughCharacterGenerator() throws Exception {
+        PreEncodedJson encoded = roomBroadcaster.encode(Map.of("content", "안녕하세요"));
+
+        assertThat(new ObjectMapper().writeValueAsString(List.of("message", encoded)))
+                .isEqualTo("[\"message\",{\"content\":\"안녕하세요\"}]");
+    }
+
+    private String write(Object value) throws Exception {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            jsonSupport.writeValue(new ByteBufOutputStream(buf), value);
+            return buf.toString(StandardCharsets.UTF_8);
+        } finally {
+            buf.release();
+        }
+    }
+}
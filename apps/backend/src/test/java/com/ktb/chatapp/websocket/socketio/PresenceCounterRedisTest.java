@@ -0,0 +1,100 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PresenceCounter Redis heartbeat 테스트")
+class PresenceCounterRedisTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    @BeforeAll
+    static void setUp() {
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+    }
+
+    @BeforeEach
+    void clean() {
+        redissonClient.getKeys().delete("presence:node-counts");
+    }
+
+    @Test
+    @DisplayName("노드별 heartbeat 값을 합산해 클러스터 접속자 수를 구한다")
+    void heartbeat_SumsAllNodes() {
+        PresenceCounter node1 = counter(Duration.ofMinutes(1));
+        PresenceCounter node2 = counter(Duration.ofMinutes(1));
+        node1.connected("user-1", "s1");
+        node2.connected("user-2", "s2");
+        node2.connected("user-3", "s3");
+
+        node1.heartbeat();
+        node2.heartbeat();
+        node1.heartbeat();
+
+        assertThat(node1.clusterCount()).isEqualTo(3);
+        assertThat(node2.clusterCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 노드의 값은 클러스터 합계에서 빠진다")
+    void heartbeat_ExpiredNode_DropsOut() throws InterruptedException {
+        PresenceCounter live = counter(Duration.ofMinutes(1));
+        PresenceCounter stalled = counter(Duration.ofMillis(500));
+        live.connected("user-1", "s1");
+        stalled.connected("user-2", "s2");
+        stalled.heartbeat();
+        live.heartbeat();
+        assertThat(live.clusterCount()).isEqualTo(2);
+
+        Thread.sleep(1_000);
+        live.heartbeat();
+
+        assertThat(live.clusterCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료한 노드는 자신의 값을 바로 지운다")
+    void shutdown_RemovesNodeEntry() {
+        PresenceCounter live = counter(Duration.ofMinutes(1));
+        PresenceCounter leaving = counter(Duration.ofMinutes(1));
+        live.connected("user-1", "s1");
+        leaving.connected("user-2", "s2");
+        leaving.heartbeat();
+
+        leaving.shutdown();
+        live.heartbeat();
+
+        assertThat(live.clusterCount()).isEqualTo(1);
+    }
+
+    private static PresenceCounter counter(Duration nodeTtl) {
+        return new PresenceCounter(redissonClient, new SimpleMeterRegistry(), nodeTtl);
+    }
+}
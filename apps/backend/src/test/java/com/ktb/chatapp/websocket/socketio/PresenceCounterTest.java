@@ -0,0 +1,80 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceCounter 테스트")
+class PresenceCounterTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RMapCache<Object, Object> nodeCounts;
+
+    private PresenceCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getMapCache(eq("presence:node-counts"), any(Codec.class))).thenReturn(nodeCounts);
+        counter = new PresenceCounter(redissonClient, new SimpleMeterRegistry(), Duration.ofSeconds(15));
+    }
+
+    @Test
+    @DisplayName("이전 연결의 disconnected 는 같은 사용자의 새 연결을 제거하지 않는다")
+    void disconnected_StaleSocket_KeepsNewerConnection() {
+        counter.connected("user-1", "socket-old");
+        counter.connected("user-1", "socket-new");
+
+        counter.disconnected("user-1", "socket-old");
+
+        assertThat(counter.localCount()).isEqualTo(1);
+
+        counter.disconnected("user-1", "socket-new");
+
+        assertThat(counter.localCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 이 노드의 접속자 수를 기록하고 노드별 값을 합산한다")
+    void heartbeat_SumsNodeCounts() {
+        counter.connected("user-1", "s1");
+        counter.connected("user-2", "s2");
+        when(nodeCounts.readAllValues()).thenReturn(List.of(2L, 5L));
+
+        counter.heartbeat();
+
+        verify(nodeCounts).fastPut(anyString(), eq(2L), eq(15_000L), any());
+        assertThat(counter.clusterCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 실패하면 마지막 클러스터 값을 유지한다")
+    void heartbeat_Failure_KeepsLastCount() {
+        when(nodeCounts.readAllValues()).thenReturn(List.of(3L));
+        counter.heartbeat();
+        when(nodeCounts.readAllValues()).thenThrow(new IllegalStateException("redis down"));
+
+        counter.heartbeat();
+
+        assertThat(counter.clusterCount()).isEqualTo(3);
+    }
+}
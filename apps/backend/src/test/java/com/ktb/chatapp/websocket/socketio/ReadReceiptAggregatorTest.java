@@ -0,0 +1,94 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.MessagesReadBatchResponse;
+import com.ktb.chatapp.dto.MessagesReadResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.MessageReadStatusService.ReadMark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadReceiptAggregator 테스트")
+class ReadReceiptAggregatorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private MessageReadStatusService messageReadStatusService;
+
+    @Mock
+    private RoomBroadcaster roomBroadcaster;
+
+    @Test
+    @DisplayName("한 tick 동안의 읽음은 방마다 한 번의 저장과 한 번의 브로드캐스트로 병합된다")
+    @SuppressWarnings("unchecked")
+    void flush_MergesReadsPerRoom() {
+        ReadReceiptAggregator aggregator = aggregator(100);
+        when(messageReadStatusService.findMessages(any())).thenReturn(List.of(
+                message("m1", "room-1", T0),
+                message("m2", "room-1", T0.plusSeconds(1)),
+                message("other", "room-2", T0)));
+
+        aggregator.record("room-1", "user-1", List.of("m1"));
+        aggregator.record("room-1", "user-1", List.of("m2"));
+        aggregator.record("room-1", "user-2", List.of("m1", "other"));
+        aggregator.flush();
+
+        ArgumentCaptor<Collection<ReadMark>> marks = ArgumentCaptor.forClass(Collection.class);
+        verify(messageReadStatusService).markAllAsRead(marks.capture());
+        assertThat(marks.getValue())
+                .extracting(mark -> mark.userId() + ":" + mark.message().getId())
+                .containsExactlyInAnyOrder("user-1:m2", "user-2:m1");
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster, times(1)).sendEvent(eq("room-1"), eq(MESSAGES_READ), payload.capture());
+        assertThat(((MessagesReadBatchResponse) payload.getValue()).getReads()).containsExactly(
+                new MessagesReadResponse("user-1", List.of("m1", "m2")),
+                new MessagesReadResponse("user-2", List.of("m1")));
+    }
+
+    @Test
+    @DisplayName("방의 버퍼가 가득 차면 tick 을 기다리지 않고 flush 한다")
+    void record_FlushesWhenBufferFull() {
+        ReadReceiptAggregator aggregator = aggregator(2);
+        when(messageReadStatusService.findMessages(any())).thenReturn(List.of(
+                message("m1", "room-1", T0),
+                message("m2", "room-1", T0.plusSeconds(1))));
+
+        aggregator.record("room-1", "user-1", List.of("m1"));
+        verify(roomBroadcaster, never()).sendEvent(anyString(), anyString(), any());
+
+        aggregator.record("room-1", "user-2", List.of("m2"));
+        verify(roomBroadcaster).sendEvent(eq("room-1"), eq(MESSAGES_READ), any());
+
+        aggregator.flush();
+        verify(messageReadStatusService, times(1)).findMessages(any());
+    }
+
+    private ReadReceiptAggregator aggregator(int maxBuffer) {
+        return new ReadReceiptAggregator(messageReadStatusService, roomBroadcaster, new SimpleMeterRegistry(), maxBuffer);
+    }
+
+    private static Message message(String id, String roomId, LocalDateTime timestamp) {
+        return Message.builder().id(id).roomId(roomId).timestamp(timestamp).build();
+    }
+}
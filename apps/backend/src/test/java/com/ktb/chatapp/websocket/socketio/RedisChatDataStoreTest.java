@@ -0,0 +1,188 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisChatDataStore 테스트")
+class RedisChatDataStoreTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+    private static RedisChatDataStore store;
+
+    @BeforeAll
+    static void setUp() {
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+        store = new RedisChatDataStore(redissonClient);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("getAll/setAll/deleteAll 은 여러 키를 한 번에 처리하고 없는 키는 결과에서 빠진다")
+    void multiKeyOperations() {
+        String first = key();
+        String second = key();
+        SocketUser user1 = user("user-1", "s1");
+        SocketUser user2 = user("user-2", "s2");
+
+        store.setAll(Map.of(first, user1, second, user2));
+
+        assertThat(store.getAll(List.of(first, second, key()), SocketUser.class))
+                .containsOnly(Map.entry(first, user1), Map.entry(second, user2));
+
+        store.deleteAll(List.of(first, second));
+
+        assertThat(store.getAll(List.of(first, second), SocketUser.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 getAndSet 은 이전 값을 돌려주고 새 값을 저장한다")
+    void batch_GetAndSet_ReturnsPrevious() {
+        String key = key();
+        SocketUser previous = user("user-1", "s1");
+        SocketUser current = user("user-1", "s2");
+        store.set(key, previous);
+
+        AtomicReference<Supplier<Optional<SocketUser>>> result = new AtomicReference<>();
+        AtomicReference<Supplier<Optional<SocketUser>>> missing = new AtomicReference<>();
+        store.batch(batch -> {
+            result.set(batch.getAndSet(key, current));
+            missing.set(batch.getAndSet(key(), current));
+        });
+
+        assertThat(result.get().get()).contains(previous);
+        assertThat(missing.get().get()).isEmpty();
+        assertThat(store.get(key, SocketUser.class)).contains(current);
+    }
+
+    @Test
+    @DisplayName("배치 sMembers 는 없는 키에 빈 집합을 돌려준다")
+    void batch_SMembers_MissingKey_ReturnsEmpty() {
+        AtomicReference<Supplier<Set<String>>> members = new AtomicReference<>();
+
+        store.batch(batch -> members.set(batch.sMembers(key())));
+
+        assertThat(members.get().get()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteIfEquals 는 저장된 값과 같을 때만 삭제한다")
+    void batch_DeleteIfEquals() {
+        String matching = key();
+        String replaced = key();
+        SocketUser stale = user("user-1", "s1");
+        SocketUser newer = user("user-1", "s2");
+        store.set(matching, stale);
+        store.set(replaced, newer);
+
+        AtomicReference<Supplier<Boolean>> deleted = new AtomicReference<>();
+        AtomicReference<Supplier<Boolean>> kept = new AtomicReference<>();
+        store.batch(batch -> {
+            deleted.set(batch.deleteIfEquals(matching, stale));
+            kept.set(batch.deleteIfEquals(replaced, stale));
+        });
+
+        assertThat(deleted.get().get()).isTrue();
+        assertThat(store.get(matching, SocketUser.class)).isEmpty();
+        assertThat(kept.get().get()).isFalse();
+        assertThat(store.get(replaced, SocketUser.class)).contains(newer);
+    }
+
+    @Test
+    @DisplayName("배치 결과는 실행이 끝난 뒤 읽으며 같은 배치의 앞선 쓰기를 반영한다")
+    void batch_SuppliersResolveAfterFlush() {
+        String key = key();
+        String setKey = key();
+        SocketUser user = user("user-1", "s1");
+
+        AtomicReference<Supplier<Optional<SocketUser>>> value = new AtomicReference<>();
+        AtomicReference<Supplier<Set<String>>> members = new AtomicReference<>();
+        store.batch(batch -> {
+            batch.set(key, user);
+            batch.sAdd(setKey, "room-1");
+            batch.sAdd(setKey, "room-2");
+            batch.sRem(setKey, "room-1");
+            value.set(batch.get(key, SocketUser.class));
+            members.set(batch.sMembers(setKey));
+        });
+
+        assertThat(value.get().get()).contains(user);
+        assertThat(members.get().get()).containsExactly("room-2");
+    }
+
+    @Test
+    @DisplayName("sAdd/sRem 은 집합이 실제로 바뀌었는지를 돌려준다")
+    void setOperations_ReturnValues() {
+        String key = key();
+
+        assertThat(store.sAdd(key, "room-1")).isTrue();
+        assertThat(store.sAdd(key, "room-1")).isFalse();
+        assertThat(store.sIsMember(key, "room-1")).isTrue();
+        assertThat(store.sIsMember(key, "room-2")).isFalse();
+
+        assertThat(store.sRem(key, "room-2")).isFalse();
+        assertThat(store.sRem(key, "room-1")).isTrue();
+        assertThat(store.sRem(key(), "room-1")).isFalse();
+        assertThat(redissonClient.getKeys().countExists(key)).isZero();
+    }
+
+    @Test
+    @DisplayName("UserRooms 는 userroom:set: 키의 Redis 집합으로 멤버십을 관리한다")
+    void userRooms_Membership() {
+        UserRooms userRooms = new UserRooms(store);
+        String userId = "user-" + UUID.randomUUID();
+
+        userRooms.add(userId, "room-1");
+        userRooms.add(userId, "room-2");
+        userRooms.remove(userId, "room-1");
+
+        assertThat(redissonClient.<String>getSet("userroom:set:" + userId, StringCodec.INSTANCE).readAll())
+                .containsExactly("room-2");
+        assertThat(userRooms.isInRoom(userId, "room-2")).isTrue();
+        assertThat(userRooms.isInRoom(userId, "room-1")).isFalse();
+        assertThat(userRooms.get(userId)).containsExactly("room-2");
+
+        userRooms.clear(userId);
+
+        assertThat(userRooms.get(userId)).isEmpty();
+        assertThat(redissonClient.getKeys().countExists("userroom:set:" + userId)).isZero();
+    }
+
+    private static SocketUser user(String userId, String socketId) {
+        return new SocketUser(userId, "name", "session", socketId);
+    }
+
+    private static String key() {
+        return "test:" + UUID.randomUUID();
+    }
+}
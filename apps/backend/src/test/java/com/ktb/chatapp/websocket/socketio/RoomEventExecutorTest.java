@@ -0,0 +1,117 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.AckRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RoomEventExecutor 테스트")
+class RoomEventExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomEventExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new RoomEventExecutor(meterRegistry, 8, 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 방의 이벤트는 제출 순서대로 실행된다")
+    void execute_PreservesOrderPerRoom() throws InterruptedException {
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            executor.execute("room-1", () -> {
+                executed.add(sequence);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isSorted().hasSize(100);
+        assertThat(meterRegistry.get("socketio.executor.wait.time").timers())
+                .anySatisfy(timer -> assertThat(timer.count()).isEqualTo(100));
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 lane은 다음 이벤트를 계속 처리한다")
+    void execute_ContinuesAfterFailure() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute("room-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute("room-1", done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업이 성공한 경우에만 빈 ack를 보낸다")
+    void execute_AcksOnlyOnSuccess() {
+        AckRequest success = mock(AckRequest.class);
+        AckRequest failure = mock(AckRequest.class);
+        when(success.isAckRequested()).thenReturn(true);
+        when(failure.isAckRequested()).thenReturn(true);
+
+        executor.execute("room-1", failure, () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute("room-1", success, () -> { });
+
+        verify(success, timeout(5000)).sendAckData(Collections.emptyList());
+        verify(failure, never()).sendAckData(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("lane 대기열이 가득 차면 예외 대신 SERVER_BUSY 오류 ack를 보낸다")
+    void execute_LaneFull_SendsBusyAck() throws InterruptedException {
+        RoomEventExecutor full = new RoomEventExecutor(meterRegistry, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AckRequest ackRequest = mock(AckRequest.class);
+        when(ackRequest.isAckRequested()).thenReturn(true);
+        try {
+            full.execute("room-1", () -> awaitQuietly(release));
+            full.execute("room-1", () -> { });
+
+            full.execute("room-1", ackRequest, () -> { });
+
+            verify(ackRequest).sendAckData(RoomEventExecutor.busyError());
+            assertThat(meterRegistry.get("socketio.executor.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            full.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
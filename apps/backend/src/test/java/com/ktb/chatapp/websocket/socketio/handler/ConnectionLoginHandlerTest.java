@@ -0,0 +1,109 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.websocket.socketio.ChatDataStore;
+import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.PresenceCounter;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionLoginHandler 테스트")
+class ConnectionLoginHandlerTest {
+
+    private static final SocketUser USER = new SocketUser("user-1", "tester", "session-1", "socket-1");
+    private static final UUID SESSION_ID = UUID.randomUUID();
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private ChatDataStore chatDataStore;
+
+    @Mock
+    private ConnectedUsers connectedUsers;
+
+    @Mock
+    private UserRooms userRooms;
+
+    @Mock
+    private RoomJoinHandler roomJoinHandler;
+
+    @Mock
+    private RoomLeaveHandler roomLeaveHandler;
+
+    @Mock
+    private PresenceCounter presenceCounter;
+
+    @Mock
+    private SocketIOClient client;
+
+    @Mock
+    private ChatDataStore.Batch batch;
+
+    @InjectMocks
+    private ConnectionLoginHandler handler;
+
+    @Test
+    @DisplayName("퇴장 작업이 lane에서 거절되어도 나머지 방과 연결 정리는 계속한다")
+    void onDisconnect_LaneRejected_ContinuesCleanup() {
+        when(client.get("user")).thenReturn(USER);
+        when(client.getSessionId()).thenReturn(SESSION_ID);
+        doAnswer(invocation -> {
+            invocation.<Consumer<ChatDataStore.Batch>>getArgument(0).accept(batch);
+            return null;
+        }).when(chatDataStore).batch(any());
+        when(userRooms.get(batch, "user-1")).thenReturn(() -> new LinkedHashSet<>(List.of("room-1", "room-2")));
+        when(connectedUsers.delIfCurrent(batch, USER)).thenReturn(() -> true);
+        doThrow(new RejectedExecutionException("full"))
+                .when(roomLeaveHandler).leaveRoomOnDisconnect(client, USER, "room-1");
+
+        handler.onDisconnect(client);
+
+        verify(roomLeaveHandler).leaveRoomOnDisconnect(client, USER, "room-2");
+        verify(presenceCounter).disconnected("user-1", SESSION_ID.toString());
+        verify(client).leaveRooms(Set.of("user:user-1", "room-list"));
+        verify(client).disconnect();
+    }
+
+    @Test
+    @DisplayName("재입장 작업이 lane에서 거절되어도 나머지 방과 연결 처리는 계속한다")
+    void onConnect_LaneRejected_ContinuesConnect() {
+        when(client.getSessionId()).thenReturn(SESSION_ID);
+        doAnswer(invocation -> {
+            invocation.<Consumer<ChatDataStore.Batch>>getArgument(0).accept(batch);
+            return null;
+        }).when(chatDataStore).batch(any());
+        when(connectedUsers.getAndSet(batch, USER)).thenReturn(Optional::empty);
+        when(userRooms.get(batch, "user-1")).thenReturn(() -> new LinkedHashSet<>(List.of("room-1", "room-2")));
+        doThrow(new RejectedExecutionException("full")).when(roomJoinHandler).rejoinRoom(client, "room-1");
+
+        handler.onConnect(client, USER);
+
+        verify(roomJoinHandler).rejoinRoom(client, "room-2");
+        verify(client).sendEvent(eq("error"), any(Object.class));
+        verify(presenceCounter).connected("user-1", SESSION_ID.toString());
+        verify(client).joinRooms(Set.of("user:user-1", "room-list"));
+    }
+}
@@ -1,12 +1,297 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.ktb.chatapp.dto.FetchMessagesRequest;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.ReadCursor;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.S3FileService;
+import com.ktb.chatapp.service.message.MessageBucketStore;
+import com.ktb.chatapp.service.message.RecentMessageCache;
+import com.ktb.chatapp.service.message.RedisRoomTail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
+@DisplayName("MessageLoader 테스트")
 class MessageLoaderTest {
-    
 
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MessageReadStatusService messageReadStatusService;
+
+    @Mock
+    private S3FileService s3FileService;
+
+    @Mock
+    private RecentMessageCache recentMessageCache;
+
+    @Mock
+    private RedisRoomTail redisRoomTail;
+
+    @Mock
+    private MessageBucketStore messageBucketStore;
+
+    private MessageLoader messageLoader;
+
+    @BeforeEach
+    void setUp() {
+        messageLoader = new MessageLoader(messageRepository, userRepository,
+                new MessageResponseMapper(s3FileService), messageReadStatusService, recentMessageCache,
+                redisRoomTail, messageBucketStore, new SimpleMeterRegistry());
+        // 저장소는 최신순으로 반환한다
+        lenient().when(messageRepository.findHistorySliceBefore(eq("room-1"), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(message("m2", T0.plusSeconds(1)), message("m1", T0))));
+        lenient().when(userRepository.findAllById(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("한 번의 조회와 한 번의 읽음 쓰기로 페이지를 만들고 집계한 readCount 에 본인 읽음을 더한다")
+    void loadMessages_SinglePassWithReadStatePatched() {
+        when(messageReadStatusService.findCursor("room-1", "user-1")).thenReturn(cursor("user-1", T0));
+        when(messageReadStatusService.countReaders("room-1", List.of(millis(T0), millis(T0.plusSeconds(1)))))
+                .thenReturn(Map.of(millis(T0), 1, millis(T0.plusSeconds(1)), 0));
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 30, null), "user-1");
+
+        verify(messageRepository, times(1))
+                .findHistorySliceBefore(anyString(), any(), any());
+        verify(messageReadStatusService).markAsRead(
+                argThat(message -> message.getId().equals("m2")), eq("user-1"));
+        assertThat(response.getNewlyReadMessageIds()).containsExactly("m2");
+        assertThat(response.getMessages()).allSatisfy(message -> {
+            assertThat(message.getReaders()).isNull();
+            assertThat(message.getReadCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("이미 읽은 페이지는 읽음 위치를 쓰지 않는다")
+    void loadMessages_AlreadyRead_NoWrite() {
+        when(messageReadStatusService.findCursor("room-1", "user-1"))
+                .thenReturn(cursor("user-1", T0.plusSeconds(5)));
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 30, null), "user-1");
+
+        verify(messageReadStatusService, never()).markAsRead(any(), anyString());
+        assertThat(response.getNewlyReadMessageIds()).isEmpty();
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly("m1", "m2");
+    }
+
+    @Test
+    @DisplayName("최신 페이지가 최근 메시지 버퍼에 있으면 MongoDB 를 조회하지 않는다")
+    void loadMessages_FirstPageFromRecentCache() {
+        MessageResponse cached = MessageResponse.builder()
+                .id("m3")
+                .roomId("room-1")
+                .timestamp(T0.plusSeconds(2).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
+        when(recentMessageCache.firstPage("room-1", 30))
+                .thenReturn(new RecentMessageCache.RecentPage(List.of(cached), false));
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 30, null), "user-1");
+
+        verify(messageRepository, never())
+                .findHistorySliceBefore(anyString(), any(), any());
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly("m3");
+        assertThat(response.getMessages().getFirst().getReadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최신 페이지를 MongoDB 에서 읽으면 공유 tail 과 최근 메시지 버퍼를 채운다")
+    void loadMessages_FirstPageMiss_PrimesRecentCache() {
+
+        messageLoader.loadMessages(new FetchMessagesRequest("room-1", 30, null), "user-1");
+
+        verify(recentMessageCache).beginLoad("room-1");
+        verify(redisRoomTail).prime(eq("room-1"),
+                argThat(messages -> messages.stream().map(MessageResponse::getId).toList().equals(List.of("m1", "m2"))),
+                eq(false));
+        verify(recentMessageCache).prime(eq("room-1"),
+                argThat(messages -> messages.stream().map(MessageResponse::getId).toList().equals(List.of("m1", "m2"))),
+                eq(false));
+    }
+
+    @Test
+    @DisplayName("노드 버퍼에 없는 최신 페이지는 공유 tail 에서 읽고 MongoDB 를 조회하지 않는다")
+    void loadMessages_FirstPageFromRedisTail() {
+        MessageResponse shared = MessageResponse.builder()
+                .id("m9")
+                .roomId("room-1")
+                .timestamp(T0.plusSeconds(9).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
+        when(redisRoomTail.firstPage("room-1", 30))
+                .thenReturn(new RecentMessageCache.RecentPage(new ArrayList<>(List.of(shared)), true));
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 30, null), "user-1");
+
+        verify(messageRepository, never())
+                .findHistorySliceBefore(anyString(), any(), any());
+        verify(recentMessageCache).prime(eq("room-1"), argThat(messages -> messages.size() == 1), eq(true));
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly("m9");
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 (timestamp, _id) 기준으로 이어서 조회하고 다음 커서를 돌려준다")
+    void loadMessages_WithCursor_SeeksByTimestampAndId() {
+        ObjectId lastSeen = new ObjectId();
+        String older = new ObjectId().toHexString();
+        long seenMillis = T0.plusSeconds(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        when(messageRepository.findSliceBeforeCursor(
+                eq("room-1"), eq(T0.plusSeconds(1)), eq(lastSeen), any()))
+                .thenReturn(new SliceImpl<>(List.of(message(older, T0.plusSeconds(1))), PageRequest.of(0, 1), true));
+
+        String cursor = new MessageCursor(seenMillis, lastSeen.toHexString()).encode();
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 1, null, cursor), "user-1");
+
+        verify(messageRepository, never())
+                .findHistorySliceBefore(anyString(), any(), any());
+        verify(recentMessageCache, never()).firstPage(anyString(), anyInt());
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly(older);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(MessageCursor.decode(response.getNextCursor()))
+                .isEqualTo(new MessageCursor(seenMillis, older));
+    }
+
+    @Test
+    @DisplayName("REST 히스토리 조회는 읽음 위치를 전진시키지 않는다")
+    void loadHistory_DoesNotMarkRead() {
+        when(messageReadStatusService.countReaders(eq("room-1"), any()))
+                .thenReturn(Map.of(millis(T0), 1, millis(T0.plusSeconds(1)), 0));
+
+        FetchMessagesResponse response = messageLoader.loadHistory(new FetchMessagesRequest("room-1", 30, null));
+
+        verify(messageReadStatusService, never()).markAsRead(any(), anyString());
+        verify(messageReadStatusService, never()).findCursor(anyString(), anyString());
+        assertThat(response.getNewlyReadMessageIds()).isEmpty();
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly("m1", "m2");
+        assertThat(response.getMessages()).extracting(MessageResponse::getReadCount).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("hot 컬렉션에서 페이지를 채우지 못하면 가장 오래된 메시지 이전부터 버킷에서 이어서 읽는다")
+    void loadMessages_FallsBackToBuckets() {
+        when(messageBucketStore.watermark("room-1")).thenReturn(new MessageCursor(millis(T0.minusDays(40)), "c2"));
+        when(messageBucketStore.streamBefore("room-1", new MessageCursor(millis(T0), "m1")))
+                .thenReturn(Stream.of(message("c2", T0.minusDays(40)), message("c1", T0.minusDays(41))));
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 3, millis(T0.plusSeconds(10))), "user-1");
+
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly("c2", "m1", "m2");
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getNextCursor())
+                .isEqualTo(new MessageCursor(millis(T0.minusDays(40)), "c2").encode());
+    }
+
+    @Test
+    @DisplayName("cold storage 경계가 없는 채팅방은 버킷을 읽지 않는다")
+    void loadMessages_NoWatermark_SkipsBuckets() {
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 3, millis(T0.plusSeconds(10))), "user-1");
+
+        verify(messageBucketStore).watermark("room-1");
+        verify(messageBucketStore, never()).streamBefore(anyString(), any());
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly("m1", "m2");
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차고 cold storage 대상보다 최신이면 경계를 조회하지 않는다")
+    void loadMessages_FullRecentPage_SkipsWatermark() {
+        when(messageRepository.findHistorySliceBefore(eq("room-1"), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(message("m2", T0.plusSeconds(1))), PageRequest.of(0, 1), true));
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 1, millis(T0.plusSeconds(10))), "user-1");
+
+        verify(messageBucketStore, never()).watermark(anyString());
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("경계 이하의 hot 사본은 버리고 버킷에서 읽는다")
+    void loadMessages_LeftoverHotCopies_ReadFromBuckets() {
+        when(messageRepository.findHistorySliceBefore(eq("room-1"), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(message("m2", T0.plusSeconds(1)), message("m1", T0)),
+                        PageRequest.of(0, 2), true));
+        when(messageBucketStore.mayHaveColdBefore(any())).thenReturn(true);
+        when(messageBucketStore.watermark("room-1")).thenReturn(new MessageCursor(millis(T0), "m1"));
+        when(messageBucketStore.streamBefore("room-1", new MessageCursor(millis(T0.plusSeconds(1)), "m2")))
+                .thenReturn(Stream.of(message("m1", T0), message("c1", T0.minusDays(1))));
+
+        FetchMessagesResponse response = messageLoader.loadMessages(
+                new FetchMessagesRequest("room-1", 2, millis(T0.plusSeconds(10))), "user-1");
+
+        assertThat(response.getMessages()).extracting(MessageResponse::getId).containsExactly("m1", "m2");
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Message message(String id, LocalDateTime timestamp) {
+        return Message.builder()
+                .id(id)
+                .roomId("room-1")
+                .content("hello")
+                .type(MessageType.text)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static ReadCursor cursor(String userId, LocalDateTime lastReadTimestamp) {
+        return ReadCursor.builder()
+                .roomId("room-1")
+                .userId(userId)
+                .lastReadTimestamp(lastReadTimestamp)
+                .readAt(lastReadTimestamp)
+                .build();
+    }
 }
@@ -0,0 +1,125 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.AckRequest;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.dto.FetchMessageReadersRequest;
+import com.ktb.chatapp.dto.MessageReaderResponse;
+import com.ktb.chatapp.dto.MessageReadersResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.room.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.ReadReceiptAggregator;
+import com.ktb.chatapp.websocket.socketio.RoomEventExecutor;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ERROR;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE_READERS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageReadHandler 읽은 사용자 조회 테스트")
+class MessageReadHandlerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private ReadReceiptAggregator readReceiptAggregator;
+
+    @Mock
+    private MessageReadStatusService messageReadStatusService;
+
+    @Mock
+    private RoomMembershipCache roomMembershipCache;
+
+    @Mock
+    private RoomEventExecutor roomEventExecutor;
+
+    @Mock
+    private SocketIOClient client;
+
+    @Mock
+    private AckRequest ackRequest;
+
+    @InjectMocks
+    private MessageReadHandler handler;
+
+    private final Message message = Message.builder()
+            .id("m1")
+            .roomId("room-1")
+            .timestamp(T0)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        // lane 대신 호출 스레드에서 바로 실행한다
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(roomEventExecutor).execute(any(), any(AckRequest.class), any(Runnable.class));
+        lenient().when(client.getSessionId()).thenReturn(UUID.randomUUID());
+        lenient().when(client.get("user")).thenReturn(new SocketUser("user-1", "tester", "session-1", "socket-1"));
+    }
+
+    @Test
+    @DisplayName("참여자에게 메시지를 읽은 사용자 목록을 보낸다")
+    void handleFetchReaders_SendsReaders() {
+        List<MessageReaderResponse> readers = List.of(new MessageReaderResponse("user-2", T0.plusMinutes(1)));
+        when(messageReadStatusService.findMessages(List.of("m1"))).thenReturn(List.of(message));
+        when(roomMembershipCache.isMember("room-1", "user-1")).thenReturn(true);
+        when(messageReadStatusService.findReaders(message)).thenReturn(readers);
+
+        handler.handleFetchReaders(client, new FetchMessageReadersRequest("m1"), ackRequest);
+
+        verify(client).sendEvent(MESSAGE_READERS, new MessageReadersResponse("m1", readers));
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 목록을 조회하지 않고 오류를 보낸다")
+    void handleFetchReaders_NotMember_Denied() {
+        when(messageReadStatusService.findMessages(List.of("m1"))).thenReturn(List.of(message));
+        when(roomMembershipCache.isMember("room-1", "user-1")).thenReturn(false);
+
+        handler.handleFetchReaders(client, new FetchMessageReadersRequest("m1"), ackRequest);
+
+        verify(messageReadStatusService, never()).findReaders(any());
+        verify(client).sendEvent(ERROR, Map.of("message", "Room access denied"));
+    }
+
+    @Test
+    @DisplayName("메시지가 없으면 오류를 보낸다")
+    void handleFetchReaders_MessageNotFound() {
+        when(messageReadStatusService.findMessages(List.of("m1"))).thenReturn(List.of());
+
+        handler.handleFetchReaders(client, new FetchMessageReadersRequest("m1"), ackRequest);
+
+        verify(client).sendEvent(ERROR, Map.of("message", "Message not found"));
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 연결은 조회하지 않는다")
+    void handleFetchReaders_Unauthorized() {
+        when(client.get("user")).thenReturn(null);
+
+        handler.handleFetchReaders(client, new FetchMessageReadersRequest("m1"), ackRequest);
+
+        verify(messageReadStatusService, never()).findMessages(any());
+        verify(client).sendEvent(eq(ERROR), eq(Map.of("message", "Unauthorized")));
+    }
+}
@@ -0,0 +1,56 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.service.S3FileService;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageResponseMapper 읽음 상태 테스트")
+class MessageResponseMapperTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private S3FileService s3FileService;
+
+    @Test
+    @DisplayName("읽은 사용자 수를 설정하고 읽은 사용자 목록은 응답에서 제외한다")
+    void applyReadCount_SetsCountWithoutReaders() {
+        MessageResponseMapper mapper = new MessageResponseMapper(s3FileService);
+
+        MessageResponse response = mapper.mapToMessageResponse(message("m2", T0.plusSeconds(10)), null);
+        mapper.applyReadCount(response, 2);
+
+        assertThat(response.getReadCount()).isEqualTo(2);
+        assertThat(response.getReaders()).isNull();
+    }
+
+    @Test
+    @DisplayName("읽음 위치를 적용하기 전에는 읽은 사용자가 비어 있다")
+    void mapToMessageResponse_WithoutCursors_NoReaders() {
+        MessageResponseMapper mapper = new MessageResponseMapper(s3FileService);
+
+        MessageResponse response = mapper.mapToMessageResponse(message("m1", T0), null);
+
+        assertThat(response.getReaders()).isEmpty();
+    }
+
+    private static Message message(String id, LocalDateTime timestamp) {
+        return Message.builder()
+                .id(id)
+                .roomId("room-1")
+                .content("hello")
+                .type(MessageType.text)
+                .timestamp(timestamp)
+                .build();
+    }
+}
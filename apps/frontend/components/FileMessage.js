@@ -262,7 +262,9 @@ const FileMessage = ({
                             messageType={msg.type}
                             participants={room?.participants || []}
                             readers={msg.readers || []}
+                            readCount={msg.readCount ?? null}
                             messageId={msg._id}
+                            roomId={msg.room}
                             messageRef={messageDomRef}
                             currentUserId={currentUser?._id || currentUser?.id}
                             socketRef={socketRef}
@@ -6,9 +6,11 @@ const ReadStatus = ({
   messageType = 'text',
   participants = [],
   readers = [],
+  readCount = null, // 페이지로 불러온 메시지의 읽은 사용자 수 (본인 포함)
   className = '',
   socketRef = null,
   messageId = null,
+  roomId = null,
   messageRef = null, // 메시지 요소의 ref 추가
   currentUserId = null // 현재 사용자 ID 추가
 }) => {
@@ -33,8 +35,13 @@ const ReadStatus = ({
     if (messageType === 'system') {
       return 0;
     }
+    if (typeof readCount === 'number') {
+      // readCount 에는 본인 읽음이 포함되어 있으므로 이후 실시간으로 읽은 다른 사용자만 더한다
+      const laterReaders = readers.filter(reader => reader.userId !== currentUserId).length;
+      return Math.max(0, participants.length - readCount - laterReaders);
+    }
     return unreadParticipants.length;
-  }, [unreadParticipants.length, messageType]);
+  }, [unreadParticipants.length, messageType, readCount, readers, currentUserId, participants.length]);
 
   // 메시지를 읽음으로 표시하는 함수
   const markMessageAsRead = useCallback(async () => {
@@ -46,6 +53,7 @@ const ReadStatus = ({
     try {
       // Socket.IO를 통해 서버에 읽음 상태 전송
       socketRef.current.emit('markMessagesAsRead', {
+        roomId,
         messageIds: [messageId]
       });
 
@@ -54,7 +62,7 @@ const ReadStatus = ({
     } catch (error) {
       console.error('Error marking message as read:', error);
     }
-  }, [messageId, currentUserId, hasMarkedAsRead, messageType, socketRef]);
+  }, [messageId, roomId, currentUserId, hasMarkedAsRead, messageType, socketRef]);
 
   // Intersection Observer 설정
   useEffect(() => {
@@ -62,8 +70,8 @@ const ReadStatus = ({
       return;
     }
 
-    // 이미 읽은 메시지인지 확인
-    const isAlreadyRead = readers.some(reader => 
+    // 이미 읽은 메시지인지 확인 (페이지로 불러온 메시지는 불러올 때 읽음 처리된다)
+    const isAlreadyRead = typeof readCount === 'number' || readers.some(reader => 
       reader.userId === currentUserId
     );
 
@@ -94,7 +102,7 @@ const ReadStatus = ({
         observerRef.current.disconnect();
       }
     };
-  }, [messageRef, currentUserId, hasMarkedAsRead, messageType, readers, markMessageAsRead]);
+  }, [messageRef, currentUserId, hasMarkedAsRead, messageType, readers, readCount, markMessageAsRead]);
 
   // 시스템 메시지는 읽음 상태 표시 안 함
   if (messageType === 'system') {
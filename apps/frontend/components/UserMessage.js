@@ -82,7 +82,9 @@ const UserMessage = ({
               messageType={msg.type}
               participants={room?.participants || []}
               readers={msg.readers || []}
+              readCount={msg.readCount ?? null}
               messageId={msg._id}
+              roomId={msg.room}
               messageRef={messageDomRef}
               currentUserId={currentUser?._id || currentUser?.id}
               socketRef={socketRef}
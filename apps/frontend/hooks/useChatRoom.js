@@ -45,6 +45,8 @@ export const useChatRoom = () => {
   const messageProcessingRef = useRef(false);
   const initialLoadCompletedRef = useRef(false);
   const processedMessageIds = useRef(new Set());
+  // 다음 이전 메시지 요청에 보낼 서버 커서
+  const nextCursorRef = useRef(null);
   const loadMoreTimeoutRef = useRef(null);
 
   // Socket handling setup
@@ -80,7 +82,7 @@ export const useChatRoom = () => {
     getFilteredParticipants,
     insertMention,
     removeFilePreview
-  } = useMessageHandling(socketRef, currentUser, router, undefined, messages, loadingMessages, setLoadingMessages);
+  } = useMessageHandling(socketRef, currentUser, router, undefined, messages, loadingMessages, setLoadingMessages, nextCursorRef);
 
   // Cleanup 함수 수정
   const cleanup = useCallback((reason = 'MANUAL') => {
@@ -118,6 +120,7 @@ export const useChatRoom = () => {
 
       // Reset refs
       processedMessageIds.current.clear();
+      nextCursorRef.current = null;
       previousMessagesRef.current.clear();
       messageProcessingRef.current = false;
 
@@ -167,7 +170,7 @@ export const useChatRoom = () => {
   } = useReactionHandling(socketRef, currentUser, messages, setMessages);
 
   // 메시지 처리 유틸리티 함수
-  const processMessages = useCallback((loadedMessages, hasMore, isInitialLoad = false) => {
+  const processMessages = useCallback((loadedMessages, hasMore, isInitialLoad = false, nextCursor = null) => {
     try {
         console.log(loadedMessages);
         console.log("processMessages");
@@ -182,6 +185,10 @@ export const useChatRoom = () => {
           if (processedMessageIds.current.has(msg._id)) return false;
           processedMessageIds.current.add(msg._id);
           return true;
+        }).map(msg => {
+          // 페이지 응답은 readers 대신 readCount 만 보낸다. readers 에는 이후 실시간으로 읽은 사용자만 쌓인다
+          if (msg.readers) return msg;
+          return { ...msg, readers: [] };
         });
 
         // 기존 메시지와 새 메시지 결합 및 정렬
@@ -195,6 +202,8 @@ export const useChatRoom = () => {
         return Array.from(messageMap.values());
       });
 
+      nextCursorRef.current = hasMore ? nextCursor : null;
+
       // 메시지 로드 상태 업데이트
       if (isInitialLoad) {
         setHasMoreMessages(hasMore);
@@ -222,28 +231,33 @@ export const useChatRoom = () => {
     });
 
     // 읽음 상태 업데이트 이벤트 (메시지 목록의 readers 배열 업데이트)
-    socketRef.current.on('messagesRead', ({ userId, messageIds, timestamp }) => {
-      if (!mountedRef.current) return;
+    // 서버는 방별 읽음 처리를 모아 { reads: [{ userId, messageIds }] } 형태로 한 번에 보낼 수 있다
+    socketRef.current.on('messagesRead', (payload) => {
+      if (!mountedRef.current || !payload) return;
+
+      const reads = payload.reads || [payload];
+      const readAt = payload.timestamp || new Date();
 
       setMessages(prev => prev.map(msg => {
-        // 해당 메시지가 읽음 처리된 메시지인지 확인
-        if (messageIds.includes(msg._id)) {
+        let readers = msg.readers || [];
+        let changed = false;
+
+        reads.forEach(({ userId, messageIds }) => {
+          // 해당 메시지가 읽음 처리된 메시지인지 확인
+          if (!messageIds?.includes(msg._id)) return;
+
           // 이미 읽은 사용자인지 확인
-          const alreadyRead = msg.readers?.some(reader => 
+          const alreadyRead = readers.some(reader =>
             reader.userId === userId || reader._id === userId
           );
-          
+
           if (!alreadyRead) {
-            return {
-              ...msg,
-              readers: [
-                ...(msg.readers || []),
-                { userId, readAt: timestamp || new Date() }
-              ]
-            };
+            readers = [...readers, { userId, readAt }];
+            changed = true;
           }
-        }
-        return msg;
+        });
+
+        return changed ? { ...msg, readers } : msg;
       }));
     });
 
@@ -279,10 +293,10 @@ export const useChatRoom = () => {
           throw new Error('Invalid response format');
         }
 
-        const { messages: loadedMessages = [], hasMore } = response;
+        const { messages: loadedMessages = [], hasMore, nextCursor } = response;
         const isInitialLoad = messages.length === 0;
 
-        processMessages(loadedMessages, hasMore, isInitialLoad);
+        processMessages(loadedMessages, hasMore, isInitialLoad, nextCursor);
         setLoadingMessages(false);
 
       } catch (error) {
@@ -2,7 +2,7 @@ import { useState, useCallback } from 'react';
 import { Toast } from '../components/Toast';
 import fileService from '../services/fileService';
 
-export const useMessageHandling = (socketRef, currentUser, router, handleSessionError, messages = [], loadingMessages = false, setLoadingMessages) => {
+export const useMessageHandling = (socketRef, currentUser, router, handleSessionError, messages = [], loadingMessages = false, setLoadingMessages, nextCursorRef) => {
     const [message, setMessage] = useState('');
     const [showEmojiPicker, setShowEmojiPicker] = useState(false);
     const [showMentionList, setShowMentionList] = useState(false);
@@ -57,10 +57,11 @@ export const useMessageHandling = (socketRef, currentUser, router, handleSession
 
         socketRef.current.emit('fetchPreviousMessages', {
             roomId: router?.query?.room,
+            cursor: nextCursorRef?.current,
             before: beforeTimestamp,
             limit: 30
         });
-    }, [socketRef, router?.query?.room, loadingMessages, messages, setLoadingMessages]);
+    }, [socketRef, router?.query?.room, loadingMessages, messages, setLoadingMessages, nextCursorRef]);
 
     const handleMessageSubmit = useCallback(async (messageData) => {
         if (!socketRef.current?.connected || !currentUser) {
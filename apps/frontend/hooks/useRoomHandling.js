@@ -277,7 +277,7 @@ export const useRoomHandling = (
             return;
           }
 
-          processMessages(response.messages, response.hasMore, true);
+          processMessages(response.messages, response.hasMore, true, response.nextCursor);
           resolve(response);
         };
 